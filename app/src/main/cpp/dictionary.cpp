@@ -16,16 +16,17 @@
 */
 
 #include <stdio.h>
+#include <stdlib.h>
 #include <fcntl.h>
 #include <sys/mman.h>
 #include <string.h>
+#include <limits.h>
 //#define LOG_TAG "dictionary.cpp"
 //#include <cutils/log.h>
 #define LOGI
 
 #include "dictionary.h"
-#include "basechars.h"
-#include "char_utils.h"
+#include "case_fold_table.h"
 
 #define DEBUG_DICT 0
 #define DICTIONARY_VERSION_MIN 200
@@ -40,11 +41,60 @@ Dictionary::Dictionary(void *dict, int typedLetterMultiplier, int fullWordMultip
     mTypedLetterMultiplier = typedLetterMultiplier;
     mFullWordMultiplier = fullWordMultiplier;
     mDictSize = size;
+    mAsset = NULL;
+    mShared = NULL;
+    mPrefixLevels = 0;
+    mPrefixStateCount = 0;
+    mTargetAddresses = NULL;
+    mTargetWordStarts = NULL;
+    mTargetWordLengths = NULL;
+    mTargetChars = NULL;
+    mTargetCount = 0;
+    mTargetCharCount = 0;
+    mTargetCharCapacity = 0;
+    mTargetIndexLoaded = false;
+    pthread_mutex_init(&mTargetIndexLock, NULL);
     getVersionNumber();
 }
 
+Dictionary::Dictionary(Dictionary *shared)
+{
+    mDict = shared->mDict;
+    mTypedLetterMultiplier = shared->mTypedLetterMultiplier;
+    mFullWordMultiplier = shared->mFullWordMultiplier;
+    mDictSize = shared->mDictSize;
+    mAsset = NULL;
+    mShared = shared;
+    mPrefixLevels = 0;
+    mPrefixStateCount = 0;
+
+    mVersion = shared->mVersion;
+    mBigram = shared->mBigram;
+    mHasSubtreeStats = shared->mHasSubtreeStats;
+    mIsV3 = shared->mIsV3;
+    mRoot = shared->mRoot;
+    mBigramIndex = shared->mBigramIndex;
+    mBigramIndexCount = shared->mBigramIndexCount;
+    mTargetTable = shared->mTargetTable;
+    mTargetTableCount = shared->mTargetTableCount;
+
+    // Copied from the shared dictionary by loadBigramTargetIndex().
+    mTargetAddresses = NULL;
+    mTargetWordStarts = NULL;
+    mTargetWordLengths = NULL;
+    mTargetChars = NULL;
+    mTargetCount = 0;
+    mTargetCharCount = 0;
+    mTargetCharCapacity = 0;
+    mTargetIndexLoaded = false;
+}
+
 Dictionary::~Dictionary()
 {
+    if (mShared == NULL) {
+        freeBigramTargetIndex();
+        pthread_mutex_destroy(&mTargetIndexLock);
+    }
 }
 
 int Dictionary::getSuggestions(int *codes, int codesSize, unsigned short *outWords, int *frequencies,
@@ -64,10 +114,10 @@ int Dictionary::getSuggestions(int *codes, int codesSize, unsigned short *outWor
     mNextLettersFrequencies = nextLetters;
     mNextLettersSize = nextLettersSize;
 
-    if (checkIfDictVersionIsLatest()) {
-        getWordsRec(DICTIONARY_HEADER_SIZE, 0, mInputLength * 3, false, 1, 0, 0);
-    } else {
-        getWordsRec(0, 0, mInputLength * 3, false, 1, 0, 0);
+    if (mRoot < 0) return 0;
+    // Searches that skip a position are rare retries, they always start from the root.
+    if (mSkipPos >= 0 || !getWordsIncremental(mRoot, mInputLength * 3)) {
+        getWordsRec(mRoot, 0, mInputLength * 3, false, 1, 0, 0);
     }
 
     // Get the word count
@@ -98,11 +148,60 @@ Dictionary::registerNextLetter(unsigned short c)
 void
 Dictionary::getVersionNumber()
 {
+    mIsV3 = mDictSize >= V3_HEADER_SIZE && (unsigned int) readU32(0) == V3_MAGIC;
+    if (mIsV3) {
+        mHasSubtreeStats = true;
+        if (!readHeaderV3()) mRoot = -1;
+        LOGI("IN NATIVE SUGGEST Version: %d Bigram : %d \n", mVersion, mBigram);
+        return;
+    }
     mVersion = (mDict[0] & 0xFF);
     mBigram = (mDict[1] & 0xFF);
+    mHasSubtreeStats = checkIfDictVersionIsLatest() && mVersion >= DICTIONARY_VERSION_SUBTREE_STATS;
+    mRoot = checkIfDictVersionIsLatest() ? DICTIONARY_HEADER_SIZE : 0;
+    mBigramIndex = 0;
+    mBigramIndexCount = 0;
+    mTargetTable = 0;
+    mTargetTableCount = 0;
     LOGI("IN NATIVE SUGGEST Version: %d Bigram : %d \n", mVersion, mBigram);
 }
 
+// Reads and checks the header of a version 3 dictionary.
+bool
+Dictionary::readHeaderV3()
+{
+    mVersion = readU16(4);
+    int flags = readU16(6);
+    mBigram = (flags & V3_FLAG_HAS_BIGRAMS) ? 1 : 0;
+    int headerSize = readU32(8);
+    mRoot = readU32(12);
+    mBigramIndex = readU32(16);
+    mBigramIndexCount = readU32(20);
+    mTargetTable = 0;
+    mTargetTableCount = 0;
+    if (mVersion != V3_VERSION || headerSize < V3_HEADER_SIZE || headerSize > mDictSize) {
+        return false;
+    }
+    if (mRoot < headerSize || mRoot > mDictSize - V3_GROUP_HEADER_SIZE || (mRoot & 3) != 0) {
+        return false;
+    }
+    if (mBigramIndexCount < 0 || mBigramIndex < 0 || mBigramIndex > mDictSize
+            || mBigramIndexCount > (mDictSize - mBigramIndex) / V3_BIGRAM_INDEX_ENTRY_SIZE) {
+        return false;
+    }
+    if ((flags & V3_FLAG_HAS_TARGET_WORDS) && headerSize >= V3_TARGET_HEADER_SIZE) {
+        int table = readU32(24);
+        int count = readU32(28);
+        // Without a usable table, targets are looked up in the trie.
+        if (table >= headerSize && table <= mDictSize && count >= 0
+                && count <= (mDictSize - table) / V3_TARGET_ENTRY_SIZE) {
+            mTargetTable = table;
+            mTargetTableCount = count;
+        }
+    }
+    return true;
+}
+
 // Checks whether it has the latest dictionary or the old dictionary
 bool
 Dictionary::checkIfDictVersionIsLatest()
@@ -163,6 +262,67 @@ Dictionary::getFreq(int *pos)
     return freq;
 }
 
+int
+Dictionary::getCountV3(int *pos)
+{
+    if (*pos < 0 || *pos > mDictSize - V3_GROUP_HEADER_SIZE) return 0;
+    int count = readU16(*pos);
+    *pos += V3_GROUP_HEADER_SIZE;
+    if (count > (mDictSize - *pos) / V3_NODE_SIZE) return 0;
+    return count;
+}
+
+// Reads the node at *pos in one of the variable-length formats and moves *pos to the next
+// node of the group.
+void
+Dictionary::readNodeLegacy(int *pos, DictNode *node)
+{
+    node->c = getChar(pos);
+    node->terminal = getTerminal(pos);
+    node->childrenAddress = getAddress(pos);
+    node->freq = 1;
+    node->bigramPos = 0;
+    if (node->terminal) {
+        node->bigramPos = *pos + 1;
+        node->freq = getFreq(pos);
+    }
+}
+
+// Reads the node at *pos in a version 3 dictionary and moves *pos to the next node.
+void
+Dictionary::readNodeV3(int *pos, DictNode *node)
+{
+    int p = *pos;
+    node->c = readU16(p);
+    node->terminal = (mDict[p + 2] & V3_NODE_FLAG_TERMINAL) != 0;
+    node->freq = node->terminal ? mDict[p + 3] : 1;
+    int address = readU32(p + 4);
+    node->childrenAddress = address > 0 && address <= mDictSize - V3_GROUP_HEADER_SIZE
+            ? address : 0;
+    node->bigramPos = p;
+    *pos = p + V3_NODE_SIZE;
+}
+
+// Reads the subtree statistics of the node group at pos. Height and word count are -1 if
+// they are not known.
+bool
+Dictionary::getSubtreeStats(int pos, int *maxFreq, int *height, int *words)
+{
+    if (!mHasSubtreeStats) return false;
+    if (mIsV3) {
+        *maxFreq = mDict[pos + 2];
+        *height = mDict[pos + 3];
+        *words = readU32(pos + 4);
+    } else {
+        *maxFreq = mDict[pos + 1] & 0xFF;
+        *height = mDict[pos + 2] & 0xFF;
+        *words = mDict[pos + 3] & 0xFF;
+        if (*words == SUBTREE_WORDS_UNKNOWN) *words = -1;
+    }
+    if (*height == SUBTREE_HEIGHT_UNKNOWN) *height = -1;
+    return true;
+}
+
 int
 Dictionary::wideStrLen(unsigned short *str)
 {
@@ -254,15 +414,7 @@ Dictionary::addWordBigram(unsigned short *word, int length, int frequency)
 
 unsigned short
 Dictionary::toLowerCase(unsigned short c) {
-    if (c < sizeof(BASE_CHARS) / sizeof(BASE_CHARS[0])) {
-        c = BASE_CHARS[c];
-    }
-    if (c >='A' && c <= 'Z') {
-        c |= 32;
-    } else if (c > 127) {
-        c = latin_tolower(c);
-    }
-    return c;
+    return foldCase(c);
 }
 
 bool
@@ -295,6 +447,9 @@ Dictionary::getWordsRec(int pos, int depth, int maxDepth, bool completion, int s
     if (diffs > mMaxEditDistance) {
         return;
     }
+    if (skipSubtree(pos, depth, maxDepth, completion, snr, inputIndex)) {
+        return;
+    }
     int count = getCount(&pos);
     int *currentChars = NULL;
     if (mInputLength <= inputIndex) {
@@ -304,16 +459,13 @@ Dictionary::getWordsRec(int pos, int depth, int maxDepth, bool completion, int s
     }
 
     for (int i = 0; i < count; i++) {
-        // -- at char
-        unsigned short c = getChar(&pos);
-        // -- at flag/add
+        DictNode node;
+        readNode(&pos, &node);
+        unsigned short c = node.c;
         unsigned short lowerC = toLowerCase(c);
-        bool terminal = getTerminal(&pos);
-        int childrenAddress = getAddress(&pos);
-        // -- after address or flag
-        int freq = 1;
-        if (terminal) freq = getFreq(&pos);
-        // -- after add or freq
+        bool terminal = node.terminal;
+        int childrenAddress = node.childrenAddress;
+        int freq = node.freq;
 
         // If we are only doing completions, no need to look at the typed characters.
         if (completion) {
@@ -366,6 +518,189 @@ Dictionary::getWordsRec(int pos, int depth, int maxDepth, bool completion, int s
     }
 }
 
+// Decides whether the node group at pos can be skipped because none of its words would make
+// it into the suggestions: even the most frequent one, with every remaining typed code
+// matched exactly, would score below the last word in the list. If next letters are being
+// counted, skipped words still have to be counted, so then only completions are skipped and
+// only if the subtree statistics say exactly how many words getWordsRec() would have found.
+bool
+Dictionary::skipSubtree(int pos, int depth, int maxDepth, bool completion, int snr,
+        int inputIndex)
+{
+    int maxFreq, height, words;
+    if (snr <= 0 || mMaxWords < 1 || !getSubtreeStats(pos, &maxFreq, &height, &words)) {
+        return false;
+    }
+    if (mInputLength <= inputIndex) completion = true;
+    long long best = (long long) maxFreq * snr;
+    if (!completion) {
+        int typedMultiplier = mTypedLetterMultiplier > 1 ? mTypedLetterMultiplier : 1;
+        for (int i = inputIndex; i < mInputLength && best <= INT_MAX; i++) {
+            best *= typedMultiplier;
+        }
+        if (mSkipPos < 0 && mFullWordMultiplier > 1) best *= mFullWordMultiplier;
+    }
+    // Scores are ints, larger ones would have wrapped around in getWordsRec().
+    if (best > INT_MAX || best >= mFrequencies[mMaxWords - 1]) return false;
+    if (mNextLettersSize <= 0 || mSkipPos >= 0) return true;
+
+    // Completions below the first letter after the typed word all count for the same letter,
+    // which is already in mWord.
+    if (!completion || depth <= mInputLength) return false;
+    if (height < 0 || depth + height > maxDepth || words < 0) return false;
+    if (mWord[mInputLength] < mNextLettersSize) {
+        mNextLettersFrequencies[mWord[mInputLength]] += words;
+    }
+    return true;
+}
+
+// Runs the same search as getWordsRec() from the root, but reuses the partial matches left
+// over from the previous call. While typing, the codes are usually the previous ones plus
+// one more, so only the last level needs to be computed. After a deletion the kept levels
+// are already complete. Returns false without adding any words if the search has to be
+// done from the root instead.
+bool
+Dictionary::getWordsIncremental(int root, int maxDepth)
+{
+    if (mInputLength < 1 || mInputLength > MAX_PREFIX_LEVELS
+            || mMaxAlternatives > MAX_PREFIX_ALTERNATIVES) {
+        return false;
+    }
+    if (mPrefixAlternatives != mMaxAlternatives || mPrefixRoot != root) {
+        mPrefixLevels = 0;
+    }
+    if (mPrefixLevels == 0) {
+        PrefixState *state = &mPrefixStates[0];
+        state->pos = root;
+        state->depth = 0;
+        state->snr = 1;
+        state->diffs = 0;
+        state->parent = -1;
+        state->segmentLength = 0;
+        mPrefixStateCount = 1;
+        mPrefixLevelStart[0] = 0;
+        mPrefixLevelStart[1] = 1;
+        mPrefixLevelBound[0] = 0;
+        mPrefixLevels = 1;
+        mPrefixAlternatives = mMaxAlternatives;
+        mPrefixRoot = root;
+    }
+
+    // The search expands the last typed code itself, so it starts from level length - 1.
+    int lastLevel = mInputLength - 1;
+    // A level can be kept if the codes leading to it are unchanged, and if it was not
+    // pruned with a smaller edit distance than the one allowed now. Level k can't have
+    // more than k differences, so a bound of k or more means nothing was pruned.
+    int keep = 1;
+    while (keep < mPrefixLevels && keep <= lastLevel) {
+        int row = (keep - 1) * mMaxAlternatives;
+        if (memcmp(mPrefixCodes + row, mInputCodes + row, mMaxAlternatives * sizeof(int)) != 0) {
+            break;
+        }
+        int bound = mMaxEditDistance < keep ? mMaxEditDistance : keep;
+        if (mPrefixLevelBound[keep] < bound) break;
+        keep++;
+    }
+    mPrefixLevels = keep;
+    mPrefixStateCount = mPrefixLevelStart[keep];
+
+    while (mPrefixLevels <= lastLevel) {
+        int row = (mPrefixLevels - 1) * mMaxAlternatives;
+        memcpy(mPrefixCodes + row, mInputCodes + row, mMaxAlternatives * sizeof(int));
+        if (!extendPrefixLevel(mPrefixLevels)) {
+            mPrefixLevels = 0;
+            return false;
+        }
+        mPrefixLevels++;
+    }
+
+    for (int i = mPrefixLevelStart[lastLevel]; i < mPrefixLevelStart[lastLevel + 1]; i++) {
+        PrefixState *state = &mPrefixStates[i];
+        restorePrefixWord(i);
+        getWordsRec(state->pos, state->depth, maxDepth, false, state->snr, lastLevel,
+                state->diffs);
+    }
+    return true;
+}
+
+// Builds the given level from the one before it by matching the code at level - 1.
+bool
+Dictionary::extendPrefixLevel(int level)
+{
+    int *currentChars = mInputCodes + (level - 1) * mMaxAlternatives;
+    unsigned short segment[MAX_PREFIX_SEGMENT];
+    mPrefixLevelBound[level] = mMaxEditDistance;
+    for (int i = mPrefixLevelStart[level - 1]; i < mPrefixLevelStart[level]; i++) {
+        if (!expandPrefixState(i, mPrefixStates[i].pos, mPrefixStates[i].depth, currentChars,
+                segment, 0)) {
+            return false;
+        }
+    }
+    mPrefixLevelStart[level + 1] = mPrefixStateCount;
+    return true;
+}
+
+// Same traversal as the non-completion part of getWordsRec(), except that matches are
+// recorded as states of the next level instead of being searched further. Children are
+// visited in trie order, so the final search adds words in the same order as before.
+bool
+Dictionary::expandPrefixState(int parent, int pos, int depth, int *currentChars,
+        unsigned short *segment, int segmentLength)
+{
+    if (depth + 1 >= (int) (sizeof(mWord) / sizeof(mWord[0]))) return false;
+    int snr = mPrefixStates[parent].snr;
+    int diffs = mPrefixStates[parent].diffs;
+    int count = getCount(&pos);
+    for (int i = 0; i < count; i++) {
+        DictNode node;
+        readNode(&pos, &node);
+        unsigned short c = node.c;
+        unsigned short lowerC = toLowerCase(c);
+        int childrenAddress = node.childrenAddress;
+        if (childrenAddress == 0) continue;
+
+        if (c == QUOTE && currentChars[0] != QUOTE) {
+            // Skip the ' and continue deeper
+            if (segmentLength + 1 >= MAX_PREFIX_SEGMENT) return false;
+            segment[segmentLength] = c;
+            if (!expandPrefixState(parent, childrenAddress, depth + 1, currentChars,
+                    segment, segmentLength + 1)) {
+                return false;
+            }
+            continue;
+        }
+        for (int j = 0; j < mMaxAlternatives && currentChars[j] > 0; j++) {
+            if (currentChars[j] != lowerC && currentChars[j] != c) continue;
+            int newDiffs = diffs + (j > 0);
+            if (newDiffs > mMaxEditDistance) continue;
+            if (mPrefixStateCount >= MAX_PREFIX_STATES) return false;
+            PrefixState *state = &mPrefixStates[mPrefixStateCount++];
+            state->pos = childrenAddress;
+            state->depth = depth + 1;
+            state->snr = snr * (j == 0 ? mTypedLetterMultiplier : 1);
+            state->diffs = newDiffs;
+            state->parent = parent;
+            memcpy(state->segment, segment, segmentLength * sizeof(segment[0]));
+            state->segment[segmentLength] = c;
+            state->segmentLength = segmentLength + 1;
+        }
+    }
+    return true;
+}
+
+// Writes the word leading to the given state into mWord.
+void
+Dictionary::restorePrefixWord(int index)
+{
+    PrefixState *state = &mPrefixStates[index];
+    int end = state->depth;
+    while (state->segmentLength > 0) {
+        end -= state->segmentLength;
+        memcpy(mWord + end, state->segment, state->segmentLength * sizeof(mWord[0]));
+        state = &mPrefixStates[state->parent];
+    }
+}
+
 int
 Dictionary::getBigramAddress(int *pos, bool advance)
 {
@@ -407,8 +742,16 @@ Dictionary::getBigrams(unsigned short *prevWord, int prevWordLength, int *codes,
     mMaxBigrams = maxBigrams;
     mMaxAlternatives = maxAlternatives;
 
+    if (mBigram == 1) loadBigramTargetIndex();
+    if (mBigram == 1 && mIsV3 && mRoot >= 0) {
+        int pos = isValidWordRec(mRoot, prevWord, 0, prevWordLength, NULL);
+        if (pos < 0) {
+            return 0;
+        }
+        return getBigramsV3(pos, maxBigrams);
+    }
     if (mBigram == 1 && checkIfDictVersionIsLatest()) {
-        int pos = isValidWordRec(DICTIONARY_HEADER_SIZE, prevWord, 0, prevWordLength);
+        int pos = isValidWordRec(DICTIONARY_HEADER_SIZE, prevWord, 0, prevWordLength, NULL);
         LOGI("Pos -> %d\n", pos);
         if (pos < 0) {
             return 0;
@@ -422,7 +765,7 @@ Dictionary::getBigrams(unsigned short *prevWord, int prevWordLength, int *codes,
                 int bigramAddress = getBigramAddress(&pos, true);
                 int frequency = (FLAG_BIGRAM_FREQ & mDict[pos]);
                 // search for all bigrams and store them
-                searchForTerminalNode(bigramAddress, frequency);
+                addBigramTarget(bigramAddress, frequency);
                 nextBigramExist = (mDict[pos++] & FLAG_BIGRAM_CONTINUED);
                 bigramCount++;
             }
@@ -454,9 +797,8 @@ Dictionary::searchForTerminalNode(int addressLookingFor, int frequency)
             word[depth] = (unsigned short) followingChar;
         }
         pos = followDownBranchAddress; // pos start at count
-        int count = mDict[pos] & 0xFF;
+        int count = getCount(&pos);
         LOGI("count - %d\n",count);
-        pos++;
         for (int i = 0; i < count; i++) {
             // pos at data
             pos++;
@@ -538,6 +880,333 @@ Dictionary::searchForTerminalNode(int addressLookingFor, int frequency)
     }
 }
 
+// Finds the bigram list of the node at nodePos in the bigram index, returns 0 if it has none.
+int
+Dictionary::findBigramList(int nodePos)
+{
+    int low = 0;
+    int high = mBigramIndexCount - 1;
+    while (low <= high) {
+        int mid = (low + high) >> 1;
+        int entry = mBigramIndex + mid * V3_BIGRAM_INDEX_ENTRY_SIZE;
+        int node = readU32(entry);
+        if (node < nodePos) {
+            low = mid + 1;
+        } else if (node > nodePos) {
+            high = mid - 1;
+        } else {
+            int list = readU32(entry + 4);
+            return list > 0 && list <= mDictSize - 4 ? list : 0;
+        }
+    }
+    return 0;
+}
+
+int
+Dictionary::getBigramsV3(int nodePos, int maxBigrams)
+{
+    int list = findBigramList(nodePos);
+    if (list == 0) return 0;
+    int count = readU32(list);
+    if (count < 0 || count > (mDictSize - list - 4) / V3_BIGRAM_SIZE) return 0;
+    int bigramCount = 0;
+    for (int i = 0; i < count && bigramCount < maxBigrams; i++) {
+        int entry = list + 4 + i * V3_BIGRAM_SIZE;
+        addBigramTarget(readU32(entry), mDict[entry + 4]);
+        bigramCount++;
+    }
+    return bigramCount;
+}
+
+// Rebuilds the word ending at the node record at address by following the groups down from
+// the root. The groups below a node come before those below its next sibling, so the target
+// is below the last node whose children start at or before it.
+void
+Dictionary::searchForTerminalNodeV3(int address, int frequency)
+{
+    // One more for the terminating 0 that addWordBigram() writes.
+    unsigned short word[mMaxWordLength + 1];
+    int group = mRoot;
+    int depth = 0;
+    while (depth < mMaxWordLength) {
+        int pos = group;
+        int count = getCountV3(&pos);
+        int next = 0;
+        unsigned short nextChar = 0;
+        for (int i = 0; i < count; i++) {
+            DictNode node;
+            int nodePos = pos;
+            readNodeV3(&pos, &node);
+            if (nodePos == address) {
+                word[depth] = node.c;
+                if (checkFirstCharacter(word)) {
+                    addWordBigram(word, depth + 1, frequency);
+                }
+                return;
+            }
+            if (node.childrenAddress != 0 && node.childrenAddress <= address) {
+                next = node.childrenAddress;
+                nextChar = node.c;
+            }
+        }
+        if (next <= group) break;
+        word[depth++] = nextChar;
+        group = next;
+    }
+    LOGI("ERROR!!! Cannot find bigram!!");
+}
+
+void
+Dictionary::addBigramTarget(int address, int frequency)
+{
+    if (mTargetTable != 0) {
+        unsigned short word[MAX_BIGRAM_TARGET_LENGTH + 1];
+        int length;
+        if (getMappedBigramTarget(address, word, &length)) {
+            if (checkFirstCharacter(word)) {
+                addWordBigram(word, length, frequency);
+            }
+            return;
+        }
+    }
+    int index = findBigramTarget(address);
+    if (index >= 0 && mTargetWordLengths[index] > 0) {
+        unsigned short word[MAX_BIGRAM_TARGET_LENGTH + 1];
+        int length = mTargetWordLengths[index];
+        memcpy(word, mTargetChars + mTargetWordStarts[index], length * sizeof(word[0]));
+        if (checkFirstCharacter(word)) {
+            addWordBigram(word, length, frequency);
+        }
+        return;
+    }
+    if (mIsV3) {
+        searchForTerminalNodeV3(address, frequency);
+    } else {
+        searchForTerminalNode(address, frequency);
+    }
+}
+
+int
+Dictionary::findBigramTarget(int address)
+{
+    int low = 0;
+    int high = mTargetCount - 1;
+    while (low <= high) {
+        int mid = (low + high) >> 1;
+        if (mTargetAddresses[mid] < address) {
+            low = mid + 1;
+        } else if (mTargetAddresses[mid] > address) {
+            high = mid - 1;
+        } else {
+            return mid;
+        }
+    }
+    return -1;
+}
+
+// Finds the word of the target at address in the target table of the file. Returns false if
+// it isn't there.
+bool
+Dictionary::getMappedBigramTarget(int address, unsigned short *word, int *length)
+{
+    int low = 0;
+    int high = mTargetTableCount - 1;
+    while (low <= high) {
+        int mid = (low + high) >> 1;
+        int entry = mTargetTable + mid * V3_TARGET_ENTRY_SIZE;
+        int node = readU32(entry);
+        if (node < address) {
+            low = mid + 1;
+        } else if (node > address) {
+            high = mid - 1;
+        } else {
+            int chars = readU32(entry + 4);
+            int count = readU32(entry + 8);
+            if (count <= 0 || count > MAX_BIGRAM_TARGET_LENGTH || chars < 0
+                    || chars > mDictSize - count * 2) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                word[i] = readU16(chars + i * 2);
+            }
+            *length = count;
+            return true;
+        }
+    }
+    return false;
+}
+
+// Makes the bigram target index available to this dictionary, building it in the shared
+// dictionary the first time any of its sessions needs it. Building it reads the whole trie
+// of older formats, so it is left to the first getBigrams() call instead of slowing down
+// opening the dictionary, which often never gets one.
+void
+Dictionary::loadBigramTargetIndex()
+{
+    if (mTargetIndexLoaded) return;
+    Dictionary *owner = mShared != NULL ? mShared : this;
+    pthread_mutex_lock(&owner->mTargetIndexLock);
+    if (!owner->mTargetIndexLoaded) {
+        owner->buildBigramTargetIndex();
+        owner->mTargetIndexLoaded = true;
+    }
+    if (owner != this) {
+        mTargetAddresses = owner->mTargetAddresses;
+        mTargetWordStarts = owner->mTargetWordStarts;
+        mTargetWordLengths = owner->mTargetWordLengths;
+        mTargetChars = owner->mTargetChars;
+        mTargetCount = owner->mTargetCount;
+        mTargetCharCount = owner->mTargetCharCount;
+        mTargetCharCapacity = owner->mTargetCharCapacity;
+        mTargetIndexLoaded = true;
+    }
+    pthread_mutex_unlock(&owner->mTargetIndexLock);
+}
+
+void
+Dictionary::buildBigramTargetIndex()
+{
+    mTargetAddresses = NULL;
+    mTargetWordStarts = NULL;
+    mTargetWordLengths = NULL;
+    mTargetChars = NULL;
+    mTargetCount = 0;
+    mTargetCharCount = 0;
+    mTargetCharCapacity = 0;
+    if (mBigram != 1 || mRoot < 0 || !(mIsV3 || checkIfDictVersionIsLatest())) return;
+    // The file has the words already.
+    if (mTargetTable != 0) return;
+
+    // Mark the addresses all bigram lists point to, one bit per byte of the dictionary.
+    unsigned char *marks = (unsigned char *) calloc((mDictSize >> 3) + 1, 1);
+    if (marks == NULL) return;
+    if (mIsV3) {
+        for (int i = 0; i < mBigramIndexCount; i++) {
+            int list = readU32(mBigramIndex + i * V3_BIGRAM_INDEX_ENTRY_SIZE + 4);
+            if (list <= 0 || list > mDictSize - 4) continue;
+            int count = readU32(list);
+            if (count < 0 || count > (mDictSize - list - 4) / V3_BIGRAM_SIZE) continue;
+            for (int j = 0; j < count; j++) {
+                markBigramTarget(marks, readU32(list + 4 + j * V3_BIGRAM_SIZE));
+            }
+        }
+    } else {
+        markBigramTargetsLegacy(marks, mRoot, 0);
+    }
+
+    // The marks give the addresses in order, without duplicates.
+    int markBytes = (mDictSize >> 3) + 1;
+    for (int i = 0; i < markBytes; i++) {
+        for (int bits = marks[i]; bits != 0; bits &= bits - 1) mTargetCount++;
+    }
+    if (mTargetCount > 0) {
+        mTargetAddresses = (int *) malloc(mTargetCount * sizeof(mTargetAddresses[0]));
+        mTargetWordStarts = (int *) malloc(mTargetCount * sizeof(mTargetWordStarts[0]));
+        mTargetWordLengths = (unsigned char *) calloc(mTargetCount,
+                sizeof(mTargetWordLengths[0]));
+    }
+    if (mTargetAddresses == NULL || mTargetWordStarts == NULL || mTargetWordLengths == NULL) {
+        free(marks);
+        freeBigramTargetIndex();
+        return;
+    }
+    int index = 0;
+    for (int i = 0; i < markBytes; i++) {
+        if (marks[i] == 0) continue;
+        for (int bit = 0; bit < 8; bit++) {
+            if (marks[i] & (1 << bit)) mTargetAddresses[index++] = (i << 3) + bit;
+        }
+    }
+
+    // Then walk the trie once and remember the words ending at these addresses. Groups are
+    // laid out depth first, so no target is below a node whose children come after the
+    // last one. This leaves out the shared groups of a version 3 dictionary.
+    unsigned short word[MAX_BIGRAM_TARGET_LENGTH];
+    recordBigramTargetWords(marks, mRoot, 0, word);
+    free(marks);
+    LOGI("Bigram targets: %d, chars: %d\n", mTargetCount, mTargetCharCount);
+}
+
+void
+Dictionary::markBigramTarget(unsigned char *marks, int address)
+{
+    if (address > 0 && address < mDictSize) marks[address >> 3] |= 1 << (address & 7);
+}
+
+void
+Dictionary::markBigramTargetsLegacy(unsigned char *marks, int pos, int depth)
+{
+    if (depth >= MAX_BIGRAM_TARGET_LENGTH) return;
+    int count = getCount(&pos);
+    for (int i = 0; i < count; i++) {
+        DictNode node;
+        readNode(&pos, &node);
+        if (node.terminal && (mDict[node.bigramPos] & FLAG_BIGRAM_READ)) {
+            int bigramPos = node.bigramPos;
+            int nextBigramExist = 1;
+            while (nextBigramExist > 0 && bigramPos < mDictSize - 3) {
+                markBigramTarget(marks, getBigramAddress(&bigramPos, true));
+                nextBigramExist = (mDict[bigramPos++] & FLAG_BIGRAM_CONTINUED);
+            }
+        }
+        if (node.childrenAddress != 0) {
+            markBigramTargetsLegacy(marks, node.childrenAddress, depth + 1);
+        }
+    }
+}
+
+void
+Dictionary::recordBigramTargetWords(unsigned char *marks, int pos, int depth,
+        unsigned short *word)
+{
+    if (depth >= MAX_BIGRAM_TARGET_LENGTH) return;
+    int lastTarget = mTargetAddresses[mTargetCount - 1];
+    int count = getCount(&pos);
+    for (int i = 0; i < count; i++) {
+        DictNode node;
+        int nodePos = pos;
+        readNode(&pos, &node);
+        word[depth] = node.c;
+        if (node.terminal && (marks[nodePos >> 3] & (1 << (nodePos & 7)))) {
+            int index = findBigramTarget(nodePos);
+            if (index >= 0 && mTargetWordLengths[index] == 0) {
+                if (mTargetCharCount + depth + 1 > mTargetCharCapacity) {
+                    int capacity = mTargetCharCapacity > 0 ? mTargetCharCapacity * 2 : 4096;
+                    unsigned short *chars = (unsigned short *) realloc(mTargetChars,
+                            capacity * sizeof(chars[0]));
+                    // Targets without a word are looked up in the trie instead.
+                    if (chars == NULL) return;
+                    mTargetChars = chars;
+                    mTargetCharCapacity = capacity;
+                }
+                memcpy(mTargetChars + mTargetCharCount, word, (depth + 1) * sizeof(word[0]));
+                mTargetWordStarts[index] = mTargetCharCount;
+                mTargetWordLengths[index] = depth + 1;
+                mTargetCharCount += depth + 1;
+            }
+        }
+        if (node.childrenAddress != 0 && node.childrenAddress <= lastTarget) {
+            recordBigramTargetWords(marks, node.childrenAddress, depth + 1, word);
+        }
+    }
+}
+
+void
+Dictionary::freeBigramTargetIndex()
+{
+    free(mTargetAddresses);
+    free(mTargetWordStarts);
+    free(mTargetWordLengths);
+    free(mTargetChars);
+    mTargetAddresses = NULL;
+    mTargetWordStarts = NULL;
+    mTargetWordLengths = NULL;
+    mTargetChars = NULL;
+    mTargetCount = 0;
+    mTargetCharCount = 0;
+    mTargetCharCapacity = 0;
+}
+
 bool
 Dictionary::checkFirstCharacter(unsigned short *word)
 {
@@ -559,41 +1228,46 @@ Dictionary::checkFirstCharacter(unsigned short *word)
 bool
 Dictionary::isValidWord(unsigned short *word, int length)
 {
-    if (checkIfDictVersionIsLatest()) {
-        return (isValidWordRec(DICTIONARY_HEADER_SIZE, word, 0, length) != NOT_VALID_WORD);
-    } else {
-        return (isValidWordRec(0, word, 0, length) != NOT_VALID_WORD);
-    }
+    if (mRoot < 0) return false;
+    return (isValidWordRec(mRoot, word, 0, length, NULL) != NOT_VALID_WORD);
+}
+
+int
+Dictionary::getFrequency(unsigned short *word, int length)
+{
+    int frequency = -1;
+    if (mRoot < 0 || length <= 0) return frequency;
+    isValidWordRec(mRoot, word, 0, length, &frequency);
+    return frequency;
 }
 
 int
-Dictionary::isValidWordRec(int pos, unsigned short *word, int offset, int length) {
-    // returns address of bigram data of that word
+Dictionary::isValidWordRec(int pos, unsigned short *word, int offset, int length,
+        int *frequency) {
+    // returns address of bigram data of that word, and stores its frequency if asked to
     // return -99 if not found
 
     int count = getCount(&pos);
     unsigned short currentChar = (unsigned short) word[offset];
     for (int j = 0; j < count; j++) {
-        unsigned short c = getChar(&pos);
-        int terminal = getTerminal(&pos);
-        int childPos = getAddress(&pos);
-        if (c == currentChar) {
+        DictNode node;
+        readNode(&pos, &node);
+        if (node.c == currentChar) {
             if (offset == length - 1) {
-                if (terminal) {
-                    return (pos+1);
+                if (node.terminal) {
+                    if (frequency != NULL) *frequency = node.freq;
+                    return node.bigramPos;
                 }
             } else {
-                if (childPos != 0) {
-                    int t = isValidWordRec(childPos, word, offset + 1, length);
+                if (node.childrenAddress != 0) {
+                    int t = isValidWordRec(node.childrenAddress, word, offset + 1, length,
+                            frequency);
                     if (t > 0) {
                         return t;
                     }
                 }
             }
         }
-        if (terminal) {
-            getFreq(&pos);
-        }
         // There could be two instances of each alphabet - upper and lower case. So continue
         // looking ...
     }
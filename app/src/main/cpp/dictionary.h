@@ -17,6 +17,8 @@
 #ifndef LATINIME_DICTIONARY_H
 #define LATINIME_DICTIONARY_H
 
+#include <pthread.h>
+
 namespace latinime {
 
 // 22-bit address = ~4MB dictionary size limit, which on average would be about 200k-300k words
@@ -33,9 +35,92 @@ namespace latinime {
 #define FLAG_BIGRAM_CONTINUED 0x80
 #define FLAG_BIGRAM_FREQ 0x7F
 
+// Dictionaries of this version and later store statistics about the subtree starting at each
+// node group right after its count byte, one byte each: the highest frequency of any word in
+// it, the number of levels below the group's own nodes down to the deepest word, and the
+// number of words in it. Height and word count are 0xFF if they don't fit.
+#define DICTIONARY_VERSION_SUBTREE_STATS 201
+#define SUBTREE_STATS_SIZE 3
+#define SUBTREE_HEIGHT_UNKNOWN 0xFF
+#define SUBTREE_WORDS_UNKNOWN 0xFF
+
+// Version 3 dictionaries start with V3_MAGIC and use fixed-size, 4-byte aligned records with
+// 32-bit little endian offsets instead of the variable-length encoding above. Layout:
+//   header:       u32 magic, u16 version, u16 flags, u32 header size, u32 root group offset,
+//                 u32 bigram index offset, u32 bigram index entry count
+//   node group:   u16 count, u8 subtree max frequency, u8 subtree height (0xFF if unknown),
+//                 u32 subtree word count, followed by count node records
+//   node:         u16 char, u8 flags, u8 frequency, u32 children group offset (0 if none)
+//   bigram index: entries of u32 node offset, u32 bigram list offset, sorted by node offset
+//   bigram list:  u32 count, followed by entries of u32 target node offset, u8 frequency and
+//                 3 bytes of padding
+// A header of at least V3_TARGET_HEADER_SIZE bytes with V3_FLAG_HAS_TARGET_WORDS set also has
+// u32 target table offset, u32 target count, and the file then holds the words of all bigram
+// targets, so that they don't have to be found in the trie:
+//   target table: entries of u32 target node offset, u32 offset of the word's chars, u32 word
+//                 length, sorted by node offset
+//   target words: u16 chars
+// The subtree statistics have the same meaning as in DICTIONARY_VERSION_SUBTREE_STATS. Node
+// groups may be shared by several parents, except those on the way to a word that has
+// bigrams or is a bigram target. These must be laid out depth first, every group followed
+// by the groups below it and before any shared group, so that the word of a bigram target
+// can be found by following the addresses down.
+#define V3_MAGIC 0x9BC13AFEu
+#define V3_VERSION 3
+#define V3_FLAG_HAS_BIGRAMS 0x1
+#define V3_FLAG_HAS_TARGET_WORDS 0x2
+#define V3_HEADER_SIZE 24
+#define V3_TARGET_HEADER_SIZE 32
+#define V3_TARGET_ENTRY_SIZE 12
+#define V3_GROUP_HEADER_SIZE 8
+#define V3_NODE_SIZE 8
+#define V3_BIGRAM_INDEX_ENTRY_SIZE 8
+#define V3_BIGRAM_SIZE 8
+#define V3_NODE_FLAG_TERMINAL 0x1
+
+// Bigram targets whose word is longer than this are looked up in the trie each time.
+#define MAX_BIGRAM_TARGET_LENGTH 48
+
+// Limits for the partial matches kept between getSuggestions() calls. Inputs that exceed
+// them are searched from the root like before.
+#define MAX_PREFIX_LEVELS 48
+#define MAX_PREFIX_STATES 2048
+#define MAX_PREFIX_ALTERNATIVES 16
+#define MAX_PREFIX_SEGMENT 4
+
+// A node list in the trie reached by matching the first few typed codes, along with the
+// scoring state the recursive search has when it gets there. The word leading to it is
+// the parent's word followed by the segment: any skipped apostrophes plus the matched char.
+struct PrefixState {
+    int pos;
+    int depth;
+    int snr;
+    int diffs;
+    int parent;
+    int segmentLength;
+    unsigned short segment[MAX_PREFIX_SEGMENT];
+};
+
+// A node of the trie as returned by Dictionary::readNode().
+struct DictNode {
+    unsigned short c;
+    bool terminal;
+    int freq;
+    int childrenAddress;
+    // Legacy formats: position of the bigram flags after the frequency.
+    // Version 3: offset of the node record.
+    int bigramPos;
+};
+
+// A Dictionary keeps the state of the current search in its members, and the partial
+// matches of the previous one, so it can only answer one query at a time. Other threads
+// each use a session created from it, which reads the same data and bigram target index.
+// The index is only built by the first getBigrams() call of any session.
 class Dictionary {
 public:
     Dictionary(void *dict, int typedLetterMultipler, int fullWordMultiplier, int dictSize);
+    // Creates a session on an opened dictionary. It must be deleted before the dictionary.
+    Dictionary(Dictionary *shared);
     int getSuggestions(int *codes, int codesSize, unsigned short *outWords, int *frequencies,
             int maxWordLength, int maxWords, int maxAlternatives, int skipPos,
             int *nextLetters, int nextLettersSize);
@@ -43,6 +128,9 @@ public:
             unsigned short *outWords, int *frequencies, int maxWordLength, int maxBigrams,
             int maxAlternatives);
     bool isValidWord(unsigned short *word, int length);
+    // Returns the frequency of the word, or -1 if it isn't in the dictionary.
+    int getFrequency(unsigned short *word, int length);
+    bool isValid() { return mRoot >= 0; }
     void setAsset(void *asset) { mAsset = asset; }
     void *getAsset() { return mAsset; }
     ~Dictionary();
@@ -60,7 +148,42 @@ private:
     bool getFirstBitOfByte(int *pos) { return (mDict[*pos] & 0x80) > 0; }
     bool getSecondBitOfByte(int *pos) { return (mDict[*pos] & 0x40) > 0; }
     bool getTerminal(int *pos) { return (mDict[*pos] & FLAG_TERMINAL_MASK) > 0; }
-    int getCount(int *pos) { return mDict[(*pos)++] & 0xFF; }
+    int getCount(int *pos) {
+        if (mIsV3) return getCountV3(pos);
+        int count = mDict[(*pos)++] & 0xFF;
+        if (mHasSubtreeStats) *pos += SUBTREE_STATS_SIZE;
+        return count;
+    }
+    int getCountV3(int *pos);
+    void readNode(int *pos, DictNode *node) {
+        if (mIsV3) {
+            readNodeV3(pos, node);
+        } else {
+            readNodeLegacy(pos, node);
+        }
+    }
+    void readNodeLegacy(int *pos, DictNode *node);
+    void readNodeV3(int *pos, DictNode *node);
+    bool getSubtreeStats(int pos, int *maxFreq, int *height, int *words);
+    int readU16(int pos) { return mDict[pos] | (mDict[pos + 1] << 8); }
+    int readU32(int pos) {
+        return mDict[pos] | (mDict[pos + 1] << 8) | (mDict[pos + 2] << 16)
+                | (mDict[pos + 3] << 24);
+    }
+    bool readHeaderV3();
+    int getBigramsV3(int nodePos, int maxBigrams);
+    int findBigramList(int nodePos);
+    void searchForTerminalNodeV3(int address, int frequency);
+    void addBigramTarget(int address, int frequency);
+    void loadBigramTargetIndex();
+    void buildBigramTargetIndex();
+    bool getMappedBigramTarget(int address, unsigned short *word, int *length);
+    void markBigramTarget(unsigned char *marks, int address);
+    void markBigramTargetsLegacy(unsigned char *marks, int pos, int depth);
+    void recordBigramTargetWords(unsigned char *marks, int pos, int depth,
+            unsigned short *word);
+    int findBigramTarget(int address);
+    void freeBigramTargetIndex();
     unsigned short getChar(int *pos);
     int wideStrLen(unsigned short *str);
 
@@ -71,11 +194,20 @@ private:
     unsigned short toLowerCase(unsigned short c);
     void getWordsRec(int pos, int depth, int maxDepth, bool completion, int frequency,
             int inputIndex, int diffs);
-    int isValidWordRec(int pos, unsigned short *word, int offset, int length);
+    int isValidWordRec(int pos, unsigned short *word, int offset, int length, int *frequency);
     void registerNextLetter(unsigned short c);
+    bool skipSubtree(int pos, int depth, int maxDepth, bool completion, int snr,
+            int inputIndex);
+    bool getWordsIncremental(int root, int maxDepth);
+    bool extendPrefixLevel(int level);
+    bool expandPrefixState(int parent, int pos, int depth, int *currentChars,
+            unsigned short *segment, int segmentLength);
+    void restorePrefixWord(int index);
 
     unsigned char *mDict;
     void *mAsset;
+    // The dictionary this is a session on, which owns the bigram target index, or NULL.
+    Dictionary *mShared;
 
     int *mFrequencies;
     int *mBigramFreq;
@@ -98,6 +230,43 @@ private:
     int mNextLettersSize;
     int mVersion;
     int mBigram;
+    bool mHasSubtreeStats;
+    bool mIsV3;
+    // Offset of the root node group, -1 if the dictionary can't be read.
+    int mRoot;
+    int mBigramIndex;
+    int mBigramIndexCount;
+    // Version 3: the target table in the file, 0 if it has none.
+    int mTargetTable;
+    int mTargetTableCount;
+
+    // The words of all bigram targets, found once by the first getBigrams() call so that
+    // later ones don't have to walk down the trie for each of them. Target i is the
+    // node at mTargetAddresses[i], sorted, and its word is mTargetWordLengths[i] chars
+    // starting at mTargetChars + mTargetWordStarts[i], or not known if the length is 0.
+    // Dictionaries with a target table use that instead, and mTargetCount stays 0.
+    // The dictionary that sessions are created from owns the index and builds it while
+    // holding mTargetIndexLock, each session copies the pointers once it is built.
+    bool mTargetIndexLoaded;
+    pthread_mutex_t mTargetIndexLock;
+    int *mTargetAddresses;
+    int *mTargetWordStarts;
+    unsigned char *mTargetWordLengths;
+    unsigned short *mTargetChars;
+    int mTargetCount;
+    int mTargetCharCount;
+    int mTargetCharCapacity;
+
+    // Partial matches for the codes of the previous call, one level per consumed code.
+    // Level k holds mPrefixStates[mPrefixLevelStart[k] .. mPrefixLevelStart[k + 1]).
+    PrefixState mPrefixStates[MAX_PREFIX_STATES];
+    int mPrefixStateCount;
+    int mPrefixLevelStart[MAX_PREFIX_LEVELS + 1];
+    int mPrefixLevelBound[MAX_PREFIX_LEVELS];
+    int mPrefixLevels;
+    int mPrefixCodes[MAX_PREFIX_LEVELS * MAX_PREFIX_ALTERNATIVES];
+    int mPrefixAlternatives;
+    int mPrefixRoot;
 };
 
 // ----------------------------------------------------------------------------
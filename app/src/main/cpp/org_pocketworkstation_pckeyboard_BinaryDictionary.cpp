@@ -19,6 +19,7 @@
 #include <assert.h>
 #include <unistd.h>
 #include <fcntl.h>
+#include <string.h>
 
 #include <jni.h>
 #include "dictionary.h"
@@ -50,74 +51,137 @@ static jlong latinime_BinaryDictionary_open
         return 0;
     }
     Dictionary *dictionary = new Dictionary(dict, typedLetterMultiplier, fullWordMultiplier, size);
+    if (!dictionary->isValid()) {
+        fprintf(stderr, "DICT: Unsupported dictionary format\n");
+        delete dictionary;
+        return 0;
+    }
     return (jlong) dictionary;
 }
 
-static int latinime_BinaryDictionary_getSuggestions(
-        JNIEnv *env, jobject object, jlong dict, jintArray inputArray, jint arraySize,
-        jcharArray outputArray, jintArray frequencyArray, jint maxWordLength, jint maxWords,
-        jint maxAlternatives, jint skipPos, jintArray nextLettersArray, jint nextLettersSize)
+// Fewer suggestions than this make getSuggestions retry with a wildcard at each position.
+#define MIN_SUGGESTIONS_WITHOUT_SKIPPING 5
+
+// The native side of a BinaryDictionary.Session: a session on the dictionary and the
+// addresses of the direct buffers that queries and their results are exchanged through.
+struct Session {
+    Dictionary *dictionary;
+    int *codes;
+    int *frequencies;
+    unsigned short *word;
+    unsigned short *outputChars;
+    int *nextLetters;
+};
+
+static jlong latinime_BinaryDictionary_openSession
+        (JNIEnv *env, jobject object, jlong dict, jobject codesBuffer,
+         jobject frequenciesBuffer, jobject wordBuffer, jobject outputBuffer,
+         jobject nextLettersBuffer)
 {
     Dictionary *dictionary = (Dictionary*) dict;
     if (dictionary == NULL) return 0;
+    Session *session = new Session;
+    session->codes = (int*) env->GetDirectBufferAddress(codesBuffer);
+    session->frequencies = (int*) env->GetDirectBufferAddress(frequenciesBuffer);
+    session->word = (unsigned short*) env->GetDirectBufferAddress(wordBuffer);
+    session->outputChars = (unsigned short*) env->GetDirectBufferAddress(outputBuffer);
+    session->nextLetters = (int*) env->GetDirectBufferAddress(nextLettersBuffer);
+    if (session->codes == NULL || session->frequencies == NULL || session->word == NULL
+            || session->outputChars == NULL || session->nextLetters == NULL) {
+        fprintf(stderr, "DICT: Session buffer is not direct\n");
+        delete session;
+        return 0;
+    }
+    session->dictionary = new Dictionary(dictionary);
+    return (jlong) session;
+}
 
-    int *frequencies = env->GetIntArrayElements(frequencyArray, NULL);
-    int *inputCodes = env->GetIntArrayElements(inputArray, NULL);
-    jchar *outputChars = env->GetCharArrayElements(outputArray, NULL);
-    int *nextLetters = nextLettersArray != NULL ? env->GetIntArrayElements(nextLettersArray, NULL)
-            : NULL;
-
-    int count = dictionary->getSuggestions(inputCodes, arraySize, (unsigned short*) outputChars,
-            frequencies, maxWordLength, maxWords, maxAlternatives, skipPos, nextLetters,
-            nextLettersSize);
+static void latinime_BinaryDictionary_closeSession
+        (JNIEnv *env, jobject object, jlong sessionPtr)
+{
+    Session *session = (Session*) sessionPtr;
+    if (session == NULL) return;
+    delete session->dictionary;
+    delete session;
+}
 
-    env->ReleaseIntArrayElements(frequencyArray, frequencies, 0);
-    env->ReleaseIntArrayElements(inputArray, inputCodes, JNI_ABORT);
-    env->ReleaseCharArrayElements(outputArray, outputChars, 0);
-    if (nextLetters) {
-        env->ReleaseIntArrayElements(nextLettersArray, nextLetters, 0);
+static int latinime_BinaryDictionary_getSuggestions(
+        JNIEnv *env, jobject object, jlong sessionPtr, jint codesSize, jint maxWordLength,
+        jint maxWords, jint maxAlternatives, jboolean allowMissedCharacters,
+        jint nextLettersSize)
+{
+    Session *session = (Session*) sessionPtr;
+    if (session == NULL) return 0;
+
+    memset(session->frequencies, 0, maxWords * sizeof(session->frequencies[0]));
+    memset(session->outputChars, 0, maxWords * maxWordLength * sizeof(session->outputChars[0]));
+    // Counted in the session's buffer, the caller adds them to its own counts.
+    int *nextLetters = nextLettersSize > 0 ? session->nextLetters : NULL;
+    if (nextLetters != NULL) memset(nextLetters, 0, nextLettersSize * sizeof(nextLetters[0]));
+
+    int count = session->dictionary->getSuggestions(session->codes, codesSize,
+            session->outputChars, session->frequencies, maxWordLength, maxWords,
+            maxAlternatives, -1, nextLetters, nextLetters != NULL ? nextLettersSize : 0);
+
+    // If there aren't sufficient suggestions, search for words by allowing wild cards at
+    // the different character positions. This feature is not ready for prime-time as we need
+    // to figure out the best ranking for such words compared to proximity corrections and
+    // completions.
+    if (allowMissedCharacters && count < MIN_SUGGESTIONS_WITHOUT_SKIPPING) {
+        for (int skip = 0; skip < codesSize; skip++) {
+            int tempCount = session->dictionary->getSuggestions(session->codes, codesSize,
+                    session->outputChars, session->frequencies, maxWordLength, maxWords,
+                    maxAlternatives, skip, NULL, 0);
+            if (tempCount > count) count = tempCount;
+            if (tempCount > 0) break;
+        }
     }
-
     return count;
 }
 
 static int latinime_BinaryDictionary_getBigrams
-        (JNIEnv *env, jobject object, jlong dict, jcharArray prevWordArray, jint prevWordLength,
-         jintArray inputArray, jint inputArraySize, jcharArray outputArray,
-         jintArray frequencyArray, jint maxWordLength, jint maxBigrams, jint maxAlternatives)
+        (JNIEnv *env, jobject object, jlong sessionPtr, jint prevWordLength, jint codesSize,
+         jint maxWordLength, jint maxBigrams, jint maxAlternatives)
 {
-    Dictionary *dictionary = (Dictionary*) dict;
-    if (dictionary == NULL) return 0;
-
-    jchar *prevWord = env->GetCharArrayElements(prevWordArray, NULL);
-    int *inputCodes = env->GetIntArrayElements(inputArray, NULL);
-    jchar *outputChars = env->GetCharArrayElements(outputArray, NULL);
-    int *frequencies = env->GetIntArrayElements(frequencyArray, NULL);
-
-    int count = dictionary->getBigrams((unsigned short*) prevWord, prevWordLength, inputCodes,
-            inputArraySize, (unsigned short*) outputChars, frequencies, maxWordLength, maxBigrams,
+    Session *session = (Session*) sessionPtr;
+    if (session == NULL) return 0;
+
+    memset(session->frequencies, 0, maxBigrams * sizeof(session->frequencies[0]));
+    memset(session->outputChars, 0,
+            maxBigrams * maxWordLength * sizeof(session->outputChars[0]));
+    return session->dictionary->getBigrams(session->word, prevWordLength, session->codes,
+            codesSize, session->outputChars, session->frequencies, maxWordLength, maxBigrams,
             maxAlternatives);
-
-    env->ReleaseCharArrayElements(prevWordArray, prevWord, JNI_ABORT);
-    env->ReleaseIntArrayElements(inputArray, inputCodes, JNI_ABORT);
-    env->ReleaseCharArrayElements(outputArray, outputChars, 0);
-    env->ReleaseIntArrayElements(frequencyArray, frequencies, 0);
-
-    return count;
 }
 
-
 static jboolean latinime_BinaryDictionary_isValidWord
-        (JNIEnv *env, jobject object, jlong dict, jcharArray wordArray, jint wordLength)
+        (JNIEnv *env, jobject object, jlong sessionPtr, jint wordLength)
 {
-    Dictionary *dictionary = (Dictionary*) dict;
-    if (dictionary == NULL) return (jboolean) false;
+    Session *session = (Session*) sessionPtr;
+    if (session == NULL) return (jboolean) false;
+    return session->dictionary->isValidWord(session->word, wordLength);
+}
 
-    jchar *word = env->GetCharArrayElements(wordArray, NULL);
-    jboolean result = dictionary->isValidWord((unsigned short*) word, wordLength);
-    env->ReleaseCharArrayElements(wordArray, word, JNI_ABORT);
+static void latinime_BinaryDictionary_getFrequencies
+        (JNIEnv *env, jobject object, jlong sessionPtr, jcharArray charsArray,
+         jintArray lengthsArray, jint count, jintArray frequencyArray)
+{
+    Session *session = (Session*) sessionPtr;
+    if (session == NULL) return;
 
-    return result;
+    jchar *chars = env->GetCharArrayElements(charsArray, NULL);
+    int *lengths = env->GetIntArrayElements(lengthsArray, NULL);
+    int *frequencies = env->GetIntArrayElements(frequencyArray, NULL);
+
+    unsigned short *word = (unsigned short*) chars;
+    for (int i = 0; i < count; i++) {
+        frequencies[i] = session->dictionary->getFrequency(word, lengths[i]);
+        word += lengths[i];
+    }
+
+    env->ReleaseCharArrayElements(charsArray, chars, JNI_ABORT);
+    env->ReleaseIntArrayElements(lengthsArray, lengths, JNI_ABORT);
+    env->ReleaseIntArrayElements(frequencyArray, frequencies, 0);
 }
 
 static void latinime_BinaryDictionary_close
@@ -132,10 +196,14 @@ static void latinime_BinaryDictionary_close
 static JNINativeMethod gMethods[] = {
     {"openNative",           "(Ljava/nio/ByteBuffer;III)J",
                                           (void*)latinime_BinaryDictionary_open},
+    {"openSessionNative",    "(JLjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;Ljava/nio/ByteBuffer;Ljava/nio/ByteBuffer;Ljava/nio/ByteBuffer;)J",
+                                          (void*)latinime_BinaryDictionary_openSession},
+    {"closeSessionNative",   "(J)V",            (void*)latinime_BinaryDictionary_closeSession},
     {"closeNative",          "(J)V",            (void*)latinime_BinaryDictionary_close},
-    {"getSuggestionsNative", "(J[II[C[IIIII[II)I",  (void*)latinime_BinaryDictionary_getSuggestions},
-    {"isValidWordNative",    "(J[CI)Z",         (void*)latinime_BinaryDictionary_isValidWord},
-    {"getBigramsNative",    "(J[CI[II[C[IIII)I",         (void*)latinime_BinaryDictionary_getBigrams}
+    {"getSuggestionsNative", "(JIIIIZI)I",      (void*)latinime_BinaryDictionary_getSuggestions},
+    {"isValidWordNative",    "(JI)Z",           (void*)latinime_BinaryDictionary_isValidWord},
+    {"getFrequenciesNative", "(J[C[II[I)V",     (void*)latinime_BinaryDictionary_getFrequencies},
+    {"getBigramsNative",     "(JIIIII)I",       (void*)latinime_BinaryDictionary_getBigrams}
 };
 
 static int registerNativeMethods(JNIEnv* env, const char* className,
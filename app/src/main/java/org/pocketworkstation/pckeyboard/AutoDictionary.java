@@ -56,6 +56,11 @@ public class AutoDictionary extends ExpandableDictionary {
     private HashMap<String,Integer> mPendingWrites = new HashMap<String,Integer>();
     private final Object mPendingWritesLock = new Object();
 
+    // Learned words are kept in this LearnedWordStore. The database is only read to
+    // migrate older data, and written to if the store can't be created.
+    private static final String STORE_NAME = "auto";
+    private final LearnedWordStore mStore;
+
     private static final String DATABASE_NAME = "auto_dict.db";
     private static final int DATABASE_VERSION = 1;
 
@@ -89,11 +94,19 @@ public class AutoDictionary extends ExpandableDictionary {
         super(context, dicTypeId);
         mIme = ime;
         mLocale = locale;
-        if (sOpenHelper == null) {
-            sOpenHelper = new DatabaseHelper(getContext());
+        // The dictionaries of the next locale are created in the background.
+        synchronized (AutoDictionary.class) {
+            if (sOpenHelper == null) {
+                sOpenHelper = new DatabaseHelper(getContext());
+            }
         }
         if (mLocale != null && mLocale.length() > 1) {
-            loadDictionary();
+            mStore = LearnedWordStore.get(getContext(), STORE_NAME, mLocale);
+            if (mStore == null || !mStore.load(this)) {
+                loadDictionary();
+            }
+        } else {
+            mStore = null;
         }
     }
 
@@ -103,6 +116,14 @@ public class AutoDictionary extends ExpandableDictionary {
         return frequency >= VALIDITY_THRESHOLD;
     }
 
+    @Override
+    public void getValidFrequencies(CharSequence[] words, int count, int[] frequencies) {
+        for (int i = 0; i < count; i++) {
+            final int frequency = getWordFrequency(words[i]);
+            frequencies[i] = frequency >= VALIDITY_THRESHOLD ? frequency : -1;
+        }
+    }
+
     @Override
     public void close() {
         flushPendingWrites();
@@ -116,6 +137,7 @@ public class AutoDictionary extends ExpandableDictionary {
     @Override
     public void loadDictionaryAsync() {
         // Load the words that correspond to the current input locale
+        LearnedWordStore.Batch migration = new LearnedWordStore.Batch();
         Cursor cursor = query(COLUMN_LOCALE + "=?", new String[] { mLocale });
         try {
             if (cursor.moveToFirst()) {
@@ -128,6 +150,7 @@ public class AutoDictionary extends ExpandableDictionary {
                     // to recursive lookup
                     if (word.length() < getMaxWordLength()) {
                         super.addWord(word, frequency);
+                        migration.putWord(word, frequency);
                     }
                     cursor.moveToNext();
                 }
@@ -135,6 +158,8 @@ public class AutoDictionary extends ExpandableDictionary {
         } finally {
             cursor.close();
         }
+        // Only called for the store if it has no data yet.
+        if (mStore != null) mStore.migrate(migration);
     }
 
     @Override
@@ -169,7 +194,16 @@ public class AutoDictionary extends ExpandableDictionary {
             // Nothing pending? Return
             if (mPendingWrites.isEmpty()) return;
             // Create a background thread to write the pending entries
-            new UpdateDbTask(getContext(), sOpenHelper, mPendingWrites, mLocale).execute();
+            if (mStore != null) {
+                LearnedWordStore.Batch batch = new LearnedWordStore.Batch();
+                for (Entry<String, Integer> entry : mPendingWrites.entrySet()) {
+                    Integer freq = entry.getValue();
+                    batch.putWord(entry.getKey(), freq == null ? 0 : freq);
+                }
+                mStore.commitAsync(batch);
+            } else {
+                new UpdateDbTask(getContext(), sOpenHelper, mPendingWrites, mLocale).execute();
+            }
             // Create a new map for writing new entries into while the old one is written to db
             mPendingWrites = new HashMap<String, Integer>();
         }
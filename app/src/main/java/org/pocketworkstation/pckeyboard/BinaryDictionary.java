@@ -16,18 +16,31 @@
 
 package org.pocketworkstation.pckeyboard;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+import android.os.SystemClock;
 import android.util.Log;
 
 /**
  * Implements a static, compacted, binary dictionary of standard words.
+ *
+ * <p>
+ * Lookups may come from several threads at once. Each one uses a session, which has its own
+ * buffers and native search state but shares the loaded dictionary with the others.
  */
 public class BinaryDictionary extends Dictionary {
 
@@ -43,18 +56,95 @@ public class BinaryDictionary extends Dictionary {
     private static final int MAX_ALTERNATIVES = 16;
     private static final int MAX_WORDS = 18;
     private static final int MAX_BIGRAMS = 60;
+    private static final int MAX_RESULTS = Math.max(MAX_WORDS, MAX_BIGRAMS);
+    // Same as Suggest's next letter counts, larger chars aren't counted.
+    private static final int MAX_NEXT_LETTERS = 1280;
+    private static final int[] NO_CODES = new int[MAX_ALTERNATIVES];
 
     private static final int TYPED_LETTER_MULTIPLIER = 2;
     private static final boolean ENABLE_MISSED_CHARACTERS = true;
 
+    // Dictionary formats, see dictionary.h. Version 2 files start with a version byte of
+    // 200 or more, version 3 files with a 32-bit magic number.
+    static final int FORMAT_VERSION_1 = 1;
+    static final int FORMAT_VERSION_2 = 2;
+    static final int FORMAT_VERSION_3 = 3;
+    private static final int FORMAT_2_MIN_VERSION = 200;
+    private static final int FORMAT_3_MAGIC = 0x9BC13AFE;
+
+    /**
+     * The state of one lookup. A session is only used by one thread at a time, and is kept
+     * for reuse afterwards so that the native side can continue from the partial matches
+     * of the previous query.
+     *
+     * <p>
+     * Queries and results are exchanged through direct buffers whose addresses the native
+     * side looks up once, so a call doesn't have to pin or copy any arrays. Unigram and
+     * bigram lookups use the same result slots.
+     */
+    private static class Session {
+        long mNative;
+        final ByteBuffer mCodesBuffer = allocate(MAX_WORD_LENGTH * MAX_ALTERNATIVES * 4);
+        final ByteBuffer mFrequenciesBuffer = allocate(MAX_RESULTS * 4);
+        final ByteBuffer mWordBuffer = allocate(MAX_WORD_LENGTH * 2);
+        final ByteBuffer mOutputBuffer = allocate(MAX_RESULTS * MAX_WORD_LENGTH * 2);
+        final ByteBuffer mNextLettersBuffer = allocate(MAX_NEXT_LETTERS * 4);
+        final IntBuffer mCodes = mCodesBuffer.asIntBuffer();
+        final IntBuffer mFrequencies = mFrequenciesBuffer.asIntBuffer();
+        final CharBuffer mWord = mWordBuffer.asCharBuffer();
+        final CharBuffer mOutput = mOutputBuffer.asCharBuffer();
+        final IntBuffer mNextLetters = mNextLettersBuffer.asIntBuffer();
+        // The found words, copied out of mOutput for the callback.
+        final char[] mOutputChars = new char[MAX_RESULTS * MAX_WORD_LENGTH];
+        // The next letter counts of a search, copied out of mNextLetters to be added up.
+        final int[] mNextLettersCounts = new int[MAX_NEXT_LETTERS];
+
+        private static ByteBuffer allocate(int bytes) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+
+        /**
+         * Puts word into the word buffer. Returns false if it's too long.
+         */
+        boolean setWord(CharSequence word) {
+            final int length = word.length();
+            if (length > MAX_WORD_LENGTH) return false;
+            mWord.clear();
+            for (int i = 0; i < length; i++) {
+                mWord.put(word.charAt(i));
+            }
+            return true;
+        }
+
+        /**
+         * Puts the typed codes at index into the codes buffer.
+         */
+        void setCodes(int index, int[] alternatives) {
+            final int count = Math.min(alternatives.length, MAX_ALTERNATIVES);
+            mCodes.position(index * MAX_ALTERNATIVES);
+            mCodes.put(alternatives, 0, count);
+            mCodes.put(NO_CODES, 0, MAX_ALTERNATIVES - count);
+        }
+
+        /**
+         * Adds the first size counts of the next letters buffer to nextLetters.
+         */
+        void addNextLetters(int[] nextLetters, int size) {
+            mNextLetters.position(0);
+            mNextLetters.get(mNextLettersCounts, 0, size);
+            for (int i = 0; i < size; i++) {
+                nextLetters[i] += mNextLettersCounts[i];
+            }
+        }
+    }
+
     private int mDicTypeId;
     private long mNativeDict;
     private int mDictLength;
-    private int[] mInputCodes = new int[MAX_WORD_LENGTH * MAX_ALTERNATIVES];
-    private char[] mOutputChars = new char[MAX_WORD_LENGTH * MAX_WORDS];
-    private char[] mOutputChars_bigrams = new char[MAX_WORD_LENGTH * MAX_BIGRAMS];
-    private int[] mFrequencies = new int[MAX_WORDS];
-    private int[] mFrequencies_bigrams = new int[MAX_BIGRAMS];
+    // Sessions not in use, the most recently released one last. Guarded by this.
+    private final ArrayList<Session> mIdleSessions = new ArrayList<Session>();
+    private int mActiveSessions;
+    private boolean mClosed;
     // Keep a reference to the native dict direct buffer in Java to avoid
     // unexpected deallocation of the direct buffer.
     private ByteBuffer mNativeDictDirectBuffer;
@@ -80,6 +170,19 @@ public class BinaryDictionary extends Dictionary {
         mDicTypeId = dicTypeId;
     }
 
+    /**
+     * Create a dictionary by memory-mapping a file. The pages are loaded on demand and
+     * shared with the page cache instead of being copied into a private buffer.
+     * @param context application context for reading resources
+     * @param file the file containing the raw binary dictionary
+     */
+    public BinaryDictionary(Context context, File file, int dicTypeId) {
+        if (file != null) {
+            loadDictionary(file);
+        }
+        mDicTypeId = dicTypeId;
+    }
+
     /**
      * Create a dictionary from input streams
      * @param context application context for reading resources
@@ -107,24 +210,54 @@ public class BinaryDictionary extends Dictionary {
                 mNativeDictDirectBuffer.put(byteBuffer);
             }
             mDictLength = byteBuffer.capacity();
-            mNativeDict = openNative(mNativeDictDirectBuffer,
-                    TYPED_LETTER_MULTIPLIER, FULL_WORD_FREQ_MULTIPLIER, mDictLength);
+            openNativeDictionary(mDictLength);
         }
         mDicTypeId = dicTypeId;
     }
 
     private native long openNative(ByteBuffer bb, int typedLetterMultiplier,
             int fullWordMultiplier, int dictSize);
+    private native long openSessionNative(long dict, ByteBuffer codes, ByteBuffer frequencies,
+            ByteBuffer word, ByteBuffer outputChars, ByteBuffer nextLetters);
+    private native void closeSessionNative(long session);
     private native void closeNative(long dict);
-    private native boolean isValidWordNative(long nativeData, char[] word, int wordLength);
-    private native int getSuggestionsNative(long dict, int[] inputCodes, int codesSize,
-            char[] outputChars, int[] frequencies, int maxWordLength, int maxWords,
-            int maxAlternatives, int skipPos, int[] nextLettersFrequencies, int nextLettersSize);
-    private native int getBigramsNative(long dict, char[] prevWord, int prevWordLength,
-            int[] inputCodes, int inputCodesLength, char[] outputChars, int[] frequencies,
+    private native boolean isValidWordNative(long session, int wordLength);
+    private native void getFrequenciesNative(long session, char[] chars, int[] lengths,
+            int count, int[] frequencies);
+    private native int getSuggestionsNative(long session, int codesSize, int maxWordLength,
+            int maxWords, int maxAlternatives, boolean allowMissedCharacters,
+            int nextLettersSize);
+    private native int getBigramsNative(long session, int prevWordLength, int codesSize,
             int maxWordLength, int maxBigrams, int maxAlternatives);
 
+    /**
+     * Returns the format of the dictionary in the buffer, one of the FORMAT_VERSION_*
+     * values.
+     */
+    static int getFormatVersion(ByteBuffer dict) {
+        if (dict.capacity() >= 4
+                && dict.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(0) == FORMAT_3_MAGIC) {
+            return FORMAT_VERSION_3;
+        }
+        if (dict.capacity() >= 2 && (dict.get(0) & 0xFF) >= FORMAT_2_MIN_VERSION) {
+            return FORMAT_VERSION_2;
+        }
+        return FORMAT_VERSION_1;
+    }
+
+    private void openNativeDictionary(int length) {
+        final int format = getFormatVersion(mNativeDictDirectBuffer);
+        mNativeDict = openNative(mNativeDictDirectBuffer,
+                TYPED_LETTER_MULTIPLIER, FULL_WORD_FREQ_MULTIPLIER, length);
+        if (mNativeDict == 0) {
+            Log.w(TAG, "Could not open dictionary, format " + format + ", len=" + length);
+        } else if (length > 10000) {
+            Log.i("PCKeyboard", "Opened dictionary, format " + format);
+        }
+    }
+
     private final void loadDictionary(InputStream[] is) {
+        long startTime = SystemClock.uptimeMillis();
         try {
             // merging separated dictionary into one if dictionary is separated
             int total = 0;
@@ -142,11 +275,11 @@ public class BinaryDictionary extends Dictionary {
             if (got != total) {
                 Log.e(TAG, "Read " + got + " bytes, expected " + total);
             } else {
-                mNativeDict = openNative(mNativeDictDirectBuffer,
-                        TYPED_LETTER_MULTIPLIER, FULL_WORD_FREQ_MULTIPLIER, total);
+                openNativeDictionary(total);
                 mDictLength = total;
             }
-            if (mDictLength > 10000) Log.i("PCKeyboard", "Loaded dictionary, len=" + mDictLength);
+            if (mDictLength > 10000) Log.i("PCKeyboard", "Loaded dictionary, len=" + mDictLength
+                    + ", copied in " + (SystemClock.uptimeMillis() - startTime) + "ms");
         } catch (IOException e) {
             Log.w(TAG, "No available memory for binary dictionary");
         } catch (UnsatisfiedLinkError e) {
@@ -165,45 +298,104 @@ public class BinaryDictionary extends Dictionary {
     }
     
     private final void loadDictionary(Context context, int[] resId) {
+        Resources res = context.getResources();
+        // A single uncompressed resource can be mapped in place from the APK. Multi-part
+        // dictionaries need to be concatenated, so they still go through the copy path.
+        if (resId.length == 1) {
+            AssetFileDescriptor afd = null;
+            try {
+                afd = res.openRawResourceFd(resId[0]);
+            } catch (Resources.NotFoundException e) {
+                // Compressed in the APK, can't be mapped.
+            }
+            if (afd != null) {
+                FileInputStream in = null;
+                try {
+                    in = new FileInputStream(afd.getFileDescriptor());
+                    if (loadMappedDictionary(in.getChannel(), afd.getStartOffset(),
+                            afd.getLength())) {
+                        return;
+                    }
+                } finally {
+                    try {
+                        if (in != null) in.close();
+                        afd.close();
+                    } catch (IOException e) {
+                        Log.w(TAG, "Failed to close dictionary file descriptor");
+                    }
+                }
+            }
+        }
         InputStream[] is = null;
         is = new InputStream[resId.length];
         for (int i = 0; i < resId.length; i++) {
-            is[i] = context.getResources().openRawResource(resId[i]);
+            is[i] = res.openRawResource(resId[i]);
         }
         loadDictionary(is);
     }
 
+    private final void loadDictionary(File file) {
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            loadMappedDictionary(in.getChannel(), 0, file.length());
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to open dictionary file " + file);
+        } finally {
+            try {
+                if (in != null) in.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close dictionary file");
+            }
+        }
+    }
+
+    /**
+     * Maps a region of a file read-only and hands the mapping to the native code. The
+     * mapping stays valid after the channel is closed.
+     * @return true if the dictionary was opened
+     */
+    private final boolean loadMappedDictionary(FileChannel channel, long offset, long length) {
+        if (length <= 0 || length > Integer.MAX_VALUE) return false;
+        long startTime = SystemClock.uptimeMillis();
+        try {
+            mNativeDictDirectBuffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            openNativeDictionary((int) length);
+            mDictLength = (int) length;
+            if (mDictLength > 10000) Log.i("PCKeyboard", "Loaded dictionary, len=" + mDictLength
+                    + ", mapped in " + (SystemClock.uptimeMillis() - startTime) + "ms");
+            return true;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to map dictionary", e);
+        } catch (UnsatisfiedLinkError e) {
+            Log.w(TAG, "Failed to load native dictionary", e);
+        }
+        mNativeDictDirectBuffer = null;
+        return false;
+    }
+
 
     @Override
     public void getBigrams(final WordComposer codes, final CharSequence previousWord,
             final WordCallback callback, int[] nextLettersFrequencies) {
 
-        char[] chars = previousWord.toString().toCharArray();
-        Arrays.fill(mOutputChars_bigrams, (char) 0);
-        Arrays.fill(mFrequencies_bigrams, 0);
-
-        int codesSize = codes.size();
-        Arrays.fill(mInputCodes, -1);
-        int[] alternatives = codes.getCodesAt(0);
-        System.arraycopy(alternatives, 0, mInputCodes, 0,
-                Math.min(alternatives.length, MAX_ALTERNATIVES));
+        final Session session = acquireSession();
+        if (session == null) return;
+        try {
+            getBigrams(session, codes, previousWord, callback);
+        } finally {
+            releaseSession(session);
+        }
+    }
 
-        int count = getBigramsNative(mNativeDict, chars, chars.length, mInputCodes, codesSize,
-                mOutputChars_bigrams, mFrequencies_bigrams, MAX_WORD_LENGTH, MAX_BIGRAMS,
-                MAX_ALTERNATIVES);
+    private void getBigrams(final Session session, final WordComposer codes,
+            final CharSequence previousWord, final WordCallback callback) {
+        if (!session.setWord(previousWord)) return;
+        session.setCodes(0, codes.getCodesAt(0));
 
-        for (int j = 0; j < count; j++) {
-            if (mFrequencies_bigrams[j] < 1) break;
-            int start = j * MAX_WORD_LENGTH;
-            int len = 0;
-            while (mOutputChars_bigrams[start + len] != 0) {
-                len++;
-            }
-            if (len > 0) {
-                callback.addWord(mOutputChars_bigrams, start, len, mFrequencies_bigrams[j],
-                        mDicTypeId, DataType.BIGRAM);
-            }
-        }
+        int count = getBigramsNative(session.mNative, previousWord.length(), codes.size(),
+                MAX_WORD_LENGTH, MAX_BIGRAMS, MAX_ALTERNATIVES);
+        addResults(session, Math.min(count, MAX_BIGRAMS), DataType.BIGRAM, callback);
     }
 
     @Override
@@ -213,58 +405,137 @@ public class BinaryDictionary extends Dictionary {
         // Won't deal with really long words.
         if (codesSize > MAX_WORD_LENGTH - 1) return;
 
-        Arrays.fill(mInputCodes, -1);
-        for (int i = 0; i < codesSize; i++) {
-            int[] alternatives = codes.getCodesAt(i);
-            System.arraycopy(alternatives, 0, mInputCodes, i * MAX_ALTERNATIVES,
-                    Math.min(alternatives.length, MAX_ALTERNATIVES));
+        final Session session = acquireSession();
+        if (session == null) return;
+        try {
+            getWords(session, codes, callback, nextLettersFrequencies);
+        } finally {
+            releaseSession(session);
         }
-        Arrays.fill(mOutputChars, (char) 0);
-        Arrays.fill(mFrequencies, 0);
-
-        if (mNativeDict == 0)
-            return;
-
-        int count = getSuggestionsNative(mNativeDict, mInputCodes, codesSize,
-                mOutputChars, mFrequencies,
-                MAX_WORD_LENGTH, MAX_WORDS, MAX_ALTERNATIVES, -1,
-                nextLettersFrequencies,
-                nextLettersFrequencies != null ? nextLettersFrequencies.length : 0);
-
-        // If there aren't sufficient suggestions, search for words by allowing wild cards at
-        // the different character positions. This feature is not ready for prime-time as we need
-        // to figure out the best ranking for such words compared to proximity corrections and
-        // completions.
-        if (ENABLE_MISSED_CHARACTERS && count < 5) {
-            for (int skip = 0; skip < codesSize; skip++) {
-                int tempCount = getSuggestionsNative(mNativeDict, mInputCodes, codesSize,
-                        mOutputChars, mFrequencies,
-                        MAX_WORD_LENGTH, MAX_WORDS, MAX_ALTERNATIVES, skip,
-                        null, 0);
-                count = Math.max(count, tempCount);
-                if (tempCount > 0) break;
-            }
+    }
+
+    private void getWords(final Session session, final WordComposer codes,
+            final WordCallback callback, int[] nextLettersFrequencies) {
+        final int codesSize = codes.size();
+        for (int i = 0; i < codesSize; i++) {
+            session.setCodes(i, codes.getCodesAt(i));
         }
 
+        // Retries with missing characters, if needed, happen in the same native call. The
+        // next letters are counted in the session's buffer, and only added up afterwards.
+        final int nextLettersSize = nextLettersFrequencies != null
+                ? Math.min(nextLettersFrequencies.length, MAX_NEXT_LETTERS) : 0;
+        int count = getSuggestionsNative(session.mNative, codesSize, MAX_WORD_LENGTH,
+                MAX_WORDS, MAX_ALTERNATIVES, ENABLE_MISSED_CHARACTERS, nextLettersSize);
+        if (nextLettersSize > 0) session.addNextLetters(nextLettersFrequencies, nextLettersSize);
+        addResults(session, count, DataType.UNIGRAM, callback);
+    }
+
+    /**
+     * Passes the first count results in the session's buffers to the callback.
+     */
+    private void addResults(final Session session, int count, final DataType dataType,
+            final WordCallback callback) {
+        if (count <= 0) return;
+        final char[] outputChars = session.mOutputChars;
+        session.mOutput.position(0);
+        session.mOutput.get(outputChars, 0, count * MAX_WORD_LENGTH);
         for (int j = 0; j < count; j++) {
-            if (mFrequencies[j] < 1) break;
+            final int frequency = session.mFrequencies.get(j);
+            if (frequency < 1) break;
             int start = j * MAX_WORD_LENGTH;
             int len = 0;
-            while (mOutputChars[start + len] != 0) {
+            while (len < MAX_WORD_LENGTH && outputChars[start + len] != 0) {
                 len++;
             }
             if (len > 0) {
-                callback.addWord(mOutputChars, start, len, mFrequencies[j], mDicTypeId,
-                        DataType.UNIGRAM);
+                callback.addWord(outputChars, start, len, frequency, mDicTypeId, dataType);
             }
         }
     }
 
     @Override
     public boolean isValidWord(CharSequence word) {
-        if (word == null || mNativeDict == 0) return false;
-        char[] chars = word.toString().toCharArray();
-        return isValidWordNative(mNativeDict, chars, chars.length);
+        if (word == null) return false;
+        final Session session = acquireSession();
+        if (session == null) return false;
+        try {
+            if (!session.setWord(word)) return false;
+            return isValidWordNative(session.mNative, word.length());
+        } finally {
+            releaseSession(session);
+        }
+    }
+
+    /**
+     * Looks up all words in a single native call.
+     */
+    @Override
+    public void getValidFrequencies(CharSequence[] words, int count, int[] frequencies) {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            if (words[i] != null && words[i].length() <= MAX_WORD_LENGTH) {
+                total += words[i].length();
+            }
+        }
+        final char[] chars = new char[total];
+        final int[] lengths = new int[count];
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            final CharSequence word = words[i];
+            if (word == null || word.length() > MAX_WORD_LENGTH) continue;
+            final int length = word.length();
+            for (int j = 0; j < length; j++) {
+                chars[pos++] = word.charAt(j);
+            }
+            lengths[i] = length;
+        }
+
+        Arrays.fill(frequencies, 0, count, -1);
+        final Session session = acquireSession();
+        if (session == null) return;
+        try {
+            getFrequenciesNative(session.mNative, chars, lengths, count, frequencies);
+        } finally {
+            releaseSession(session);
+        }
+    }
+
+    /**
+     * Returns an idle session, or a new one if all are in use. Returns null if the
+     * dictionary isn't open.
+     */
+    private synchronized Session acquireSession() {
+        if (mNativeDict == 0 || mClosed) return null;
+        final int idle = mIdleSessions.size();
+        if (idle > 0) {
+            mActiveSessions++;
+            return mIdleSessions.remove(idle - 1);
+        }
+        final Session session = new Session();
+        session.mNative = openSessionNative(mNativeDict, session.mCodesBuffer,
+                session.mFrequenciesBuffer, session.mWordBuffer, session.mOutputBuffer,
+                session.mNextLettersBuffer);
+        if (session.mNative == 0) return null;
+        mActiveSessions++;
+        return session;
+    }
+
+    private synchronized void releaseSession(Session session) {
+        mActiveSessions--;
+        if (mClosed) {
+            closeSessionNative(session.mNative);
+            if (mActiveSessions == 0) closeNativeDictionary();
+        } else {
+            mIdleSessions.add(session);
+        }
+    }
+
+    private void closeNativeDictionary() {
+        if (mNativeDict != 0) {
+            closeNative(mNativeDict);
+            mNativeDict = 0;
+        }
     }
 
     public int getSize() {
@@ -273,10 +544,13 @@ public class BinaryDictionary extends Dictionary {
 
     @Override
     public synchronized void close() {
-        if (mNativeDict != 0) {
-            closeNative(mNativeDict);
-            mNativeDict = 0;
+        mClosed = true;
+        for (Session session : mIdleSessions) {
+            closeSessionNative(session.mNative);
         }
+        mIdleSessions.clear();
+        // Sessions still in use need the dictionary, the last one to finish closes it.
+        if (mActiveSessions == 0) closeNativeDictionary();
     }
 
     @Override
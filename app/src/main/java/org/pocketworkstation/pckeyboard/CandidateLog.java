@@ -0,0 +1,79 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.util.Arrays;
+
+/**
+ * Records the words a dictionary reports so that they can be passed on to another callback
+ * later, in the same order. This lets several dictionaries be searched at the same time
+ * while the final list is built exactly as if they had been searched one after another.
+ * Each log also has its own next letter counts, which are added up afterwards.
+ */
+class CandidateLog implements Dictionary.WordCallback {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] mChars = new char[INITIAL_CAPACITY * 8];
+    private int[] mOffsets = new int[INITIAL_CAPACITY];
+    private int[] mLengths = new int[INITIAL_CAPACITY];
+    private int[] mFrequencies = new int[INITIAL_CAPACITY];
+    private int[] mDicTypeIds = new int[INITIAL_CAPACITY];
+    private Dictionary.DataType[] mDataTypes = new Dictionary.DataType[INITIAL_CAPACITY];
+    private int mSize;
+    private int mCharCount;
+
+    private final int[] mNextLettersFrequencies;
+
+    CandidateLog(int nextLettersSize) {
+        mNextLettersFrequencies = new int[nextLettersSize];
+    }
+
+    void clear() {
+        mSize = 0;
+        mCharCount = 0;
+        Arrays.fill(mNextLettersFrequencies, 0);
+    }
+
+    int[] getNextLettersFrequencies() {
+        return mNextLettersFrequencies;
+    }
+
+    public boolean addWord(char[] word, int wordOffset, int wordLength, int frequency,
+            int dicTypeId, Dictionary.DataType dataType) {
+        if (mSize == mOffsets.length) {
+            final int capacity = mSize * 2;
+            mOffsets = Arrays.copyOf(mOffsets, capacity);
+            mLengths = Arrays.copyOf(mLengths, capacity);
+            mFrequencies = Arrays.copyOf(mFrequencies, capacity);
+            mDicTypeIds = Arrays.copyOf(mDicTypeIds, capacity);
+            mDataTypes = Arrays.copyOf(mDataTypes, capacity);
+        }
+        if (mCharCount + wordLength > mChars.length) {
+            mChars = Arrays.copyOf(mChars, Math.max(mChars.length * 2, mCharCount + wordLength));
+        }
+        System.arraycopy(word, wordOffset, mChars, mCharCount, wordLength);
+        mOffsets[mSize] = mCharCount;
+        mLengths[mSize] = wordLength;
+        mFrequencies[mSize] = frequency;
+        mDicTypeIds[mSize] = dicTypeId;
+        mDataTypes[mSize] = dataType;
+        mCharCount += wordLength;
+        mSize++;
+        return true;
+    }
+
+    /**
+     * Passes the recorded words on to the callback, and adds the next letter counts to
+     * nextLettersFrequencies.
+     */
+    void replay(Dictionary.WordCallback callback, int[] nextLettersFrequencies) {
+        for (int i = 0; i < mSize; i++) {
+            if (!callback.addWord(mChars, mOffsets[i], mLengths[i], mFrequencies[i],
+                    mDicTypeIds[i], mDataTypes[i])) {
+                break;
+            }
+        }
+        final int count = Math.min(nextLettersFrequencies.length, mNextLettersFrequencies.length);
+        for (int i = 0; i < count; i++) {
+            nextLettersFrequencies[i] += mNextLettersFrequencies[i];
+        }
+    }
+}
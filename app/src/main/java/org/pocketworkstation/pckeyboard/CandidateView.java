@@ -211,6 +211,7 @@ public class CandidateView extends View {
     protected void onDraw(Canvas canvas) {
         if (canvas != null) {
             super.onDraw(canvas);
+            LatencyTracker.onDraw();
         }
         mTotalWidth = 0;
         
@@ -320,6 +321,7 @@ public class CandidateView extends View {
     
     public void setSuggestions(List<CharSequence> suggestions, boolean completions,
             boolean typedWordValid, boolean haveMinimalSuggestion) {
+        LatencyTracker.onSetSuggestions();
         clear();
         if (suggestions != null) {
             int insertCount = Math.min(suggestions.size(), MAX_SUGGESTIONS);
@@ -0,0 +1,769 @@
+package org.pocketworkstation.pckeyboard;
+
+// Generated by tools/casefold/gen_case_fold.py from Unicode 14.0.0, do not edit.
+
+/**
+ * Folds a char for dictionary lookups: strips accents and other marks, and
+ * lowercases. The native dictionary uses the same table, see case_fold_table.h.
+ */
+final class CaseFoldTable {
+    // Page of each high byte, and the difference to the folded char for each
+    // low byte in the page.
+    private static final char[] INDEX = (
+            "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0007\u0008\u0009\n"
+            + "\u000b\u000c\u0007\r\u000e\u0007\u0007\u000f\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0010\u0011\u0007\u0012\u0013\u0014\u0015\u0016\u0017"
+            + "\u0018\u0007\u0007\u0007\u0007\u0007\u0019\u0007\u001a\u0007\u0007\u0007"
+            + "\u001b\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u001c\u001d"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007"
+            + "\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u0007\u001e\u001f\u0020"
+            + "\u0007\u0007\u0007\u0021").toCharArray();
+    private static final char[] PAGES = (
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uff80\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uff78\u0000\uffb7\u0000\u0000\u0000\u0000\uff71\u0000\u0000\uff80\uff80"
+            + "\uff6c\u0307\u0000\u0000\uff68\uff78\uffb5\u0000\uff75\uff74\uff75\u0000"
+            + "\uffa1\uffa0\uff9f\uff9e\uff9d\uff9c\u0020\uff9c\uff9d\uff9c\uff9b\uff9a"
+            + "\uff9d\uff9c\uff9b\uff9a\u0020\uff9d\uff9d\uff9c\uff9b\uff9a\uff99\u0000"
+            + "\uff97\uff9c\uff9b\uff9a\uff99\uff9c\u0020\uff94\uff81\uff80\uff7f\uff7e"
+            + "\uff7d\uff7c\u0000\uff7c\uff7d\uff7c\uff7b\uff7a\uff7d\uff7c\uff7b\uff7a"
+            + "\u0000\uff7d\uff7d\uff7c\uff7b\uff7a\uff79\u0000\uff77\uff7c\uff7b\uff7a"
+            + "\uff79\uff7c\u0000\uff7a\uff61\uff60\uff5f\uff5e\uff5d\uff5c\uff5d\uff5c"
+            + "\uff5b\uff5a\uff59\uff58\uff57\uff56\uff56\uff55\u0001\u0000\uff53\uff52"
+            + "\uff51\uff50\uff4f\uff4e\uff4d\uff4c\uff4b\uff4a\uff4b\uff4a\uff49\uff48"
+            + "\uff47\uff46\uff45\uff44\uff44\uff43\u0001\u0000\uff41\uff40\uff3f\uff3e"
+            + "\uff3d\uff3c\uff3b\uff3a\uff39\u0000\uff37\uff36\uff36\uff35\uff35\uff34"
+            + "\u0000\uff33\uff32\uff31\uff30\uff2f\uff2e\uff2d\uff2c\u0001\u0000\uff2b"
+            + "\uff2a\uff29\uff28\uff27\uff26\u0173\u0001\u0000\uff23\uff22\uff21\uff20"
+            + "\uff1f\uff1e\u0001\u0000\uff1e\uff1d\uff1c\uff1b\uff1a\uff19\uff19\uff18"
+            + "\uff17\uff16\uff15\uff14\uff13\uff12\uff12\uff11\uff10\uff0f\u0001\u0000"
+            + "\uff0d\uff0c\uff0b\uff0a\uff09\uff08\uff07\uff06\uff05\uff04\uff03\uff02"
+            + "\uff03\uff02\uff03\uff02\uff01\uff01\uff00\ufeff\ufefe\ufefd\ufefc\ufef4"
+            + "\u0000\u00d2\u0001\u0000\u0001\u0000\u00ce\u0001\u0000\u00cd\u00cd\u0001"
+            + "\u0000\u0000\u004f\u00ca\u00cb\u0001\u0000\u00cd\u00cf\u0000\u00d3\u00d1"
+            + "\u0001\u0000\u0000\u0000\u00d3\u00d5\u0000\u00d6\ufecf\ufece\u0001\u0000"
+            + "\u0001\u0000\u00da\u0001\u0000\u00da\u0000\u0000\u0001\u0000\u00da\ufec6"
+            + "\ufec5\u00d9\u00d9\u0001\u0000\u0001\u0000\u00db\u0001\u0000\u0000\u0000"
+            + "\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufea0\ufe9f\ufe9e\ufea5"
+            + "\ufea4\ufea3\ufea4\ufea3\ufea2\ufe94\ufe93\ufe9a\ufe99\ufe9e\ufe9d\ufea2"
+            + "\ufea1\uff27\uff26\uff25\uff24\uff23\uff22\uff21\uff20\u0000\uff06\uff05"
+            + "\u0047\u0046\uff04\uff03\u0001\u0000\ufe81\ufe80\ufe83\ufe82\ufe85\ufe84"
+            + "\uffff\ufffe\u00a4\u00a3\ufe7a\ufe73\ufe72\ufe71\ufe73\ufe72\uff9f\uffc8"
+            + "\ufe76\ufe75\ufeeb\ufeea\ufeea\ufee9\ufefa\ufef9\ufe61\ufe60\ufe5f\ufe5e"
+            + "\ufe61\ufe60\ufe5f\ufe5e\ufe61\ufe60\ufe5f\ufe5e\ufe63\ufe62\ufe61\ufe60"
+            + "\ufe62\ufe61\ufe60\ufe5f\ufe61\ufe60\ufe5f\ufe5e\ufe5b\ufe5a\ufe5a\ufe59"
+            + "\u0001\u0000\ufe4a\ufe49\uff7e\u0000\u0001\u0000\u0001\u0000\ufe3b\ufe3a"
+            + "\ufe3d\ufe3c\ufecc\ufecb\ufec9\ufec8\ufe41\ufe40\uffff\ufffe\ufe47\ufe46"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u2a2b\u0001\u0000\uff5d\u2a28\u0000"
+            + "\u0000\u0001\u0000\uff3d\u0045\u0047\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\ufdb8\uffb5\ufdb8\ufdbf\uffc5\uffc6\uffcb\ufdc0"
+            + "\ufdc1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufd48\ufd47\ufd46\ufd45"
+            + "\ufd44\ufd43\u0000\u0000\uff83\ufd8b\ufd91\ufd95\uffb1\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffc0\uffc0\u0000\uffd0\uffc4\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u0000\u0001\u0000\uff45\u0000\u0001\u0000"
+            + "\u0000\u0000\ufca6\u0000\u0000\u0000\ufcbd\u0074\u0000\u0000\u0000\u0000"
+            + "\ufc9c\ufd23\u002b\ufd30\u002d\u002e\u002f\u0000\u0033\u0000\u0037\u003a"
+            + "\u003a\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0000\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u000f\u001a\u0005\u0008\u0009\n\u001b\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffef\ufffa"
+            + "\ufff3\ufff8\ufffb\u0008\uffe2\uffe7\ufff3\uffff\ufffe\ufff1\uffea\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\uffca\uffd0\uffd0\u0000\uffc4\uffc0\u0000\u0001\u0000\uffca\u0001\u0000"
+            + "\u0000\uff7e\uff7e\uff7e\u0035\u0034\u0050\u0030\u0050\u0050\u0050\u004f"
+            + "\u0050\u0050\u0050\u0050\u002e\u002b\u0035\u0050\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u001f\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uffe5\uffe4\u0000\uffe0\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000"
+            + "\uffde\uffdb\uffe5\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\uffff\ufffe\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u000f\uff75\uff74\u0001\u0000\u0001\u0000\u0001"
+            + "\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0000\uff60\uff5f\uff5e\uff5d"
+            + "\u0001\u0000\uff5f\uff5e\u0001\u0000\uffff\ufffe\uff5a\uff59\uff59\uff58"
+            + "\u0001\u0000\uff56\uff55\uff54\uff53\uff58\uff57\u0001\u0000\uffff\ufffe"
+            + "\uff61\uff60\uff55\uff54\uff53\uff52\uff51\uff50\uff53\uff52\u0001\u0000"
+            + "\uff53\uff52\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0000\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u0004"
+            + "\u0024\u0002\u0024\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0015\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000"
+            + "\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uffbd\uffbd\uffbd\uffc1\uffc5\uffc5\uffcd\uffd0\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufffc\ufffb\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uffc5\uffc5\u0000\uffd0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uffff\u0000\u0000\u0002\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uffbd\uffbd\uffc1\u0000\u0000\uffcd\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\u0000\u0000\ufffc\ufffb\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uffc5\uffc5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufffe\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\ufffc\ufffc\ufffa\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufffe\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uffff\ufffe\u0000\ufffc\uffff\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\ufffc\ufffc\ufffa\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uffff\u0000\ufffd\uffff\ufffb\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000"
+            + "\u0000\u0000\uffff\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000"
+            + "\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uffd7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufffe"
+            + "\u0000\ufffc\u003c\u0000\u003b\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\ufff0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000\uffff\u0000"
+            + "\u0000\u0000\u0000\uffff\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffd7\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60"
+            + "\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60"
+            + "\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60\u1c60"
+            + "\u1c60\u1c60\u0000\u1c60\u0000\u0000\u0000\u0000\u0000\u1c60\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0\u97d0"
+            + "\u0008\u0008\u0008\u0008\u0008\u0008\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000"
+            + "\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000\u0000\u0000\uffff\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uffff\u0000\uffff\u0000\u0000\ufffe\ufffe\u0000\uffff"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uf440\uf440\uf440\uf440"
+            + "\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440"
+            + "\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440"
+            + "\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440\uf440"
+            + "\uf440\uf440\uf440\u0000\u0000\uf440\uf440\uf440\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\ue261\ue260\ue260\ue25f\ue25e\ue25d\ue25c\ue25b\ue2df\ue2de\ue25a\ue259"
+            + "\ue258\ue257\ue256\ue255\ue254\ue253\ue252\ue251\ue2ff\ue2fe\ue2fd\ue2fc"
+            + "\ue24d\ue24c\ue24b\ue24a\ue40d\ue40c\ue248\ue247\ue247\ue246\ue246\ue245"
+            + "\ue244\ue243\ue242\ue241\ue240\ue23f\ue23e\ue23d\ue23d\ue23c\ue2c1\ue2c0"
+            + "\ue23b\ue23a\ue239\ue238\ue237\ue236\ue236\ue235\uffff\ufffe\ue232\ue231"
+            + "\ue230\ue22f\ue22f\ue22e\ue22d\ue22c\ue22b\ue22a\ue22a\ue229\ue228\ue227"
+            + "\ue226\ue225\ue224\ue223\ue2a9\ue2a8\ue2a7\ue2a6\ue2fd\ue2fc\ue2fb\ue2fa"
+            + "\ue21c\ue21b\ue21a\ue219\ue21a\ue219\ue218\ue217\uffff\ufffe\ue214\ue213"
+            + "\ue213\ue212\ue211\ue210\ue2f7\ue2f6\ue2fb\ue2fa\ufffb\ufffa\ue20a\ue209"
+            + "\ue208\ue207\ue206\ue205\ue204\ue203\ue203\ue202\ue201\ue200\ue1ff\ue1fe"
+            + "\ue2f1\ue2f0\ue2f1\ue2f0\ue1fa\ue1f9\ue1f8\ue1f7\ue1f7\ue1f6\ue1f5\ue1f4"
+            + "\ue1f3\ue1f2\ue1f1\ue1f0\ue1ef\ue1ee\ue1ee\ue1ed\ue1ec\ue1eb\ue1eb\ue1ea"
+            + "\ue1ea\ue1e9\ue1e8\ue1e7\ue1e6\ue1e5\ue1d2\ue1dd\ue1df\ue1e0\u0000\ue2e4"
+            + "\u0000\u0000\ue241\u0000\ue1c1\ue1c0\ue1bf\ue1be\ue23e\ue23d\ue23c\ue23b"
+            + "\ue23a\ue239\ue238\ue237\ufff5\ufff4\ue255\ue254\ue253\ue252\ue251\ue250"
+            + "\ue24f\ue24e\uffeb\uffea\ue1ad\ue1ac\ue1ab\ue1aa\ue1a9\ue1a8\ue22c\ue22b"
+            + "\ue22a\ue229\ue228\ue227\ue226\ue225\ufff3\ufff2\ue1a1\ue1a0\ue19f\ue19e"
+            + "\ue1a3\ue1a2\ue1a1\ue1a0\ue224\ue223\ue222\ue221\ue220\ue21f\ue21e\ue21d"
+            + "\ufff5\ufff4\ue2c7\ue2c6\ue2c5\ue2c4\ue2c3\ue2c2\ue2c1\ue2c0\ue2bf\ue2be"
+            + "\ue191\ue190\ue18f\ue18e\ue2c8\ue2c7\ue2c6\ue2c5\ue2c4\ue2c3\ue2c2\ue2c1"
+            + "\ue2c0\ue2bf\ue187\ue186\ue185\ue184\ue183\ue182\ue181\ue180\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\ue4b1\ue4b0\ufffe\ufffe\ufffc\ufffc\ufffa\ufffa"
+            + "\ue4a9\ue4a8\ufff6\ufff6\ufff4\ufff4\ufff2\ufff2\ue4a5\ue4a4\ufffe\ufffe"
+            + "\ufffc\ufffc\u0000\u0000\ue49d\ue49c\ufff6\ufff6\ufff4\ufff4\u0000\u0000"
+            + "\ue497\ue496\ufffe\ufffe\ufffc\ufffc\ufffa\ufffa\ue48f\ue48e\ufff6\ufff6"
+            + "\ufff4\ufff4\ufff2\ufff2\ue489\ue488\ufffe\ufffe\ufffc\ufffc\ufffa\ufffa"
+            + "\ue481\ue480\ufff6\ufff6\ufff4\ufff4\ufff2\ufff2\ue47f\ue47e\ufffe\ufffe"
+            + "\ufffc\ufffc\u0000\u0000\ue477\ue476\ufff6\ufff6\ufff4\ufff4\u0000\u0000"
+            + "\ue475\ue474\ufffe\ufffe\ufffc\ufffc\ufffa\ufffa\u0000\ue46c\u0000\ufff6"
+            + "\u0000\ufff4\u0000\ufff2\ue469\ue468\ufffe\ufffe\ufffc\ufffc\ufffa\ufffa"
+            + "\ue461\ue460\ufff6\ufff6\ufff4\ufff4\ufff2\ufff2\ue441\ue43b\ue443\ue43a"
+            + "\ue443\ue439\ue443\ue438\ue447\ue453\ue44b\ue452\ue44d\ue451\u0000\u0000"
+            + "\uff80\uff80\uff80\uff80\uff80\uff80\uff80\uff80\uff78\uff78\uff78\uff78"
+            + "\uff78\uff78\uff78\uff78\uff90\uff90\uff90\uff90\uff90\uff90\uff90\uff90"
+            + "\uff88\uff88\uff88\uff88\uff88\uff88\uff88\uff88\uffc0\uffc0\uffc0\uffc0"
+            + "\uffc0\uffc0\uffc0\uffc0\uffb8\uffb8\uffb8\uffb8\uffb8\uffb8\uffb8\uffb8"
+            + "\ue401\ue400\uffbe\ue3fe\ue3f8\u0000\ue3fb\uffff\ue3f9\ue3f8\ue3f7\ue3f1"
+            + "\ue3f5\u0000\ue3fb\u0000\u0000\ue0e7\uffb2\ue3f4\ue3ea\u0000\ue3f1\uffff"
+            + "\ue3ed\ue3e4\ue3ed\ue3e3\ue3eb\ufff2\ufff1\ufff0\ue3e9\ue3e8\ue3f8\ue3bd"
+            + "\u0000\u0000\ue3e3\ue3f3\ue3e1\ue3e0\ue3df\ue3d4\u0000\u0021\u0020\u001f"
+            + "\ue3e5\ue3e4\ue3e9\ue3cd\ue3dd\ue3dc\ue3df\ue3e4\ue3dd\ue3dc\ue3db\ue3e2"
+            + "\ue3d5\ue0bb\ue397\ue071\u0000\u0000\uff8a\ue3d6\ue3da\u0000\ue3d3\uffff"
+            + "\ue3c7\ue3d3\ue3cf\ue3d3\ue3cd\ue0b7\u0000\u0000\u0002\u0002\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\ue2a3\u0000\u0000\u0000\udf41\udfba\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u001c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0010\u0010\u0010\u0010\u0010\u0010\u0010\u0010\u0010\u0010\u0010\u0010"
+            + "\u0010\u0010\u0010\u0010\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufff6\ufff7"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uffe6\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003\u0006\u0003\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uffff\u0000\u0000\u0000"
+            + "\u0000\uffff\u0000\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\u0000\uffff\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufffb\u0000\u0000"
+            + "\uffff\u0000\u0000\ufffe\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\udddd\u0000\uffff\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uffe0\uddce\uddcf\ufff4\ufff4\u0000\u0000"
+            + "\ufffe\ufffe\u0000\u0000\ufffe\ufffe\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\ufffa\ufffa\u0000\u0000\ufffe\ufffe\u0000\u0000\ufffe\ufffe\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\ufff6\ufffb\ufffb\ufffc"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uff9c\uff9c\uffaf\uffaf\u0000\u0000\u0000\u0000\u0000\u0000\uffc8\uffc8"
+            + "\uffc8\uffc8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0cdf\u0cdf\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a"
+            + "\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a\u001a"
+            + "\u001a\u001a\u001a\u001a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030"
+            + "\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0030\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000\ud609\uf11a"
+            + "\ud619\u0000\u0000\u0001\u0000\u0001\u0000\u0001\u0000\ud5e4\ud603\ud5e1"
+            + "\ud5e2\u0000\u0001\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\ud5c1\ud5c1\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0001\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000"
+            + "\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000"
+            + "\uffff\u0000\uffff\u0000\u0000\uffff\u0000\uffff\u0000\uffff\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\ufffe\u0000\uffff\ufffe\u0000\uffff\ufffe"
+            + "\u0000\uffff\ufffe\u0000\uffff\ufffe\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffb2\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000"
+            + "\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000\uffff\u0000"
+            + "\uffff\u0000\uffff\u0000\u0000\uffff\u0000\uffff\u0000\uffff\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffff\ufffe\u0000\uffff\ufffe\u0000\uffff\ufffe"
+            + "\u0000\uffff\ufffe\u0000\uffff\ufffe\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uffb2\u0000\u0000\ufff8\ufff8\ufff8\ufff8\u0000"
+            + "\u0000\u0000\uffff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0000\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0000\u0001"
+            + "\u0000\u75fc\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0000\u0000\u0000\u0001\u0000\u5ad8\u0000\u0000\u0001\u0000\u0001\u0000"
+            + "\u0000\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u5abc\u5ab1"
+            + "\u5ab5\u5abf\u5abc\u0000\u5aee\u5ad6\u5aeb\u03a0\u0001\u0000\u0001\u0000"
+            + "\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000"
+            + "\uffd0\u5abd\u75c8\u0001\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0000\u0000\u0000\u0000\u0000\u0001\u0000\u0001\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u9348\u6df3\u95c8\u93c5\u75cd\u552d\u5adf\ua695\ua694\u6048\u98c7\u5c7c"
+            + "\u603c\u68e9\u7d5b\u8676\u8d2f\u8ea9\u8fe6\u977c\u70ee\u7406\u77c3\u7ac7"
+            + "\u8b25\u9851\ua0d7\u5567\u5a59\u71e7\u78fd\u8d0e\ua4fe\u642f\u76c9\u8caa"
+            + "\u9040\u69a4\u88b2\u8ef8\u65a2\u6dee\u7440\u79d1\u97a2\u5659\u5889\u59af"
+            + "\u6b94\u71a2\u78de\u7db4\u86cd\u8cd1\u8d26\u94b8\u9dfa\ua236\ua4c0\u7f51"
+            + "\u8043\u8463\u8a8b\u99c5\ua53f\u9195\u5f9d\u65c1\u831c\u8739\u791c\u7f83"
+            + "\u937a\u9dae\u5f8e\u6317\u70c7\u748d\u75c1\u83e0\u84e7\u9cfa\u5980\u8738"
+            + "\u5888\u5877\u80c6\u8467\u8a99\u9d1c\u9226\u6974\u70a6\u91a1\u54db\u6288"
+            + "\u66b2\u7a26\u7c0e\u59b4\u7f97\u565a\u6643\u54a6\u7364\u6c0f\u83b8\u5a58"
+            + "\u5ef2\u7d94\u8adb\u913b\u724a\u963f\u7316\u698b\u8971\u6a2b\u7bef\u5537"
+            + "\u57f1\u5850\u6f07\u836c\u88f3\u9155\u9851\u5976\u5ac2\u5ff2\u656a\u6c42"
+            + "\u767a\u7fa5\u9c27\ua0e3\ua50f\ua545\u5911\u6d3b\u71eb\u95d5\u64e6\u6801"
+            + "\u6870\u6b09\u7591\u77b6\u7af5\u8035\u845e\u86d8\u958e\u8b55\u9689\u99af"
+            + "\u587b\u5906\u5b1f\u7729\u8f22\u9109\u6527\u6652\u69d7\u7209\u8298\u79ce"
+            + "\u553c\u5d50\u623d\u640f\u6670\u7a05\u7abb\u85eb\u8696\u9883\u9d44\u9d95"
+            + "\u9e64\u55d6\u7ff8\u97fd\u9d00\u6728\u54cc\u571f\u6232\u6282\u6bdb\u7043"
+            + "\u780e\u7c81\u8b3a\u96b9\ua5c9\u6cc3\u9c68\u58c2\u6db3\u6e2a\u7377\u74d1"
+            + "\u7a3d\u7b8c\u7e9d\u8341\u9e8e\u579c\u685c\u9ca5\u5657\u6344\u7414\u9553"
+            + "\u65b3\u676b\u6e3d\u79ac\u9caa\u584c\u5a31\u6286\u6c33\u6d6d\u6ec6\u7302"
+            + "\u7a22\u7bfd\u8593\u8ee8\u8ef9\u97e3\u9cf8\u5954\u74ce\u5a30\u77e2\u7aa9"
+            + "\u8c0a\u9cb2\ua265\ua4ac\u6da3\u73d6\u87f2\u80d4\u8128\u8299\u78c6\u769e"
+            + "\u915c\u54c3\u8938\u583b\u5807\u64a5\u68d1\u82d3\u6181\u7319\u6cae\u9534"
+            + "\u8e44\u9c44\u8f81\u64c8\u5734\u5bb3\u0000\u0000\u5e4a\u0000\u6c62\u0000"
+            + "\u0000\u57c9\u7914\u7cb3\u7f24\u7f45\u7f4b\u7f74\u9d3a\u82a1\u859f\u0000"
+            + "\u8bf2\u0000\u90d6\u0000\u0000\u9613\u96d7\u0000\u0000\u0000\u9ec5\u9ed1"
+            + "\u9efc\ua387\u96b0\u9c88\u557e\u56b6\u571b\u5896\u58b0\u591c\u5b67\u5bcf"
+            + "\u5c30\u5e07\u5e6e\u6229\u6232\u6657\u672a\u674f\u67b2\u6b0e\u6ba0\u6c4e"
+            + "\u6e41\u7332\u73d4\u74db\u7726\u77e2\u79d8\u7e46\u7ef2\u7efc\u7efa\u7f01"
+            + "\u7f06\u7f0c\u7f3b\u7f3b\u7fec\u802c\u816a\u839d\u83b1\u83e8\u8518\u85aa"
+            + "\u8791\u881c\u881b\u89f8\u8eb0\u8f35\u909f\u90d6\u926f\u92a3\u9550\u95d1"
+            + "\u9c7b\u9d96\u9dd1\u660a\u4882\u87ab\u0000\u0000\u53b6\u5744\u56f6\u550d"
+            + "\u56d1\u570b\u5851\u5883\u5b25\u5adc\u5b1f\u5b67\u5dde\u5e36\u5ec6\u5ed5"
+            + "\u5fe2\u60a7\u6450\u6456\u64e5\u6528\u6652\u66c7\u6680\u6705\u66d6\u6767"
+            + "\u67a8\u6937\u698e\u69c3\u6ac6\u6be3\u6c85\u6c88\u6cc2\u70e4\u7124\u72aa"
+            + "\u7443\u7432\u7488\u7583\u76d2\u7d0a\u7797\u7810\u788a\u79d0\u7a64\u7a98"
+            + "\u7b79\u7b7a\u7c24\u7c34\u7c4c\u7ca1\u7c96\u7e21\u8005\u8113\u81cd\u82ac"
+            + "\u8344\u848d\u8553\u889f\u893b\u8cc4\u8e8b\u8ecf\u8ede\u9006\u903e\u9010"
+            + "\u9045\u9041\u902f\u907a\u90ca\u9247\u9476\u95af\u96d5\u97b1\u9bb6\u9c1c"
+            + "\u9c8e\u9d12\u9d35\u9d40\u9d6f\ua045\ua4ce\u2d7b\u2d74\u3904\u40cb\u4545"
+            + "\u4565\u5774\u61fa\u83fc\ua46b\ua4b5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0abc\u0000\u0ad3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0abf\u0abe\u001d\u001c\u0aa2\u0aa1\u0aa0\u0aa0\u0aa0\u0aa0"
+            + "\u0aa0\u0aa0\u0aa0\u0000\u0aa0\u0aa0\u0aa0\u0aa0\u0aa0\u0000\u0aa0\u0000"
+            + "\u0aa0\u0aa0\u0000\u0aa0\u0aa0\u0000\u0aa0\u0aa0\u0aa0\u0aa0\u0aa0\u0a8a"
+            + "\u0a85\u0a8e\u0a96\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020"
+            + "\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000").toCharArray();
+
+    private CaseFoldTable() {
+    }
+
+    static char fold(char c) {
+        return (char) (c + PAGES[(INDEX[c >> 8] << 8) | (c & 0xFF)]);
+    }
+}
@@ -91,7 +91,21 @@ abstract public class Dictionary {
      * @return true if the word exists, false otherwise
      */
     abstract public boolean isValidWord(CharSequence word);
-    
+
+    /**
+     * Checks several words at once. Dictionaries that can answer a batch faster than one word
+     * at a time should override this.
+     * @param words the words to search for
+     * @param count the number of words to check
+     * @param frequencies receives the frequency of each word that {@link #isValidWord} would
+     *        accept, 0 if the dictionary doesn't keep frequencies, and -1 for the others
+     */
+    public void getValidFrequencies(CharSequence[] words, int count, int[] frequencies) {
+        for (int i = 0; i < count; i++) {
+            frequencies[i] = isValidWord(words[i]) ? 0 : -1;
+        }
+    }
+
     /**
      * Compares the contents of the character array with the typed word and returns true if they
      * are the same.
@@ -0,0 +1,163 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import android.util.Log;
+
+/**
+ * Keeps the dictionaries of recently used input locales open, so that switching back to a
+ * locale doesn't load them again. Once there are more locales than allowed, or their main
+ * dictionaries together exceed the size budget, the least recently used ones are closed.
+ * The current entry is never evicted.
+ *
+ * <p>
+ * The size budget counts the main dictionary data whether it is mapped from a file or
+ * loaded into memory. A mapped dictionary only takes memory for the pages in use, which
+ * the system can drop again, so for those the budget limits the address space and page
+ * cache the cached locales may claim rather than their resident memory.
+ *
+ * <p>
+ * Not thread safe, LatinIME only uses it while holding its suggestion lock.
+ */
+class DictionaryCache {
+    private static final String TAG = "PCKeyboard";
+
+    // The default limits, the dictionaries of up to this many input locales whose main
+    // dictionaries have up to this many bytes, mapped or loaded, are kept open.
+    static final int DEFAULT_MAX_LOCALES = 3;
+    static final long DEFAULT_MAX_BYTES = 24 * 1024 * 1024;
+
+    /**
+     * The dictionaries of one input locale.
+     */
+    static class Entry {
+        final String locale;
+        final Suggest suggest;
+        final UserDictionary userDictionary;
+        final AutoDictionary autoDictionary;
+        final UserBigramDictionary userBigramDictionary;
+
+        Entry(String locale, Suggest suggest, UserDictionary userDictionary,
+                AutoDictionary autoDictionary, UserBigramDictionary userBigramDictionary) {
+            this.locale = locale;
+            this.suggest = suggest;
+            this.userDictionary = userDictionary;
+            this.autoDictionary = autoDictionary;
+            this.userBigramDictionary = userBigramDictionary;
+        }
+
+        /**
+         * Returns the size that counts towards the budget, the bytes of the main dictionary
+         * whether they are mapped or loaded. The learned word dictionaries are small in
+         * comparison.
+         */
+        long getSize() {
+            return suggest.getMainDictionarySize();
+        }
+
+        void close() {
+            suggest.close();
+            userDictionary.close();
+            autoDictionary.close();
+            userBigramDictionary.close();
+        }
+    }
+
+    private final int mMaxLocales;
+    private final long mMaxBytes;
+    // In access order, least recently used first.
+    private final LinkedHashMap<String, Entry> mEntries =
+            new LinkedHashMap<String, Entry>(8, 0.75f, true);
+    private Entry mCurrent;
+
+    DictionaryCache() {
+        this(DEFAULT_MAX_LOCALES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param maxLocales the number of locales to keep, including the current one
+     * @param maxBytes the total size of the main dictionaries to keep, mapped or loaded
+     */
+    DictionaryCache(int maxLocales, long maxBytes) {
+        mMaxLocales = maxLocales;
+        mMaxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the dictionaries of the locale and marks them as recently used, or returns
+     * null if they aren't cached.
+     */
+    Entry get(String locale) {
+        return mEntries.get(locale);
+    }
+
+    boolean contains(String locale) {
+        return mEntries.containsKey(locale);
+    }
+
+    /**
+     * Adds the entry if needed and makes it the current one. The previous current entry
+     * stays cached if it fits.
+     */
+    void setCurrent(Entry entry) {
+        final Entry previous = mCurrent;
+        mCurrent = entry;
+        if (previous != null && previous != entry && mEntries.get(previous.locale) != previous) {
+            // Dropped by invalidate() while it was in use.
+            previous.close();
+        }
+        put(entry);
+    }
+
+    /**
+     * Adds an entry, replacing and closing any other one for the same locale, and evicts
+     * entries until the limits are met.
+     */
+    void put(Entry entry) {
+        final Entry old = mEntries.put(entry.locale, entry);
+        if (old != null && old != entry) {
+            if (old == mCurrent) mCurrent = entry;
+            old.close();
+        }
+        trim();
+    }
+
+    private void trim() {
+        long bytes = 0;
+        for (Entry entry : mEntries.values()) {
+            bytes += entry.getSize();
+        }
+        final Iterator<Entry> it = mEntries.values().iterator();
+        while ((mEntries.size() > mMaxLocales || bytes > mMaxBytes) && it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry == mCurrent) continue;
+            it.remove();
+            bytes -= entry.getSize();
+            Log.i(TAG, "Closing cached dictionaries for " + entry.locale);
+            entry.close();
+        }
+    }
+
+    /**
+     * Closes all entries except the current one, which is closed once another one becomes
+     * current. Used when the dictionaries on the device change.
+     */
+    void invalidate() {
+        for (Entry entry : mEntries.values()) {
+            if (entry != mCurrent) entry.close();
+        }
+        mEntries.clear();
+    }
+
+    /**
+     * Closes all entries, including the current one.
+     */
+    void close() {
+        invalidate();
+        if (mCurrent != null) {
+            mCurrent.close();
+            mCurrent = null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.SharedPreferences.Editor;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager.NameNotFoundException;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.text.TextUtils;
+import android.util.Log;
+
+/**
+ * Remembers which dictionary each input locale uses, so that the language picker doesn't
+ * have to load them to find out. Dictionaries are only probed by reading their size and
+ * header, and the results are kept in a preferences file.
+ *
+ * <p>
+ * The index is dropped when a package changes while the keyboard is running, and also
+ * when the app or the set of dictionary plugins differs from when it was written, which
+ * catches changes made while it wasn't.
+ */
+class DictionaryIndex {
+    private static final String TAG = "PCKeyboard";
+    private static final String PREFS_NAME = "dictionary_index";
+    private static final String KEY_FINGERPRINT = "_fingerprint";
+
+    static final String SOURCE_NONE = "none";
+    static final String SOURCE_BUILT_IN = "builtin";
+
+    /**
+     * The dictionary of one locale.
+     */
+    static class Info {
+        // SOURCE_NONE, SOURCE_BUILT_IN or the package name of a plugin.
+        final String source;
+        final int size;
+        // One of the BinaryDictionary.FORMAT_VERSION_* values.
+        final int version;
+
+        Info(String source, int size, int version) {
+            this.source = source;
+            this.size = size;
+            this.version = version;
+        }
+
+        boolean hasDictionary() {
+            return !SOURCE_NONE.equals(source);
+        }
+
+        String encode() {
+            return source + "," + size + "," + version;
+        }
+
+        static Info decode(String value) {
+            final String[] parts = value.split(",");
+            if (parts.length != 3) return null;
+            try {
+                return new Info(parts[0], Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private final Context mContext;
+    private final SharedPreferences mPrefs;
+    private final Map<String, Info> mInfos = new HashMap<String, Info>();
+
+    /**
+     * Loads the index, dropping it first if it is out of date.
+     */
+    DictionaryIndex(Context context) {
+        mContext = context.getApplicationContext();
+        mPrefs = mContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        PluginManager.loadPluginDictionaries(mContext);
+        final String fingerprint = getFingerprint(mContext);
+        if (!fingerprint.equals(mPrefs.getString(KEY_FINGERPRINT, null))) {
+            final Editor editor = mPrefs.edit();
+            editor.clear();
+            editor.putString(KEY_FINGERPRINT, fingerprint);
+            SharedPreferencesCompat.apply(editor);
+            return;
+        }
+        for (Map.Entry<String, ?> entry : mPrefs.getAll().entrySet()) {
+            if (KEY_FINGERPRINT.equals(entry.getKey())) continue;
+            final Info info = Info.decode(String.valueOf(entry.getValue()));
+            if (info != null) mInfos.put(entry.getKey(), info);
+        }
+    }
+
+    /**
+     * Drops the stored index, called when packages were installed, updated or removed.
+     */
+    static void invalidate(Context context) {
+        final Editor editor = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .edit();
+        editor.clear();
+        SharedPreferencesCompat.apply(editor);
+    }
+
+    /**
+     * Describes the app and the known dictionary plugins, with their versions.
+     */
+    private static String getFingerprint(Context context) {
+        final StringBuilder fingerprint = new StringBuilder();
+        try {
+            final PackageInfo info = context.getPackageManager()
+                    .getPackageInfo(context.getPackageName(), 0);
+            fingerprint.append(info.versionCode).append(':').append(info.lastUpdateTime);
+        } catch (NameNotFoundException e) {
+            // Can't happen for our own package.
+        }
+        return fingerprint.append(';').append(PluginManager.getPluginFingerprint()).toString();
+    }
+
+    private static String getKey(Locale locale) {
+        final String country = locale.getCountry();
+        return locale.getLanguage() + (TextUtils.isEmpty(country) ? "" : "_" + country);
+    }
+
+    /**
+     * Returns the dictionary of the locale, which must have been passed to {@link #probe}.
+     */
+    Info getInfo(Locale locale) {
+        return mInfos.get(getKey(locale));
+    }
+
+    /**
+     * Probes the dictionaries of the locales that aren't in the index yet, and stores the
+     * results. The built-in dictionary is looked up in the resources of each locale, the
+     * resource configuration is restored once at the end.
+     */
+    void probe(List<Locale> locales) {
+        final Resources res = mContext.getResources();
+        final Configuration conf = res.getConfiguration();
+        final Locale saveLocale = conf.locale;
+        Editor editor = null;
+        boolean changedLocale = false;
+        try {
+            for (Locale locale : locales) {
+                final String key = getKey(locale);
+                if (mInfos.containsKey(key)) continue;
+                conf.locale = locale;
+                res.updateConfiguration(conf, res.getDisplayMetrics());
+                changedLocale = true;
+                final Info info = probe(res, locale);
+                mInfos.put(key, info);
+                if (editor == null) editor = mPrefs.edit();
+                editor.putString(key, info.encode());
+            }
+        } finally {
+            if (changedLocale) {
+                conf.locale = saveLocale;
+                res.updateConfiguration(conf, res.getDisplayMetrics());
+            }
+            if (editor != null) SharedPreferencesCompat.apply(editor);
+        }
+    }
+
+    /**
+     * Finds the dictionary Suggest would use for the locale, but without loading it.
+     */
+    private Info probe(Resources res, Locale locale) {
+        final int[] resIds = LatinIME.getDictionary(res);
+        Info builtIn = null;
+        if (resIds.length > 0 && resIds[0] != 0) {
+            final InputStream[] streams = new InputStream[resIds.length];
+            for (int i = 0; i < resIds.length; i++) {
+                streams[i] = res.openRawResource(resIds[i]);
+            }
+            builtIn = probe(SOURCE_BUILT_IN, streams);
+        }
+        // Is the dictionary larger than a placeholder? Arbitrarily chose a lower limit of
+        // 4000-5000 words, whereas the LARGE_DICTIONARY is about 20000+ words.
+        if (builtIn != null && builtIn.size > Suggest.LARGE_DICTIONARY_THRESHOLD / 4) {
+            return builtIn;
+        }
+        final Info plugin = PluginManager.probeDictionary(mContext, locale.getLanguage());
+        if (plugin != null) return plugin;
+        return new Info(SOURCE_NONE, builtIn == null ? 0 : builtIn.size,
+                builtIn == null ? 0 : builtIn.version);
+    }
+
+    /**
+     * Reads the size and the format of a dictionary split across the streams, and closes
+     * them. Returns null if the dictionary is empty or can't be read.
+     */
+    static Info probe(String source, InputStream[] streams) {
+        try {
+            int size = 0;
+            for (int i = 0; i < streams.length; i++) {
+                size += streams[i].available();
+            }
+            final byte[] header = new byte[4];
+            int got = 0;
+            while (got < header.length) {
+                final int count = streams[0].read(header, got, header.length - got);
+                if (count < 0) break;
+                got += count;
+            }
+            if (size == 0 || got == 0) return null;
+            final int version = BinaryDictionary.getFormatVersion(ByteBuffer.wrap(header, 0, got)
+                    .slice());
+            return new Info(source, size, version);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to probe dictionary from " + source);
+            return null;
+        } finally {
+            try {
+                for (int i = 0; i < streams.length; i++) {
+                    streams[i].close();
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close input stream");
+            }
+        }
+    }
+}
@@ -16,7 +16,9 @@
 
 package org.pocketworkstation.pckeyboard;
 
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import android.content.Context;
 import android.os.AsyncTask;
@@ -27,10 +29,10 @@ import android.os.AsyncTask;
  */
 public class ExpandableDictionary extends Dictionary {
     /**
-     * There is difference between what java and native code can handle.
-     * It uses 32 because Java stack overflows when greater value is used.
+     * Same limit as the main dictionary. The search below doesn't recurse, so this is only
+     * bounded by what the suggestion list can hold.
      */
-    protected static final int MAX_WORD_LENGTH = 32;
+    protected static final int MAX_WORD_LENGTH = BinaryDictionary.MAX_WORD_LENGTH;
 
     private Context mContext;
     private char[] mWordBuilder = new char[MAX_WORD_LENGTH];
@@ -42,62 +44,227 @@ public class ExpandableDictionary extends Dictionary {
 
     private static final char QUOTE = '\'';
 
-    private boolean mRequiresReload;
+    private volatile boolean mRequiresReload;
 
-    private boolean mUpdatingDictionary;
+    private volatile boolean mUpdatingDictionary;
 
     // Use this lock before touching mUpdatingDictionary & mRequiresDownload
     private Object mUpdatingLock = new Object();
 
-    static class Node {
-        char code;
-        int frequency;
-        boolean terminal;
-        Node parent;
-        NodeArray children;
-        LinkedList<NextWord> ngrams; // Supports ngram
-    }
+    // The trie is kept in parallel arrays indexed by node number instead of one object per
+    // node, so that a large learned dictionary costs a handful of arrays rather than hundreds
+    // of thousands of small objects. Node 0 is the root, children are a singly linked list
+    // in insertion order.
+    // Nodes and bigrams are only ever appended, and links only change from NO_NODE to a new
+    // entry at the end of a list. So a trie shared with share() stays valid while the
+    // original is written to: the shared copy ignores the entries past its own counts, and
+    // keeps the old arrays when the original grows.
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static class Trie {
+        char[] code;
+        int[] frequency;
+        boolean[] terminal;
+        int[] parent;
+        int[] firstChild;
+        int[] nextSibling;
+        int[] firstBigram;
+        int nodeCount;
+
+        // Bigrams of a word are a linked list through these arrays, starting at
+        // firstBigram of the first word. Supports ngram
+        int[] bigramWord;
+        int[] bigramFrequency;
+        int[] bigramNext;
+        int bigramCount;
+
+        Trie() {
+            code = new char[INITIAL_CAPACITY];
+            frequency = new int[INITIAL_CAPACITY];
+            terminal = new boolean[INITIAL_CAPACITY];
+            parent = new int[INITIAL_CAPACITY];
+            firstChild = new int[INITIAL_CAPACITY];
+            nextSibling = new int[INITIAL_CAPACITY];
+            firstBigram = new int[INITIAL_CAPACITY];
+            bigramWord = new int[INITIAL_CAPACITY];
+            bigramFrequency = new int[INITIAL_CAPACITY];
+            bigramNext = new int[INITIAL_CAPACITY];
+            parent[ROOT] = NO_NODE;
+            firstChild[ROOT] = NO_NODE;
+            nextSibling[ROOT] = NO_NODE;
+            firstBigram[ROOT] = NO_NODE;
+            nodeCount = 1;
+        }
+
+        private Trie(Trie other) {
+            code = other.code;
+            frequency = other.frequency;
+            terminal = other.terminal;
+            parent = other.parent;
+            firstChild = other.firstChild;
+            nextSibling = other.nextSibling;
+            firstBigram = other.firstBigram;
+            nodeCount = other.nodeCount;
+            bigramWord = other.bigramWord;
+            bigramFrequency = other.bigramFrequency;
+            bigramNext = other.bigramNext;
+            bigramCount = other.bigramCount;
+        }
 
-    static class NodeArray {
-        Node[] data;
-        int length = 0;
-        private static final int INCREMENT = 2;
+        /**
+         * Returns a trie with the words of this one, that doesn't change when words are
+         * added to this one later. Only the frequencies and terminal flags of its words
+         * may still change. Doesn't copy the arrays.
+         */
+        Trie share() {
+            return new Trie(this);
+        }
 
-        NodeArray() {
-            data = new Node[INCREMENT];
+        /**
+         * Returns the node, or NO_NODE if it was added after this trie was shared.
+         */
+        int getNode(int node) {
+            return node < nodeCount ? node : NO_NODE;
         }
 
-        void add(Node n) {
-            if (length + 1 > data.length) {
-                Node[] tempData = new Node[length + INCREMENT];
-                if (length > 0) {
-                    System.arraycopy(data, 0, tempData, 0, length);
-                }
-                data = tempData;
+        /**
+         * Returns the bigram, or NO_NODE if it was added after this trie was shared.
+         */
+        int getBigram(int bigram) {
+            return bigram < bigramCount ? bigram : NO_NODE;
+        }
+
+        /**
+         * Finds the child of parent with the given code, adding it if it doesn't exist.
+         */
+        int getOrAddChild(int parentNode, char c) {
+            int last = NO_NODE;
+            for (int child = firstChild[parentNode]; child != NO_NODE;
+                    child = nextSibling[child]) {
+                if (code[child] == c) return child;
+                last = child;
             }
-            data[length++] = n;
+            if (nodeCount == code.length) growNodes();
+            final int node = nodeCount++;
+            code[node] = c;
+            frequency[node] = 0;
+            terminal[node] = false;
+            parent[node] = parentNode;
+            firstChild[node] = NO_NODE;
+            nextSibling[node] = NO_NODE;
+            firstBigram[node] = NO_NODE;
+            if (last == NO_NODE) {
+                firstChild[parentNode] = node;
+            } else {
+                nextSibling[last] = node;
+            }
+            return node;
         }
-    }
 
-    static class NextWord {
-        Node word;
-        NextWord nextWord;
-        int frequency;
+        private void growNodes() {
+            final int capacity = code.length * 2;
+            code = Arrays.copyOf(code, capacity);
+            frequency = Arrays.copyOf(frequency, capacity);
+            terminal = Arrays.copyOf(terminal, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            firstBigram = Arrays.copyOf(firstBigram, capacity);
+        }
 
-        NextWord(Node word, int frequency) {
-            this.word = word;
-            this.frequency = frequency;
+        void growBigrams() {
+            final int capacity = bigramWord.length * 2;
+            bigramWord = Arrays.copyOf(bigramWord, capacity);
+            bigramFrequency = Arrays.copyOf(bigramFrequency, capacity);
+            bigramNext = Arrays.copyOf(bigramNext, capacity);
         }
-    }
 
+        /**
+         * Searches for the word and add the word if it does not exist.
+         * @return Returns the terminal node of the word we are searching for.
+         */
+        int searchWord(String word) {
+            final int wordLength = word.length();
+            int node = ROOT;
+            for (int depth = 0; depth < wordLength; depth++) {
+                node = getOrAddChild(node, word.charAt(depth));
+            }
+            // Terminate this word
+            terminal[node] = true;
+            return node;
+        }
 
-    private NodeArray mRoots;
+        /**
+         * Search for the terminal node of the word
+         * @return Returns the terminal node of the word if the word exists, NO_NODE otherwise
+         */
+        int searchNode(final CharSequence word) {
+            // TODO Consider combining with searchWord
+            final int length = word.length();
+            int node = ROOT;
+            for (int offset = 0; offset < length && node != NO_NODE; offset++) {
+                final char currentChar = word.charAt(offset);
+                int child = getNode(firstChild[node]);
+                while (child != NO_NODE && code[child] != currentChar) {
+                    child = getNode(nextSibling[child]);
+                }
+                node = child;
+            }
+            return (node != NO_NODE && node != ROOT && terminal[node]) ? node : NO_NODE;
+        }
+
+        String getWord(int node) {
+            final StringBuilder word = new StringBuilder();
+            while (node != ROOT) {
+                word.append(code[node]);
+                node = parent[node];
+            }
+            return word.reverse().toString();
+        }
+    }
+
+    // Readers take the published trie once per call and never lock. Writes go to
+    // mWriteTrie, and each write publishes a shared copy of it in mTrie, so a lookup that
+    // is running meanwhile keeps seeing a consistent trie. A reload fills mLoadingTrie in
+    // the background and then publishes it in one step, so the previous words stay
+    // available until the new ones are complete. Writes go to mLoadingTrie while there is
+    // one, so that they end up in the trie that is published next.
+    private Trie mWriteTrie = new Trie();
+    private volatile Trie mTrie = mWriteTrie.share();
+    private Trie mLoadingTrie;
+    private final Object mWriteLock = new Object();
 
     private int[][] mCodes;
 
+    // A snapshot is the trie arrays in native byte order, after a header of magic,
+    // version, node count and bigram count: the int node arrays, the int bigram arrays,
+    // the node codes and one byte per node for the terminal flag.
+    private static final int SNAPSHOT_MAGIC = 0x4C575331;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = 16;
+    private static final int SNAPSHOT_NODE_SIZE = 5 * 4 + 2 + 1;
+    private static final int SNAPSHOT_BIGRAM_SIZE = 3 * 4;
+
+    // Explicit stack for getWords(), one frame per trie level on the current path. A frame
+    // holds the node being visited and the range of hypotheses that reached its level.
+    private int[] mFrameNode = new int[MAX_WORD_LENGTH];
+    private int[] mFrameHypStart = new int[MAX_WORD_LENGTH];
+    private int[] mFrameHypEnd = new int[MAX_WORD_LENGTH];
+
+    // A hypothesis is one way of matching the input against the current path: the input
+    // position it reached, its weight, whether it is only collecting completions, and the
+    // depth at which it assumes a letter was left out (-1 for none).
+    private int[] mHypInputIndex = new int[INITIAL_CAPACITY];
+    private int[] mHypSnr = new int[INITIAL_CAPACITY];
+    private int[] mHypSkipPos = new int[INITIAL_CAPACITY];
+    private boolean[] mHypCompletion = new boolean[INITIAL_CAPACITY];
+    private boolean[] mHypStopped = new boolean[INITIAL_CAPACITY];
+    private int mHypCount;
+
     ExpandableDictionary(Context context, int dicTypeId) {
         mContext = context;
-        clearDictionary();
         mCodes = new int[MAX_WORD_LENGTH][];
         mDicTypeId = dicTypeId;
     }
@@ -112,6 +279,10 @@ public class ExpandableDictionary extends Dictionary {
         if (!mUpdatingDictionary) {
             mUpdatingDictionary = true;
             mRequiresReload = false;
+            // Writes from now on go to the new words, even before the task runs.
+            synchronized (mWriteLock) {
+                mLoadingTrie = new Trie();
+            }
             new LoadDictionaryTask().execute();
         }
     }
@@ -126,65 +297,65 @@ public class ExpandableDictionary extends Dictionary {
         return mRequiresReload;
     }
 
-    /** Override to load your dictionary here, on a background thread. */
+    /**
+     * Override to load your dictionary here, on a background thread. The words added here
+     * go to a new trie, which replaces the current one once this returns. Until then,
+     * lookups still see the previous words.
+     */
     public void loadDictionaryAsync() {
     }
 
     Context getContext() {
         return mContext;
     }
-    
+
     int getMaxWordLength() {
         return MAX_WORD_LENGTH;
     }
 
-    public void addWord(String word, int frequency) {
-        addWordRec(mRoots, word, 0, frequency, null);
-    }
-
-    private void addWordRec(NodeArray children, final String word, final int depth,
-            final int frequency, Node parentNode) {
-        final int wordLength = word.length();
-        final char c = word.charAt(depth);
-        // Does children have the current character?
-        final int childrenLength = children.length;
-        Node childNode = null;
-        boolean found = false;
-        for (int i = 0; i < childrenLength; i++) {
-            childNode = children.data[i];
-            if (childNode.code == c) {
-                found = true;
-                break;
-            }
-        }
-        if (!found) {
-            childNode = new Node();
-            childNode.code = c;
-            childNode.parent = parentNode;
-            children.add(childNode);
-        }
-        if (wordLength == depth + 1) {
-            // Terminate this word
-            childNode.terminal = true;
-            childNode.frequency = Math.max(frequency, childNode.frequency);
-            if (childNode.frequency > 255) childNode.frequency = 255;
-            return;
+    /**
+     * Returns the trie that writes go to. Must be called with mWriteLock held, followed by
+     * publishLocked() once the write is done.
+     */
+    private Trie getWriteTrieLocked() {
+        return mLoadingTrie != null ? mLoadingTrie : mWriteTrie;
+    }
+
+    /**
+     * Makes a write to the trie visible to lookups. Must be called with mWriteLock held.
+     */
+    private void publishLocked(Trie trie) {
+        if (trie == mWriteTrie) mTrie = trie.share();
+    }
+
+    /**
+     * Replaces all words with the trie, or the words being loaded during a reload. Must be
+     * called with mWriteLock held.
+     */
+    private void replaceLocked(Trie trie) {
+        if (mLoadingTrie != null) {
+            mLoadingTrie = trie;
+        } else {
+            mWriteTrie = trie;
+            mTrie = trie.share();
         }
-        if (childNode.children == null) {
-            childNode.children = new NodeArray();
+    }
+
+    public void addWord(String word, int frequency) {
+        synchronized (mWriteLock) {
+            final Trie trie = getWriteTrieLocked();
+            final int node = trie.searchWord(word);
+            final int newFrequency = Math.max(frequency, trie.frequency[node]);
+            trie.frequency[node] = newFrequency > 255 ? 255 : newFrequency;
+            publishLocked(trie);
         }
-        addWordRec(childNode.children, word, depth + 1, frequency, childNode);
     }
 
     @Override
     public void getWords(final WordComposer codes, final WordCallback callback,
             int[] nextLettersFrequencies) {
-        synchronized (mUpdatingLock) {
-            // If we need to update, start off a background task
-            if (mRequiresReload) startDictionaryLoadingTaskLocked();
-            // Currently updating contacts, don't return any results.
-            if (mUpdatingDictionary) return;
-        }
+        // If we need to update, start off a background task
+        reloadDictionaryIfRequired();
 
         mInputLength = codes.size();
         mNextLettersFrequencies = nextLettersFrequencies;
@@ -194,98 +365,124 @@ public class ExpandableDictionary extends Dictionary {
             mCodes[i] = codes.getCodesAt(i);
         }
         mMaxDepth = mInputLength * 3;
-        getWordsRec(mRoots, codes, mWordBuilder, 0, false, 1, 0, -1, callback);
-        for (int i = 0; i < mInputLength; i++) {
-            getWordsRec(mRoots, codes, mWordBuilder, 0, false, 1, 0, i, callback);
-        }
+        getWordsIter(mTrie, codes, callback);
     }
 
     @Override
-    public synchronized boolean isValidWord(CharSequence word) {
-        synchronized (mUpdatingLock) {
-            // If we need to update, start off a background task
-            if (mRequiresReload) startDictionaryLoadingTaskLocked();
-            if (mUpdatingDictionary) return false;
-        }
+    public boolean isValidWord(CharSequence word) {
+        // If we need to update, start off a background task
+        reloadDictionaryIfRequired();
         final int freq = getWordFrequency(word);
         return freq > -1;
     }
 
+    @Override
+    public void getValidFrequencies(CharSequence[] words, int count, int[] frequencies) {
+        // If we need to update, start off a background task
+        reloadDictionaryIfRequired();
+        final Trie trie = mTrie;
+        for (int i = 0; i < count; i++) {
+            final int node = trie.searchNode(words[i]);
+            frequencies[i] = (node == NO_NODE) ? -1 : trie.frequency[node];
+        }
+    }
+
     /**
      * Returns the word's frequency or -1 if not found
      */
     public int getWordFrequency(CharSequence word) {
-        Node node = searchNode(mRoots, word, 0, word.length());
-        return (node == null) ? -1 : node.frequency;
+        final Trie trie = mTrie;
+        final int node = trie.searchNode(word);
+        return (node == NO_NODE) ? -1 : trie.frequency[node];
     }
 
     /**
-     * Recursively traverse the tree for words that match the input. Input consists of
-     * a list of arrays. Each item in the list is one input character position. An input
-     * character is actually an array of multiple possible candidates. This function is not
-     * optimized for speed, assuming that the user dictionary will only be a few hundred words in
-     * size.
-     * @param roots node whose children have to be search for matches
+     * Traverses the tree for words that match the input. Input consists of a list of arrays.
+     * Each item in the list is one input character position. An input character is actually
+     * an array of multiple possible candidates.
+     * <p>
+     * The exact match and the searches that assume one letter was left out at each input
+     * position are all tracked as hypotheses of the same traversal, so each node is visited
+     * once. Hypotheses skip over punctuation such as apostrophe, so if you type "wouldve", it
+     * could be matching "would've" and the depth will be one more than the input position.
+     * The traversal uses an explicit stack, so the word length is not limited by the
+     * thread's stack size.
+     * @param trie the published trie, which doesn't change while it is searched
      * @param codes the input character codes
-     * @param word the word being composed as a possible match
-     * @param depth the depth of traversal - the length of the word being composed thus far
-     * @param completion whether the traversal is now in completion mode - meaning that we've
-     * exhausted the input and we're looking for all possible suffixes.
-     * @param snr current weight of the word being formed
-     * @param inputIndex position in the input characters. This can be off from the depth in 
-     * case we skip over some punctuations such as apostrophe in the traversal. That is, if you type
-     * "wouldve", it could be matching "would've", so the depth will be one more than the
-     * inputIndex
      * @param callback the callback class for adding a word
      */
-    protected void getWordsRec(NodeArray roots, final WordComposer codes, final char[] word, 
-            final int depth, boolean completion, int snr, int inputIndex, int skipPos,
-            WordCallback callback) {
-        final int count = roots.length;
+    private void getWordsIter(final Trie trie, final WordComposer codes,
+            final WordCallback callback) {
+        final char[] nodeCode = trie.code;
+        final int[] nodeFrequency = trie.frequency;
+        final boolean[] nodeTerminal = trie.terminal;
+        final int[] nodeFirstChild = trie.firstChild;
+        final int[] nodeNextSibling = trie.nextSibling;
+        final int nodeCount = trie.nodeCount;
         final int codeSize = mInputLength;
-        // Optimization: Prune out words that are too long compared to how much was typed.
-        if (depth > mMaxDepth) {
-            return;
-        }
-        int[] currentChars = null;
-        if (codeSize <= inputIndex) {
-            completion = true;
-        } else {
-            currentChars = mCodes[inputIndex];
+        mHypCount = 0;
+        addHypothesis(0, 1, false, -1);
+        for (int i = 0; i < codeSize; i++) {
+            addHypothesis(0, 1, false, i);
         }
-
-        for (int i = 0; i < count; i++) {
-            final Node node = roots.data[i];
-            final char c = node.code;
+        int depth = 0;
+        mFrameNode[0] = trie.getNode(nodeFirstChild[ROOT]);
+        mFrameHypStart[0] = 0;
+        mFrameHypEnd[0] = mHypCount;
+
+        while (depth >= 0) {
+            final int node = mFrameNode[depth];
+            if (node == NO_NODE) {
+                // All siblings done, continue with the parent's next sibling
+                depth--;
+                if (depth >= 0) {
+                    mFrameNode[depth] = trie.getNode(nodeNextSibling[mFrameNode[depth]]);
+                }
+                continue;
+            }
+            // Hypotheses for this node's children go right after this level's ones
+            mHypCount = mFrameHypEnd[depth];
+            final int childHypStart = mHypCount;
+            final char[] word = mWordBuilder;
+            final char c = nodeCode[node];
             final char lowerC = toLowerCase(c);
-            final boolean terminal = node.terminal;
-            final NodeArray children = node.children;
-            final int freq = node.frequency;
-            if (completion) {
-                word[depth] = c;
-                if (terminal) {
-                    if (!callback.addWord(word, 0, depth + 1, freq * snr, mDicTypeId,
-                                DataType.UNIGRAM)) {
-                        return;
+            final boolean terminal = nodeTerminal[node];
+            final int children = nodeFirstChild[node] < nodeCount ? nodeFirstChild[node]
+                    : NO_NODE;
+            final int freq = nodeFrequency[node];
+            word[depth] = c;
+
+            for (int h = mFrameHypStart[depth]; h < mFrameHypEnd[depth]; h++) {
+                if (mHypStopped[h]) continue;
+                final int inputIndex = mHypInputIndex[h];
+                final int snr = mHypSnr[h];
+                final int skipPos = mHypSkipPos[h];
+                if (mHypCompletion[h]) {
+                    if (terminal) {
+                        if (!callback.addWord(word, 0, depth + 1, freq * snr, mDicTypeId,
+                                    DataType.UNIGRAM)) {
+                            mHypStopped[h] = true;
+                            continue;
+                        }
+                        // Add to frequency of next letters for predictive correction
+                        if (mNextLettersFrequencies != null && depth >= inputIndex && skipPos < 0
+                                && mNextLettersFrequencies.length > word[inputIndex]) {
+                            mNextLettersFrequencies[word[inputIndex]]++;
+                        }
                     }
-                    // Add to frequency of next letters for predictive correction
-                    if (mNextLettersFrequencies != null && depth >= inputIndex && skipPos < 0
-                            && mNextLettersFrequencies.length > word[inputIndex]) {
-                        mNextLettersFrequencies[word[inputIndex]]++;
+                    if (children != NO_NODE) {
+                        addHypothesis(inputIndex, snr, true, skipPos);
                     }
+                    continue;
                 }
-                if (children != null) {
-                    getWordsRec(children, codes, word, depth + 1, completion, snr, inputIndex,
-                            skipPos, callback);
-                }
-            } else if ((c == QUOTE && currentChars[0] != QUOTE) || depth == skipPos) {
-                // Skip the ' and continue deeper
-                word[depth] = c;
-                if (children != null) {
-                    getWordsRec(children, codes, word, depth + 1, completion, snr, inputIndex, 
-                            skipPos, callback);
+                final int[] currentChars = mCodes[inputIndex];
+                if ((c == QUOTE && currentChars[0] != QUOTE) || depth == skipPos) {
+                    // Skip the ' and continue deeper
+                    if (children != NO_NODE) {
+                        addHypothesis(inputIndex, snr, false, skipPos);
+                    }
+                    continue;
                 }
-            } else {
                 // Don't use alternatives if we're looking for missing characters
                 final int alternativesSize = skipPos >= 0? 1 : currentChars.length;
                 for (int j = 0; j < alternativesSize; j++) {
@@ -295,11 +492,9 @@ public class ExpandableDictionary extends Dictionary {
                         break;
                     }
                     if (currentChar == lowerC || currentChar == c) {
-                        word[depth] = c;
-
                         if (codeSize == inputIndex + 1) {
                             if (terminal) {
-                                if (INCLUDE_TYPED_WORD_IF_VALID 
+                                if (INCLUDE_TYPED_WORD_IF_VALID
                                         || !same(word, depth + 1, codes.getTypedWord())) {
                                     int finalFreq = freq * snr * addedAttenuation;
                                     if (skipPos < 0) finalFreq *= FULL_WORD_FREQ_MULTIPLIER;
@@ -307,20 +502,55 @@ public class ExpandableDictionary extends Dictionary {
                                             DataType.UNIGRAM);
                                 }
                             }
-                            if (children != null) {
-                                getWordsRec(children, codes, word, depth + 1,
-                                        true, snr * addedAttenuation, inputIndex + 1,
-                                        skipPos, callback);
+                            if (children != NO_NODE) {
+                                addHypothesis(inputIndex + 1, snr * addedAttenuation, true,
+                                        skipPos);
                             }
-                        } else if (children != null) {
-                            getWordsRec(children, codes, word, depth + 1, 
-                                    false, snr * addedAttenuation, inputIndex + 1,
-                                    skipPos, callback);
+                        } else if (children != NO_NODE) {
+                            addHypothesis(inputIndex + 1, snr * addedAttenuation, false,
+                                    skipPos);
                         }
                     }
                 }
             }
+
+            // Optimization: Prune out words that are too long compared to how much was typed.
+            if (mHypCount > childHypStart && depth + 1 <= mMaxDepth) {
+                depth++;
+                ensureDepthCapacity(depth);
+                mFrameNode[depth] = children;
+                mFrameHypStart[depth] = childHypStart;
+                mFrameHypEnd[depth] = mHypCount;
+            } else {
+                mFrameNode[depth] = trie.getNode(nodeNextSibling[node]);
+            }
+        }
+    }
+
+    private void addHypothesis(int inputIndex, int snr, boolean completion, int skipPos) {
+        if (mHypCount == mHypSnr.length) {
+            final int capacity = mHypCount * 2;
+            mHypInputIndex = Arrays.copyOf(mHypInputIndex, capacity);
+            mHypSnr = Arrays.copyOf(mHypSnr, capacity);
+            mHypSkipPos = Arrays.copyOf(mHypSkipPos, capacity);
+            mHypCompletion = Arrays.copyOf(mHypCompletion, capacity);
+            mHypStopped = Arrays.copyOf(mHypStopped, capacity);
         }
+        final int h = mHypCount++;
+        mHypInputIndex[h] = inputIndex;
+        mHypSnr[h] = snr;
+        mHypSkipPos[h] = skipPos;
+        mHypCompletion[h] = completion || inputIndex >= mInputLength;
+        mHypStopped[h] = false;
+    }
+
+    private void ensureDepthCapacity(int depth) {
+        if (depth < mFrameNode.length && depth < mWordBuilder.length) return;
+        final int capacity = Math.max(mFrameNode.length, mWordBuilder.length) * 2;
+        mFrameNode = Arrays.copyOf(mFrameNode, capacity);
+        mFrameHypStart = Arrays.copyOf(mFrameHypStart, capacity);
+        mFrameHypEnd = Arrays.copyOf(mFrameHypEnd, capacity);
+        mWordBuilder = Arrays.copyOf(mWordBuilder, capacity);
     }
 
     protected int setBigram(String word1, String word2, int frequency) {
@@ -338,87 +568,66 @@ public class ExpandableDictionary extends Dictionary {
      * @return returns the final frequency
      */
     private int addOrSetBigram(String word1, String word2, int frequency, boolean addFrequency) {
-        Node firstWord = searchWord(mRoots, word1, 0, null);
-        Node secondWord = searchWord(mRoots, word2, 0, null);
-        LinkedList<NextWord> bigram = firstWord.ngrams;
-        if (bigram == null || bigram.size() == 0) {
-            firstWord.ngrams = new LinkedList<NextWord>();
-            bigram = firstWord.ngrams;
-        } else {
-            for (NextWord nw : bigram) {
-                if (nw.word == secondWord) {
+        synchronized (mWriteLock) {
+            final Trie trie = getWriteTrieLocked();
+            final int firstWord = trie.searchWord(word1);
+            final int secondWord = trie.searchWord(word2);
+            int last = NO_NODE;
+            for (int bigram = trie.firstBigram[firstWord]; bigram != NO_NODE;
+                    bigram = trie.bigramNext[bigram]) {
+                if (trie.bigramWord[bigram] == secondWord) {
                     if (addFrequency) {
-                        nw.frequency += frequency;
+                        trie.bigramFrequency[bigram] += frequency;
                     } else {
-                        nw.frequency = frequency;
+                        trie.bigramFrequency[bigram] = frequency;
                     }
-                    return nw.frequency;
+                    publishLocked(trie);
+                    return trie.bigramFrequency[bigram];
                 }
+                last = bigram;
             }
+            if (trie.bigramCount == trie.bigramWord.length) trie.growBigrams();
+            final int bigram = trie.bigramCount++;
+            trie.bigramWord[bigram] = secondWord;
+            trie.bigramFrequency[bigram] = frequency;
+            trie.bigramNext[bigram] = NO_NODE;
+            if (last == NO_NODE) {
+                trie.firstBigram[firstWord] = bigram;
+            } else {
+                trie.bigramNext[last] = bigram;
+            }
+            publishLocked(trie);
+            return frequency;
         }
-        NextWord nw = new NextWord(secondWord, frequency);
-        firstWord.ngrams.add(nw);
-        return frequency;
     }
 
     /**
-     * Searches for the word and add the word if it does not exist.
-     * @return Returns the terminal node of the word we are searching for.
+     * Starts a reload if one was requested. Returns true while a reload is running, lookups
+     * then still see the words from before it.
      */
-    private Node searchWord(NodeArray children, String word, int depth, Node parentNode) {
-        final int wordLength = word.length();
-        final char c = word.charAt(depth);
-        // Does children have the current character?
-        final int childrenLength = children.length;
-        Node childNode = null;
-        boolean found = false;
-        for (int i = 0; i < childrenLength; i++) {
-            childNode = children.data[i];
-            if (childNode.code == c) {
-                found = true;
-                break;
-            }
-        }
-        if (!found) {
-            childNode = new Node();
-            childNode.code = c;
-            childNode.parent = parentNode;
-            children.add(childNode);
-        }
-        if (wordLength == depth + 1) {
-            // Terminate this word
-            childNode.terminal = true;
-            return childNode;
-        }
-        if (childNode.children == null) {
-            childNode.children = new NodeArray();
-        }
-        return searchWord(childNode.children, word, depth + 1, childNode);
-    }
-
     // @VisibleForTesting
     boolean reloadDictionaryIfRequired() {
-        synchronized (mUpdatingLock) {
-            // If we need to update, start off a background task
-            if (mRequiresReload) startDictionaryLoadingTaskLocked();
-            // Currently updating contacts, don't return any results.
-            return mUpdatingDictionary;
+        if (mRequiresReload) {
+            synchronized (mUpdatingLock) {
+                if (mRequiresReload) startDictionaryLoadingTaskLocked();
+            }
         }
+        return mUpdatingDictionary;
     }
 
     private void runReverseLookUp(final CharSequence previousWord, final WordCallback callback) {
-        Node prevWord = searchNode(mRoots, previousWord, 0, previousWord.length());
-        if (prevWord != null && prevWord.ngrams != null) {
-            reverseLookUp(prevWord.ngrams, callback);
+        final Trie trie = mTrie;
+        final int prevWord = trie.searchNode(previousWord);
+        if (prevWord != NO_NODE) {
+            reverseLookUp(trie, trie.getBigram(trie.firstBigram[prevWord]), callback);
         }
     }
 
     @Override
     public void getBigrams(final WordComposer codes, final CharSequence previousWord,
             final WordCallback callback, int[] nextLettersFrequencies) {
-        if (!reloadDictionaryIfRequired()) {
-            runReverseLookUp(previousWord, callback);
-        }
+        reloadDictionaryIfRequired();
+        runReverseLookUp(previousWord, callback);
     }
 
     /**
@@ -437,22 +646,22 @@ public class ExpandableDictionary extends Dictionary {
     /**
      * reverseLookUp retrieves the full word given a list of terminal nodes and adds those words
      * through callback.
-     * @param terminalNodes list of terminal nodes we want to add
+     * @param firstBigram first entry of the bigram list of the previous word
      */
-    private void reverseLookUp(LinkedList<NextWord> terminalNodes,
-            final WordCallback callback) {
-        Node node;
+    private void reverseLookUp(Trie trie, int firstBigram, final WordCallback callback) {
+        int node;
         int freq;
-        for (NextWord nextWord : terminalNodes) {
-            node = nextWord.word;
-            freq = nextWord.frequency;
+        for (int bigram = firstBigram; bigram != NO_NODE;
+                bigram = trie.getBigram(trie.bigramNext[bigram])) {
+            node = trie.bigramWord[bigram];
+            freq = trie.bigramFrequency[bigram];
             // TODO Not the best way to limit suggestion threshold
             if (freq >= UserBigramDictionary.SUGGEST_THRESHOLD) {
                 sb.setLength(0);
                 do {
-                    sb.insert(0, node.code);
-                    node = node.parent;
-                } while(node != null);
+                    sb.insert(0, trie.code[node]);
+                    node = trie.parent[node];
+                } while(node != ROOT);
 
                 // TODO better way to feed char array?
                 callback.addWord(sb.toString().toCharArray(), 0, sb.length(), freq, mDicTypeId,
@@ -462,230 +671,238 @@ public class ExpandableDictionary extends Dictionary {
     }
 
     /**
-     * Search for the terminal node of the word
-     * @return Returns the terminal node of the word if the word exists
+     * Removes all words. During a reload this only clears the trie being loaded.
      */
-    private Node searchNode(final NodeArray children, final CharSequence word, final int offset,
-            final int length) {
-        // TODO Consider combining with addWordRec
-        final int count = children.length;
-        char currentChar = word.charAt(offset);
-        for (int j = 0; j < count; j++) {
-            final Node node = children.data[j];
-            if (node.code == currentChar) {
-                if (offset == length - 1) {
-                    if (node.terminal) {
-                        return node;
-                    }
-                } else {
-                    if (node.children != null) {
-                        Node returnNode = searchNode(node.children, word, offset + 1, length);
-                        if (returnNode != null) return returnNode;
-                    }
+    protected void clearDictionary() {
+        synchronized (mWriteLock) {
+            replaceLocked(new Trie());
+        }
+    }
+
+    /**
+     * Sets the frequency of the word, or removes it if the frequency is 0 or less. Unlike
+     * addWord, this may lower the frequency.
+     */
+    void setWordFrequency(String word, int frequency) {
+        synchronized (mWriteLock) {
+            final Trie trie = getWriteTrieLocked();
+            if (frequency <= 0) {
+                final int node = trie.searchNode(word);
+                if (node != NO_NODE) {
+                    trie.terminal[node] = false;
+                    trie.frequency[node] = 0;
+                    publishLocked(trie);
                 }
+                return;
             }
+            final int node = trie.searchWord(word);
+            trie.frequency[node] = frequency > 255 ? 255 : frequency;
+            publishLocked(trie);
         }
-        return null;
     }
 
-    protected void clearDictionary() {
-        mRoots = new NodeArray();
+    /**
+     * Adds the words that have a frequency, and the maxBigrams bigrams that were added
+     * last, to target. Removed words and the nodes that only led to them are left out.
+     */
+    void copyTo(ExpandableDictionary target, int maxBigrams) {
+        final Trie trie = mTrie;
+        final int[] bigramSource = new int[trie.bigramCount];
+        for (int node = ROOT + 1; node < trie.nodeCount; node++) {
+            if (trie.terminal[node] && trie.frequency[node] > 0) {
+                target.setWordFrequency(trie.getWord(node), trie.frequency[node]);
+            }
+            for (int bigram = trie.getBigram(trie.firstBigram[node]); bigram != NO_NODE;
+                    bigram = trie.getBigram(trie.bigramNext[bigram])) {
+                bigramSource[bigram] = node;
+            }
+        }
+        for (int bigram = Math.max(0, trie.bigramCount - maxBigrams); bigram < trie.bigramCount;
+                bigram++) {
+            target.setBigram(trie.getWord(bigramSource[bigram]),
+                    trie.getWord(trie.bigramWord[bigram]), trie.bigramFrequency[bigram]);
+        }
     }
 
-    private class LoadDictionaryTask extends AsyncTask<Void, Void, Void> {
-        @Override
-        protected Void doInBackground(Void... v) {
-            loadDictionaryAsync();
-            synchronized (mUpdatingLock) {
-                mUpdatingDictionary = false;
-            }
-            return null;
+    int getBigramCount() {
+        return mTrie.bigramCount;
+    }
+
+    int getSnapshotSize() {
+        final Trie trie = mTrie;
+        return SNAPSHOT_HEADER_SIZE + trie.nodeCount * SNAPSHOT_NODE_SIZE
+                + trie.bigramCount * SNAPSHOT_BIGRAM_SIZE;
+    }
+
+    /**
+     * Writes the trie to buffer, which needs getSnapshotSize() bytes left.
+     */
+    void writeSnapshot(ByteBuffer buffer) {
+        final Trie trie = mTrie;
+        final int nodeCount = trie.nodeCount;
+        final int bigramCount = trie.bigramCount;
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(nodeCount)
+                .putInt(bigramCount);
+        putInts(buffer, trie.frequency, nodeCount);
+        putInts(buffer, trie.parent, nodeCount);
+        putLinks(buffer, trie.firstChild, nodeCount, nodeCount);
+        putLinks(buffer, trie.nextSibling, nodeCount, nodeCount);
+        putLinks(buffer, trie.firstBigram, nodeCount, bigramCount);
+        putInts(buffer, trie.bigramWord, bigramCount);
+        putInts(buffer, trie.bigramFrequency, bigramCount);
+        putLinks(buffer, trie.bigramNext, bigramCount, bigramCount);
+        buffer.asCharBuffer().put(trie.code, 0, nodeCount);
+        buffer.position(buffer.position() + nodeCount * 2);
+        for (int node = 0; node < nodeCount; node++) {
+            buffer.put((byte) (trie.terminal[node] ? 1 : 0));
         }
     }
 
-    static char toLowerCase(char c) {
-        if (c < BASE_CHARS.length) {
-            c = BASE_CHARS[c];
+    private static void putInts(ByteBuffer buffer, int[] values, int count) {
+        buffer.asIntBuffer().put(values, 0, count);
+        buffer.position(buffer.position() + count * 4);
+    }
+
+    /**
+     * Writes links, leaving out the ones to entries added after the trie was shared.
+     */
+    private static void putLinks(ByteBuffer buffer, int[] links, int count, int limit) {
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(links[i] < limit ? links[i] : NO_NODE);
+        }
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int count, int capacity) {
+        final int[] values = new int[capacity];
+        buffer.asIntBuffer().get(values, 0, count);
+        buffer.position(buffer.position() + count * 4);
+        return values;
+    }
+
+    private static boolean inRange(int[] values, int count, int min, int max) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] < min || values[i] >= max) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the links of the trie form a tree: every node is reached exactly once
+     * from ROOT through firstChild and nextSibling, and its parent is the node it was reached
+     * from. Also checks that no bigram is on more than one list or twice on the same list,
+     * so that none of the lists has a cycle. The links must be in range.
+     */
+    private static boolean isTree(Trie trie, int nodeCount, int bigramCount) {
+        if (trie.parent[ROOT] != NO_NODE || trie.nextSibling[ROOT] != NO_NODE) return false;
+        final boolean[] reached = new boolean[nodeCount];
+        final int[] pending = new int[nodeCount];
+        int pendingCount = 0;
+        reached[ROOT] = true;
+        pending[pendingCount++] = ROOT;
+        int reachedCount = 1;
+        while (pendingCount > 0) {
+            final int node = pending[--pendingCount];
+            for (int child = trie.firstChild[node]; child != NO_NODE;
+                    child = trie.nextSibling[child]) {
+                if (reached[child] || trie.parent[child] != node) return false;
+                reached[child] = true;
+                reachedCount++;
+                pending[pendingCount++] = child;
+            }
         }
-        if (c >= 'A' && c <= 'Z') {
-            c = (char) (c | 32);
-        } else if (c > 127) {
-            c = Character.toLowerCase(c);
+        if (reachedCount != nodeCount) return false;
+
+        final boolean[] listed = new boolean[bigramCount];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int bigram = trie.firstBigram[node]; bigram != NO_NODE;
+                    bigram = trie.bigramNext[bigram]) {
+                if (listed[bigram]) return false;
+                listed[bigram] = true;
+            }
         }
-        return c;
+        return true;
     }
 
     /**
-     * Table mapping most combined Latin, Greek, and Cyrillic characters
-     * to their base characters.  If c is in range, BASE_CHARS[c] == c
-     * if c is not a combined character, or the base character if it
-     * is combined.
+     * Replaces the trie with a snapshot written by writeSnapshot(). The arrays are copied
+     * in bulk, nothing is inserted word by word. Returns false and leaves the trie alone
+     * if the snapshot isn't valid.
      */
-    static final char BASE_CHARS[] = {
-        0x0000, 0x0001, 0x0002, 0x0003, 0x0004, 0x0005, 0x0006, 0x0007, 
-        0x0008, 0x0009, 0x000a, 0x000b, 0x000c, 0x000d, 0x000e, 0x000f, 
-        0x0010, 0x0011, 0x0012, 0x0013, 0x0014, 0x0015, 0x0016, 0x0017, 
-        0x0018, 0x0019, 0x001a, 0x001b, 0x001c, 0x001d, 0x001e, 0x001f, 
-        0x0020, 0x0021, 0x0022, 0x0023, 0x0024, 0x0025, 0x0026, 0x0027, 
-        0x0028, 0x0029, 0x002a, 0x002b, 0x002c, 0x002d, 0x002e, 0x002f, 
-        0x0030, 0x0031, 0x0032, 0x0033, 0x0034, 0x0035, 0x0036, 0x0037, 
-        0x0038, 0x0039, 0x003a, 0x003b, 0x003c, 0x003d, 0x003e, 0x003f, 
-        0x0040, 0x0041, 0x0042, 0x0043, 0x0044, 0x0045, 0x0046, 0x0047, 
-        0x0048, 0x0049, 0x004a, 0x004b, 0x004c, 0x004d, 0x004e, 0x004f, 
-        0x0050, 0x0051, 0x0052, 0x0053, 0x0054, 0x0055, 0x0056, 0x0057, 
-        0x0058, 0x0059, 0x005a, 0x005b, 0x005c, 0x005d, 0x005e, 0x005f, 
-        0x0060, 0x0061, 0x0062, 0x0063, 0x0064, 0x0065, 0x0066, 0x0067, 
-        0x0068, 0x0069, 0x006a, 0x006b, 0x006c, 0x006d, 0x006e, 0x006f, 
-        0x0070, 0x0071, 0x0072, 0x0073, 0x0074, 0x0075, 0x0076, 0x0077, 
-        0x0078, 0x0079, 0x007a, 0x007b, 0x007c, 0x007d, 0x007e, 0x007f, 
-        0x0080, 0x0081, 0x0082, 0x0083, 0x0084, 0x0085, 0x0086, 0x0087, 
-        0x0088, 0x0089, 0x008a, 0x008b, 0x008c, 0x008d, 0x008e, 0x008f, 
-        0x0090, 0x0091, 0x0092, 0x0093, 0x0094, 0x0095, 0x0096, 0x0097, 
-        0x0098, 0x0099, 0x009a, 0x009b, 0x009c, 0x009d, 0x009e, 0x009f, 
-        0x0020, 0x00a1, 0x00a2, 0x00a3, 0x00a4, 0x00a5, 0x00a6, 0x00a7, 
-        0x0020, 0x00a9, 0x0061, 0x00ab, 0x00ac, 0x00ad, 0x00ae, 0x0020, 
-        0x00b0, 0x00b1, 0x0032, 0x0033, 0x0020, 0x03bc, 0x00b6, 0x00b7, 
-        0x0020, 0x0031, 0x006f, 0x00bb, 0x0031, 0x0031, 0x0033, 0x00bf, 
-        0x0041, 0x0041, 0x0041, 0x0041, 0x0041, 0x0041, 0x00c6, 0x0043, 
-        0x0045, 0x0045, 0x0045, 0x0045, 0x0049, 0x0049, 0x0049, 0x0049, 
-        0x00d0, 0x004e, 0x004f, 0x004f, 0x004f, 0x004f, 0x004f, 0x00d7, 
-        0x004f, 0x0055, 0x0055, 0x0055, 0x0055, 0x0059, 0x00de, 0x0073, // Manually changed d8 to 4f
-                                                                        // Manually changed df to 73
-        0x0061, 0x0061, 0x0061, 0x0061, 0x0061, 0x0061, 0x00e6, 0x0063, 
-        0x0065, 0x0065, 0x0065, 0x0065, 0x0069, 0x0069, 0x0069, 0x0069, 
-        0x00f0, 0x006e, 0x006f, 0x006f, 0x006f, 0x006f, 0x006f, 0x00f7, 
-        0x006f, 0x0075, 0x0075, 0x0075, 0x0075, 0x0079, 0x00fe, 0x0079, // Manually changed f8 to 6f
-        0x0041, 0x0061, 0x0041, 0x0061, 0x0041, 0x0061, 0x0043, 0x0063, 
-        0x0043, 0x0063, 0x0043, 0x0063, 0x0043, 0x0063, 0x0044, 0x0064, 
-        0x0110, 0x0111, 0x0045, 0x0065, 0x0045, 0x0065, 0x0045, 0x0065, 
-        0x0045, 0x0065, 0x0045, 0x0065, 0x0047, 0x0067, 0x0047, 0x0067, 
-        0x0047, 0x0067, 0x0047, 0x0067, 0x0048, 0x0068, 0x0126, 0x0127, 
-        0x0049, 0x0069, 0x0049, 0x0069, 0x0049, 0x0069, 0x0049, 0x0069, 
-        0x0049, 0x0131, 0x0049, 0x0069, 0x004a, 0x006a, 0x004b, 0x006b, 
-        0x0138, 0x004c, 0x006c, 0x004c, 0x006c, 0x004c, 0x006c, 0x004c, 
-        0x006c, 0x0141, 0x0142, 0x004e, 0x006e, 0x004e, 0x006e, 0x004e, 
-        0x006e, 0x02bc, 0x014a, 0x014b, 0x004f, 0x006f, 0x004f, 0x006f, 
-        0x004f, 0x006f, 0x0152, 0x0153, 0x0052, 0x0072, 0x0052, 0x0072, 
-        0x0052, 0x0072, 0x0053, 0x0073, 0x0053, 0x0073, 0x0053, 0x0073, 
-        0x0053, 0x0073, 0x0054, 0x0074, 0x0054, 0x0074, 0x0166, 0x0167, 
-        0x0055, 0x0075, 0x0055, 0x0075, 0x0055, 0x0075, 0x0055, 0x0075, 
-        0x0055, 0x0075, 0x0055, 0x0075, 0x0057, 0x0077, 0x0059, 0x0079, 
-        0x0059, 0x005a, 0x007a, 0x005a, 0x007a, 0x005a, 0x007a, 0x0073, 
-        0x0180, 0x0181, 0x0182, 0x0183, 0x0184, 0x0185, 0x0186, 0x0187, 
-        0x0188, 0x0189, 0x018a, 0x018b, 0x018c, 0x018d, 0x018e, 0x018f, 
-        0x0190, 0x0191, 0x0192, 0x0193, 0x0194, 0x0195, 0x0196, 0x0197, 
-        0x0198, 0x0199, 0x019a, 0x019b, 0x019c, 0x019d, 0x019e, 0x019f, 
-        0x004f, 0x006f, 0x01a2, 0x01a3, 0x01a4, 0x01a5, 0x01a6, 0x01a7, 
-        0x01a8, 0x01a9, 0x01aa, 0x01ab, 0x01ac, 0x01ad, 0x01ae, 0x0055, 
-        0x0075, 0x01b1, 0x01b2, 0x01b3, 0x01b4, 0x01b5, 0x01b6, 0x01b7, 
-        0x01b8, 0x01b9, 0x01ba, 0x01bb, 0x01bc, 0x01bd, 0x01be, 0x01bf, 
-        0x01c0, 0x01c1, 0x01c2, 0x01c3, 0x0044, 0x0044, 0x0064, 0x004c, 
-        0x004c, 0x006c, 0x004e, 0x004e, 0x006e, 0x0041, 0x0061, 0x0049, 
-        0x0069, 0x004f, 0x006f, 0x0055, 0x0075, 0x00dc, 0x00fc, 0x00dc, 
-        0x00fc, 0x00dc, 0x00fc, 0x00dc, 0x00fc, 0x01dd, 0x00c4, 0x00e4, 
-        0x0226, 0x0227, 0x00c6, 0x00e6, 0x01e4, 0x01e5, 0x0047, 0x0067, 
-        0x004b, 0x006b, 0x004f, 0x006f, 0x01ea, 0x01eb, 0x01b7, 0x0292, 
-        0x006a, 0x0044, 0x0044, 0x0064, 0x0047, 0x0067, 0x01f6, 0x01f7, 
-        0x004e, 0x006e, 0x00c5, 0x00e5, 0x00c6, 0x00e6, 0x00d8, 0x00f8, 
-        0x0041, 0x0061, 0x0041, 0x0061, 0x0045, 0x0065, 0x0045, 0x0065, 
-        0x0049, 0x0069, 0x0049, 0x0069, 0x004f, 0x006f, 0x004f, 0x006f, 
-        0x0052, 0x0072, 0x0052, 0x0072, 0x0055, 0x0075, 0x0055, 0x0075, 
-        0x0053, 0x0073, 0x0054, 0x0074, 0x021c, 0x021d, 0x0048, 0x0068, 
-        0x0220, 0x0221, 0x0222, 0x0223, 0x0224, 0x0225, 0x0041, 0x0061, 
-        0x0045, 0x0065, 0x00d6, 0x00f6, 0x00d5, 0x00f5, 0x004f, 0x006f, 
-        0x022e, 0x022f, 0x0059, 0x0079, 0x0234, 0x0235, 0x0236, 0x0237, 
-        0x0238, 0x0239, 0x023a, 0x023b, 0x023c, 0x023d, 0x023e, 0x023f, 
-        0x0240, 0x0241, 0x0242, 0x0243, 0x0244, 0x0245, 0x0246, 0x0247, 
-        0x0248, 0x0249, 0x024a, 0x024b, 0x024c, 0x024d, 0x024e, 0x024f, 
-        0x0250, 0x0251, 0x0252, 0x0253, 0x0254, 0x0255, 0x0256, 0x0257, 
-        0x0258, 0x0259, 0x025a, 0x025b, 0x025c, 0x025d, 0x025e, 0x025f, 
-        0x0260, 0x0261, 0x0262, 0x0263, 0x0264, 0x0265, 0x0266, 0x0267, 
-        0x0268, 0x0269, 0x026a, 0x026b, 0x026c, 0x026d, 0x026e, 0x026f, 
-        0x0270, 0x0271, 0x0272, 0x0273, 0x0274, 0x0275, 0x0276, 0x0277, 
-        0x0278, 0x0279, 0x027a, 0x027b, 0x027c, 0x027d, 0x027e, 0x027f, 
-        0x0280, 0x0281, 0x0282, 0x0283, 0x0284, 0x0285, 0x0286, 0x0287, 
-        0x0288, 0x0289, 0x028a, 0x028b, 0x028c, 0x028d, 0x028e, 0x028f, 
-        0x0290, 0x0291, 0x0292, 0x0293, 0x0294, 0x0295, 0x0296, 0x0297, 
-        0x0298, 0x0299, 0x029a, 0x029b, 0x029c, 0x029d, 0x029e, 0x029f, 
-        0x02a0, 0x02a1, 0x02a2, 0x02a3, 0x02a4, 0x02a5, 0x02a6, 0x02a7, 
-        0x02a8, 0x02a9, 0x02aa, 0x02ab, 0x02ac, 0x02ad, 0x02ae, 0x02af, 
-        0x0068, 0x0266, 0x006a, 0x0072, 0x0279, 0x027b, 0x0281, 0x0077, 
-        0x0079, 0x02b9, 0x02ba, 0x02bb, 0x02bc, 0x02bd, 0x02be, 0x02bf, 
-        0x02c0, 0x02c1, 0x02c2, 0x02c3, 0x02c4, 0x02c5, 0x02c6, 0x02c7, 
-        0x02c8, 0x02c9, 0x02ca, 0x02cb, 0x02cc, 0x02cd, 0x02ce, 0x02cf, 
-        0x02d0, 0x02d1, 0x02d2, 0x02d3, 0x02d4, 0x02d5, 0x02d6, 0x02d7, 
-        0x0020, 0x0020, 0x0020, 0x0020, 0x0020, 0x0020, 0x02de, 0x02df, 
-        0x0263, 0x006c, 0x0073, 0x0078, 0x0295, 0x02e5, 0x02e6, 0x02e7, 
-        0x02e8, 0x02e9, 0x02ea, 0x02eb, 0x02ec, 0x02ed, 0x02ee, 0x02ef, 
-        0x02f0, 0x02f1, 0x02f2, 0x02f3, 0x02f4, 0x02f5, 0x02f6, 0x02f7, 
-        0x02f8, 0x02f9, 0x02fa, 0x02fb, 0x02fc, 0x02fd, 0x02fe, 0x02ff, 
-        0x0300, 0x0301, 0x0302, 0x0303, 0x0304, 0x0305, 0x0306, 0x0307, 
-        0x0308, 0x0309, 0x030a, 0x030b, 0x030c, 0x030d, 0x030e, 0x030f, 
-        0x0310, 0x0311, 0x0312, 0x0313, 0x0314, 0x0315, 0x0316, 0x0317, 
-        0x0318, 0x0319, 0x031a, 0x031b, 0x031c, 0x031d, 0x031e, 0x031f, 
-        0x0320, 0x0321, 0x0322, 0x0323, 0x0324, 0x0325, 0x0326, 0x0327, 
-        0x0328, 0x0329, 0x032a, 0x032b, 0x032c, 0x032d, 0x032e, 0x032f, 
-        0x0330, 0x0331, 0x0332, 0x0333, 0x0334, 0x0335, 0x0336, 0x0337, 
-        0x0338, 0x0339, 0x033a, 0x033b, 0x033c, 0x033d, 0x033e, 0x033f, 
-        0x0300, 0x0301, 0x0342, 0x0313, 0x0308, 0x0345, 0x0346, 0x0347, 
-        0x0348, 0x0349, 0x034a, 0x034b, 0x034c, 0x034d, 0x034e, 0x034f, 
-        0x0350, 0x0351, 0x0352, 0x0353, 0x0354, 0x0355, 0x0356, 0x0357, 
-        0x0358, 0x0359, 0x035a, 0x035b, 0x035c, 0x035d, 0x035e, 0x035f, 
-        0x0360, 0x0361, 0x0362, 0x0363, 0x0364, 0x0365, 0x0366, 0x0367, 
-        0x0368, 0x0369, 0x036a, 0x036b, 0x036c, 0x036d, 0x036e, 0x036f, 
-        0x0370, 0x0371, 0x0372, 0x0373, 0x02b9, 0x0375, 0x0376, 0x0377, 
-        0x0378, 0x0379, 0x0020, 0x037b, 0x037c, 0x037d, 0x003b, 0x037f, 
-        0x0380, 0x0381, 0x0382, 0x0383, 0x0020, 0x00a8, 0x0391, 0x00b7, 
-        0x0395, 0x0397, 0x0399, 0x038b, 0x039f, 0x038d, 0x03a5, 0x03a9, 
-        0x03ca, 0x0391, 0x0392, 0x0393, 0x0394, 0x0395, 0x0396, 0x0397, 
-        0x0398, 0x0399, 0x039a, 0x039b, 0x039c, 0x039d, 0x039e, 0x039f, 
-        0x03a0, 0x03a1, 0x03a2, 0x03a3, 0x03a4, 0x03a5, 0x03a6, 0x03a7, 
-        0x03a8, 0x03a9, 0x0399, 0x03a5, 0x03b1, 0x03b5, 0x03b7, 0x03b9, 
-        0x03cb, 0x03b1, 0x03b2, 0x03b3, 0x03b4, 0x03b5, 0x03b6, 0x03b7, 
-        0x03b8, 0x03b9, 0x03ba, 0x03bb, 0x03bc, 0x03bd, 0x03be, 0x03bf, 
-        0x03c0, 0x03c1, 0x03c2, 0x03c3, 0x03c4, 0x03c5, 0x03c6, 0x03c7, 
-        0x03c8, 0x03c9, 0x03b9, 0x03c5, 0x03bf, 0x03c5, 0x03c9, 0x03cf, 
-        0x03b2, 0x03b8, 0x03a5, 0x03d2, 0x03d2, 0x03c6, 0x03c0, 0x03d7, 
-        0x03d8, 0x03d9, 0x03da, 0x03db, 0x03dc, 0x03dd, 0x03de, 0x03df, 
-        0x03e0, 0x03e1, 0x03e2, 0x03e3, 0x03e4, 0x03e5, 0x03e6, 0x03e7, 
-        0x03e8, 0x03e9, 0x03ea, 0x03eb, 0x03ec, 0x03ed, 0x03ee, 0x03ef, 
-        0x03ba, 0x03c1, 0x03c2, 0x03f3, 0x0398, 0x03b5, 0x03f6, 0x03f7, 
-        0x03f8, 0x03a3, 0x03fa, 0x03fb, 0x03fc, 0x03fd, 0x03fe, 0x03ff, 
-        0x0415, 0x0415, 0x0402, 0x0413, 0x0404, 0x0405, 0x0406, 0x0406, 
-        0x0408, 0x0409, 0x040a, 0x040b, 0x041a, 0x0418, 0x0423, 0x040f, 
-        0x0410, 0x0411, 0x0412, 0x0413, 0x0414, 0x0415, 0x0416, 0x0417, 
-        0x0418, 0x0418, 0x041a, 0x041b, 0x041c, 0x041d, 0x041e, 0x041f, 
-        0x0420, 0x0421, 0x0422, 0x0423, 0x0424, 0x0425, 0x0426, 0x0427, 
-        0x0428, 0x0429, 0x042a, 0x042b, 0x042c, 0x042d, 0x042e, 0x042f, 
-        0x0430, 0x0431, 0x0432, 0x0433, 0x0434, 0x0435, 0x0436, 0x0437, 
-        0x0438, 0x0438, 0x043a, 0x043b, 0x043c, 0x043d, 0x043e, 0x043f, 
-        0x0440, 0x0441, 0x0442, 0x0443, 0x0444, 0x0445, 0x0446, 0x0447, 
-        0x0448, 0x0449, 0x044a, 0x044b, 0x044c, 0x044d, 0x044e, 0x044f, 
-        0x0435, 0x0435, 0x0452, 0x0433, 0x0454, 0x0455, 0x0456, 0x0456, 
-        0x0458, 0x0459, 0x045a, 0x045b, 0x043a, 0x0438, 0x0443, 0x045f, 
-        0x0460, 0x0461, 0x0462, 0x0463, 0x0464, 0x0465, 0x0466, 0x0467, 
-        0x0468, 0x0469, 0x046a, 0x046b, 0x046c, 0x046d, 0x046e, 0x046f, 
-        0x0470, 0x0471, 0x0472, 0x0473, 0x0474, 0x0475, 0x0474, 0x0475, 
-        0x0478, 0x0479, 0x047a, 0x047b, 0x047c, 0x047d, 0x047e, 0x047f, 
-        0x0480, 0x0481, 0x0482, 0x0483, 0x0484, 0x0485, 0x0486, 0x0487, 
-        0x0488, 0x0489, 0x048a, 0x048b, 0x048c, 0x048d, 0x048e, 0x048f, 
-        0x0490, 0x0491, 0x0492, 0x0493, 0x0494, 0x0495, 0x0496, 0x0497, 
-        0x0498, 0x0499, 0x049a, 0x049b, 0x049c, 0x049d, 0x049e, 0x049f, 
-        0x04a0, 0x04a1, 0x04a2, 0x04a3, 0x04a4, 0x04a5, 0x04a6, 0x04a7, 
-        0x04a8, 0x04a9, 0x04aa, 0x04ab, 0x04ac, 0x04ad, 0x04ae, 0x04af, 
-        0x04b0, 0x04b1, 0x04b2, 0x04b3, 0x04b4, 0x04b5, 0x04b6, 0x04b7, 
-        0x04b8, 0x04b9, 0x04ba, 0x04bb, 0x04bc, 0x04bd, 0x04be, 0x04bf, 
-        0x04c0, 0x0416, 0x0436, 0x04c3, 0x04c4, 0x04c5, 0x04c6, 0x04c7, 
-        0x04c8, 0x04c9, 0x04ca, 0x04cb, 0x04cc, 0x04cd, 0x04ce, 0x04cf, 
-        0x0410, 0x0430, 0x0410, 0x0430, 0x04d4, 0x04d5, 0x0415, 0x0435, 
-        0x04d8, 0x04d9, 0x04d8, 0x04d9, 0x0416, 0x0436, 0x0417, 0x0437, 
-        0x04e0, 0x04e1, 0x0418, 0x0438, 0x0418, 0x0438, 0x041e, 0x043e, 
-        0x04e8, 0x04e9, 0x04e8, 0x04e9, 0x042d, 0x044d, 0x0423, 0x0443, 
-        0x0423, 0x0443, 0x0423, 0x0443, 0x0427, 0x0447, 0x04f6, 0x04f7, 
-        0x042b, 0x044b, 0x04fa, 0x04fb, 0x04fc, 0x04fd, 0x04fe, 0x04ff, 
-    };
-
-    // generated with:
-    // cat UnicodeData.txt | perl -e 'while (<>) { @foo = split(/;/); $foo[5] =~ s/<.*> //; $base[hex($foo[0])] = hex($foo[5]);} for ($i = 0; $i < 0x500; $i += 8) { for ($j = $i; $j < $i + 8; $j++) { printf("0x%04x, ", $base[$j] ? $base[$j] : $j)}; print "\n"; }'
+    boolean readSnapshot(ByteBuffer buffer) {
+        buffer.order(ByteOrder.nativeOrder());
+        if (buffer.remaining() < SNAPSHOT_HEADER_SIZE || buffer.getInt() != SNAPSHOT_MAGIC
+                || buffer.getInt() != SNAPSHOT_VERSION) {
+            return false;
+        }
+        final int nodeCount = buffer.getInt();
+        final int bigramCount = buffer.getInt();
+        if (nodeCount < 1 || bigramCount < 0 || buffer.remaining()
+                != (long) nodeCount * SNAPSHOT_NODE_SIZE
+                        + (long) bigramCount * SNAPSHOT_BIGRAM_SIZE) {
+            return false;
+        }
+        final int nodeCapacity = Math.max(INITIAL_CAPACITY, nodeCount);
+        final int bigramCapacity = Math.max(INITIAL_CAPACITY, bigramCount);
+        final Trie trie = new Trie();
+        trie.frequency = getInts(buffer, nodeCount, nodeCapacity);
+        trie.parent = getInts(buffer, nodeCount, nodeCapacity);
+        trie.firstChild = getInts(buffer, nodeCount, nodeCapacity);
+        trie.nextSibling = getInts(buffer, nodeCount, nodeCapacity);
+        trie.firstBigram = getInts(buffer, nodeCount, nodeCapacity);
+        trie.bigramWord = getInts(buffer, bigramCount, bigramCapacity);
+        trie.bigramFrequency = getInts(buffer, bigramCount, bigramCapacity);
+        trie.bigramNext = getInts(buffer, bigramCount, bigramCapacity);
+        trie.code = new char[nodeCapacity];
+        buffer.asCharBuffer().get(trie.code, 0, nodeCount);
+        buffer.position(buffer.position() + nodeCount * 2);
+        trie.terminal = new boolean[nodeCapacity];
+        for (int node = 0; node < nodeCount; node++) {
+            trie.terminal[node] = buffer.get() != 0;
+        }
+        // A damaged file must not send a lookup out of bounds or around in circles. With
+        // all links in range and forming a tree, walking up the parents from a bigram's word
+        // ends at ROOT, so the word can't be ROOT itself.
+        if (!inRange(trie.parent, nodeCount, NO_NODE, nodeCount)
+                || !inRange(trie.firstChild, nodeCount, NO_NODE, nodeCount)
+                || !inRange(trie.nextSibling, nodeCount, NO_NODE, nodeCount)
+                || !inRange(trie.firstBigram, nodeCount, NO_NODE, bigramCount)
+                || !inRange(trie.bigramWord, bigramCount, ROOT + 1, nodeCount)
+                || !inRange(trie.bigramNext, bigramCount, NO_NODE, bigramCount)
+                || !isTree(trie, nodeCount, bigramCount)) {
+            return false;
+        }
+        trie.nodeCount = nodeCount;
+        trie.bigramCount = bigramCount;
+        synchronized (mWriteLock) {
+            replaceLocked(trie);
+        }
+        return true;
+    }
+
+    private class LoadDictionaryTask extends AsyncTask<Void, Void, Void> {
+        @Override
+        protected Void doInBackground(Void... v) {
+            boolean loaded = false;
+            try {
+                loadDictionaryAsync();
+                loaded = true;
+            } finally {
+                synchronized (mWriteLock) {
+                    // Keep the previous words if loading failed.
+                    final Trie trie = mLoadingTrie;
+                    mLoadingTrie = null;
+                    if (loaded) replaceLocked(trie);
+                }
+                synchronized (mUpdatingLock) {
+                    mUpdatingDictionary = false;
+                }
+            }
+            return null;
+        }
+    }
 
+    static char toLowerCase(char c) {
+        return CaseFoldTable.fold(c);
+    }
 }
@@ -26,8 +26,6 @@ import java.util.Set;
 
 import android.content.SharedPreferences;
 import android.content.SharedPreferences.Editor;
-import android.content.res.Configuration;
-import android.content.res.Resources;
 import android.os.Bundle;
 import android.preference.CheckBoxPreference;
 import android.preference.PreferenceActivity;
@@ -175,6 +173,13 @@ public class InputLanguageSelection extends PreferenceActivity {
             }
         }
 
+        DictionaryIndex dictionaryIndex = new DictionaryIndex(this);
+        List<Locale> locales = new ArrayList<Locale>(mAvailableLanguages.size());
+        for (int i = 0; i < mAvailableLanguages.size(); i++) {
+            locales.add(mAvailableLanguages.get(i).locale);
+        }
+        dictionaryIndex.probe(locales);
+
         PreferenceGroup parent = getPreferenceScreen();
         for (int i = 0; i < mAvailableLanguages.size(); i++) {
             CheckBoxPreference pref = new CheckBoxPreference(this);
@@ -190,7 +195,7 @@ public class InputLanguageSelection extends PreferenceActivity {
             List<String> summaries = new ArrayList<String>(3);
             if (has5Row) summaries.add("5-row");           
             if (has4Row) summaries.add("4-row");           
-            if (hasDictionary(locale)) {
+            if (dictionaryIndex.getInfo(locale).hasDictionary()) {
             	summaries.add(getResources().getString(R.string.has_dictionary));
             }
             if (!summaries.isEmpty()) {
@@ -205,36 +210,6 @@ public class InputLanguageSelection extends PreferenceActivity {
         }
     }
 
-    private boolean hasDictionary(Locale locale) {
-        Resources res = getResources();
-        Configuration conf = res.getConfiguration();
-        Locale saveLocale = conf.locale;
-        boolean haveDictionary = false;
-        conf.locale = locale;
-        res.updateConfiguration(conf, res.getDisplayMetrics());
-
-        int[] dictionaries = LatinIME.getDictionary(res);
-        BinaryDictionary bd = new BinaryDictionary(this, dictionaries, Suggest.DIC_MAIN);
-
-        // Is the dictionary larger than a placeholder? Arbitrarily chose a lower limit of
-        // 4000-5000 words, whereas the LARGE_DICTIONARY is about 20000+ words.
-        if (bd.getSize() > Suggest.LARGE_DICTIONARY_THRESHOLD / 4) {
-            haveDictionary = true;
-        } else {
-            BinaryDictionary plug = PluginManager.getDictionary(getApplicationContext(), locale.getLanguage());
-            if (plug != null) {
-                bd.close();
-                bd = plug;
-                haveDictionary = true;
-            }
-        }
-
-        bd.close();
-        conf.locale = saveLocale;
-        res.updateConfiguration(conf, res.getDisplayMetrics());
-        return haveDictionary;
-    }
-
     private String get5Code(Locale locale) {
         String country = locale.getCountry();
         return locale.getLanguage()
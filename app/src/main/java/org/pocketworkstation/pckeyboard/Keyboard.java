@@ -19,6 +19,7 @@ package org.pocketworkstation.pckeyboard;
 import org.xmlpull.v1.XmlPullParserException;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.content.res.XmlResourceParser;
@@ -29,6 +30,9 @@ import android.util.TypedValue;
 import android.util.Xml;
 import android.util.DisplayMetrics;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -167,6 +171,10 @@ public class Keyboard {
     private int mProximityThreshold;
     /** Number of key widths from current touch point to search for nearest keys. */
     private static float SEARCH_DISTANCE = 1.8f;
+    /** Sanity limits for the number of keys, codes per key and rows in a cached layout. */
+    private static final int MAX_CACHED_KEYS = 1024;
+    private static final int MAX_CACHED_CODES = 256;
+    private static final int MAX_CACHED_ROWS = 64;
 
     /**
      * Container for keys in the keyboard. All keys in a row are at the same Y-coordinate.
@@ -323,6 +331,9 @@ public class Keyboard {
         private boolean isSimpleUppercase;
         /** Is the shifted character a distinct uppercase char that's different from the shifted char? */
         private boolean isDistinctUppercase;
+        /** Resource ids of the icons, 0 if none. Used to restore them from the layout cache. */
+        private int iconResId;
+        private int iconPreviewResId;
 
         private final static int[] KEY_STATE_NORMAL_ON = {
             android.R.attr.state_checkable,
@@ -424,6 +435,7 @@ public class Keyboard {
             }
 
             iconPreview = a.getDrawable(R.styleable.Keyboard_Key_iconPreview);
+            iconPreviewResId = a.getResourceId(R.styleable.Keyboard_Key_iconPreview, 0);
             if (iconPreview != null) {
                 iconPreview.setBounds(0, 0, iconPreview.getIntrinsicWidth(),
                         iconPreview.getIntrinsicHeight());
@@ -443,6 +455,7 @@ public class Keyboard {
 
             icon = a.getDrawable(
                     R.styleable.Keyboard_Key_keyIcon);
+            iconResId = a.getResourceId(R.styleable.Keyboard_Key_keyIcon, 0);
             if (icon != null) {
                 icon.setBounds(0, 0, icon.getIntrinsicWidth(), icon.getIntrinsicHeight());
             }
@@ -491,6 +504,102 @@ public class Keyboard {
             a.recycle();
         }
 
+        /**
+         * Writes the attributes that come from the layout XML.
+         * @return false if the key can't be restored from the written data
+         */
+        boolean writeTo(DataOutputStream out) throws IOException {
+            if ((icon != null && iconResId == 0)
+                    || (iconPreview != null && iconPreviewResId == 0)) {
+                return false;
+            }
+            // A cached key without codes would be taken for a damaged file.
+            if (codes.length < 1 || codes.length > MAX_CACHED_CODES) return false;
+            out.writeInt(codes.length);
+            for (int code : codes) {
+                out.writeInt(code);
+            }
+            if (!writeText(out, label) || !writeText(out, shiftLabel)
+                    || !writeText(out, capsLabel) || !writeText(out, text)
+                    || !writeText(out, popupCharacters)) {
+                return false;
+            }
+            out.writeInt(iconResId);
+            out.writeInt(iconPreviewResId);
+            out.writeInt(popupResId);
+            out.writeInt(x);
+            out.writeFloat(realX);
+            out.writeInt(y);
+            out.writeInt(width);
+            out.writeFloat(realWidth);
+            out.writeInt(height);
+            out.writeInt(gap);
+            out.writeFloat(realGap);
+            out.writeBoolean(sticky);
+            out.writeBoolean(repeatable);
+            out.writeBoolean(modifier);
+            out.writeBoolean(isCursor);
+            out.writeBoolean(isSimpleUppercase);
+            out.writeBoolean(isDistinctUppercase);
+            return true;
+        }
+
+        /**
+         * Reads the attributes written by {@link #writeTo}.
+         */
+        void readFrom(Resources res, DataInputStream in) throws IOException {
+            final int codeCount = in.readInt();
+            if (codeCount < 1 || codeCount > MAX_CACHED_CODES) throw new IOException("code count");
+            codes = new int[codeCount];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = in.readInt();
+            }
+            label = readText(in);
+            shiftLabel = readText(in);
+            capsLabel = readText(in);
+            text = readText(in);
+            popupCharacters = readText(in);
+            iconResId = in.readInt();
+            iconPreviewResId = in.readInt();
+            popupResId = in.readInt();
+            x = in.readInt();
+            realX = in.readFloat();
+            y = in.readInt();
+            width = in.readInt();
+            realWidth = in.readFloat();
+            height = in.readInt();
+            gap = in.readInt();
+            realGap = in.readFloat();
+            sticky = in.readBoolean();
+            repeatable = in.readBoolean();
+            modifier = in.readBoolean();
+            isCursor = in.readBoolean();
+            isSimpleUppercase = in.readBoolean();
+            isDistinctUppercase = in.readBoolean();
+            if (iconResId != 0) {
+                icon = res.getDrawable(iconResId);
+                icon.setBounds(0, 0, icon.getIntrinsicWidth(), icon.getIntrinsicHeight());
+            }
+            if (iconPreviewResId != 0) {
+                iconPreview = res.getDrawable(iconPreviewResId);
+                iconPreview.setBounds(0, 0, iconPreview.getIntrinsicWidth(),
+                        iconPreview.getIntrinsicHeight());
+            }
+        }
+
+        private static boolean writeText(DataOutputStream out, CharSequence value)
+                throws IOException {
+            // Styled text can't be stored as a plain string.
+            if (value != null && !(value instanceof String)) return false;
+            out.writeBoolean(value != null);
+            if (value != null) out.writeUTF((String) value);
+            return true;
+        }
+
+        private static CharSequence readText(DataInputStream in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
         public boolean isDistinctCaps() {
             return isDistinctUppercase && keyboard.isShiftCaps();
         }
@@ -841,7 +950,7 @@ public class Keyboard {
         mModifierKeys = new ArrayList<Key>();
         mKeyboardMode = modeId;
         mUseExtension = LatinIME.sKeyboardSettings.useExtension;
-        loadKeyboard(context, context.getResources().getXml(xmlLayoutResId));
+        loadLayout(context, xmlLayoutResId);
         setEdgeFlags();
         fixAltChars(LatinIME.sKeyboardSettings.inputLocale);
     }
@@ -1150,6 +1259,168 @@ public class Keyboard {
         return new int[0];
     }
 
+    /**
+     * Loads the keys from the layout cache if possible, otherwise from the XML resource, and
+     * caches the result for the next time.
+     */
+    private void loadLayout(Context context, int xmlLayoutResId) {
+        final long start = System.nanoTime();
+        final Resources res = context.getResources();
+        final String params = getLayoutParams(res, xmlLayoutResId);
+        final DataInputStream cached = KeyboardLayoutCache.read(context, xmlLayoutResId, params);
+        if (readLayout(res, cached)) {
+            KeyboardLayoutCache.sCachedTime.recordSince(start);
+            Log.v(TAG, "loaded " + res.getResourceEntryName(xmlLayoutResId) + " from cache in "
+                    + (System.nanoTime() - start) / 1000 + "us");
+            return;
+        }
+        // The header matched, so the layout itself is damaged. Don't try it again, even if
+        // this layout can't be cached to replace it.
+        if (cached != null) KeyboardLayoutCache.delete(context, xmlLayoutResId, params);
+        loadKeyboard(context, res.getXml(xmlLayoutResId));
+        KeyboardLayoutCache.sXmlTime.recordSince(start);
+        Log.v(TAG, "loaded " + res.getResourceEntryName(xmlLayoutResId) + " from XML in "
+                + (System.nanoTime() - start) / 1000 + "us");
+        KeyboardLayoutCache.write(context, xmlLayoutResId, params, writeLayout());
+    }
+
+    /**
+     * Describes everything the parsed layout depends on besides the XML itself.
+     */
+    private String getLayoutParams(Resources res, int xmlLayoutResId) {
+        final Configuration conf = res.getConfiguration();
+        final DisplayMetrics dm = res.getDisplayMetrics();
+        final GlobalKeyboardSettings settings = LatinIME.sKeyboardSettings;
+        return "xml=" + xmlLayoutResId
+                + " mode=" + mKeyboardMode
+                + " height=" + mDefaultHeight + "/" + mKeyboardHeight
+                + " display=" + mDisplayWidth + "x" + mDisplayHeight
+                + " density=" + dm.densityDpi + "/" + dm.scaledDensity
+                + " conf=" + conf.locale + "/" + conf.orientation + "/" + conf.screenLayout
+                + " locale=" + settings.inputLocale
+                + " ext=" + mUseExtension
+                + " top=" + settings.topRowScale
+                + " popup=" + settings.popupKeyboardFlags;
+    }
+
+    /**
+     * Encodes the state built by {@link #loadKeyboard}.
+     * @return the encoded layout, or null if it can't be cached
+     */
+    private byte[] writeLayout() {
+        // Don't write what readLayout() would reject.
+        if (mKeys.size() > MAX_CACHED_KEYS || mLayoutRows < 1 || mLayoutRows > MAX_CACHED_ROWS
+                || mLayoutColumns < 1 || mLayoutColumns > MAX_CACHED_KEYS
+                || mRowCount > MAX_CACHED_ROWS) {
+            return null;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeFloat(mDefaultWidth);
+            out.writeInt(mDefaultHeight);
+            out.writeFloat(mDefaultHorizontalGap);
+            out.writeInt(mDefaultVerticalGap);
+            out.writeFloat(mHorizontalPad);
+            out.writeFloat(mVerticalPad);
+            out.writeInt(mLayoutRows);
+            out.writeInt(mLayoutColumns);
+            out.writeInt(mRowCount);
+            out.writeInt(mExtensionRowCount);
+            out.writeInt(mProximityThreshold);
+            out.writeInt(mTotalWidth);
+            out.writeInt(mTotalHeight);
+            out.writeInt(mKeys.size());
+            for (Key key : mKeys) {
+                if (!key.writeTo(out)) return null;
+            }
+            out.close();
+        } catch (IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores the state written by {@link #writeLayout}. Nothing is changed unless the
+     * whole layout could be read.
+     * @param in the cached layout, may be null
+     * @return true if the layout was restored
+     */
+    private boolean readLayout(Resources res, DataInputStream in) {
+        if (in == null) return false;
+        final float defaultWidth;
+        final int defaultHeight;
+        final float defaultHorizontalGap;
+        final int defaultVerticalGap;
+        final float horizontalPad;
+        final float verticalPad;
+        final int layoutRows;
+        final int layoutColumns;
+        final int rowCount;
+        final int extensionRowCount;
+        final int proximityThreshold;
+        final int totalWidth;
+        final int totalHeight;
+        final List<Key> keys;
+        try {
+            defaultWidth = in.readFloat();
+            defaultHeight = in.readInt();
+            defaultHorizontalGap = in.readFloat();
+            defaultVerticalGap = in.readInt();
+            horizontalPad = in.readFloat();
+            verticalPad = in.readFloat();
+            layoutRows = in.readInt();
+            layoutColumns = in.readInt();
+            rowCount = in.readInt();
+            extensionRowCount = in.readInt();
+            proximityThreshold = in.readInt();
+            totalWidth = in.readInt();
+            totalHeight = in.readInt();
+            // The layout grid is allocated and divided by, so it can't be empty.
+            if (layoutRows < 1 || layoutRows > MAX_CACHED_ROWS
+                    || layoutColumns < 1 || layoutColumns > MAX_CACHED_KEYS
+                    || rowCount < 0 || rowCount > MAX_CACHED_ROWS
+                    || extensionRowCount < 0 || extensionRowCount > MAX_CACHED_ROWS
+                    || totalWidth < 0 || totalHeight < 0) {
+                throw new IOException("layout size");
+            }
+            final int keyCount = in.readInt();
+            if (keyCount < 0 || keyCount > MAX_CACHED_KEYS) throw new IOException("key count");
+            keys = new ArrayList<Key>(keyCount);
+            final Row row = new Row(this);
+            for (int i = 0; i < keyCount; i++) {
+                final Key key = createKeyFromCache(row);
+                key.readFrom(res, in);
+                keys.add(key);
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Bad cached layout: " + e);
+            return false;
+        } catch (RuntimeException e) {
+            // Such as a resource id that no longer exists.
+            Log.w(TAG, "Bad cached layout: " + e);
+            return false;
+        }
+        mDefaultWidth = defaultWidth;
+        mDefaultHeight = defaultHeight;
+        mDefaultHorizontalGap = defaultHorizontalGap;
+        mDefaultVerticalGap = defaultVerticalGap;
+        mHorizontalPad = horizontalPad;
+        mVerticalPad = verticalPad;
+        mLayoutRows = layoutRows;
+        mLayoutColumns = layoutColumns;
+        mRowCount = rowCount;
+        mExtensionRowCount = extensionRowCount;
+        mProximityThreshold = proximityThreshold;
+        mTotalWidth = totalWidth;
+        mTotalHeight = totalHeight;
+        for (Key key : keys) {
+            addKey(key);
+        }
+        return true;
+    }
+
     protected Row createRowFromXml(Resources res, XmlResourceParser parser) {
         return new Row(res, this, parser);
     }
@@ -1159,6 +1430,40 @@ public class Keyboard {
         return new Key(res, parent, x, y, parser);
     }
 
+    /**
+     * Creates an empty key to be filled in from the layout cache.
+     */
+    protected Key createKeyFromCache(Row parent) {
+        return new Key(parent);
+    }
+
+    /**
+     * Called for each key added to the keyboard, whether it came from the XML or the
+     * layout cache.
+     */
+    protected void onKeyAdded(Key key) {
+    }
+
+    private void addKey(Key key) {
+        mKeys.add(key);
+        if (key.codes[0] == KEYCODE_SHIFT) {
+            if (mShiftKeyIndex == -1) {
+                mShiftKey = key;
+                mShiftKeyIndex = mKeys.size()-1;
+            }
+            mModifierKeys.add(key);
+        } else if (key.codes[0] == KEYCODE_ALT_SYM) {
+            mModifierKeys.add(key);
+        } else if (key.codes[0] == LatinKeyboardView.KEYCODE_CTRL_LEFT) {
+            mCtrlKey = key;
+        } else if (key.codes[0] == LatinKeyboardView.KEYCODE_ALT_LEFT) {
+            mAltKey = key;
+        } else if (key.codes[0] == LatinKeyboardView.KEYCODE_META_LEFT) {
+            mMetaKey = key;
+        }
+        onKeyAdded(key);
+    }
+
     private void loadKeyboard(Context context, XmlResourceParser parser) {
         boolean inKey = false;
         boolean inRow = false;
@@ -1202,23 +1507,8 @@ public class Keyboard {
                               prevKey.width += key.width;
                           }
                         } else {
-                          mKeys.add(key);
+                          addKey(key);
                           prevKey = key;
-                          if (key.codes[0] == KEYCODE_SHIFT) {
-                              if (mShiftKeyIndex == -1) {
-                                  mShiftKey = key;
-                                  mShiftKeyIndex = mKeys.size()-1;
-                              }
-                              mModifierKeys.add(key);
-                          } else if (key.codes[0] == KEYCODE_ALT_SYM) {
-                              mModifierKeys.add(key);
-                          } else if (key.codes[0] == LatinKeyboardView.KEYCODE_CTRL_LEFT) {
-                              mCtrlKey = key;
-                          } else if (key.codes[0] == LatinKeyboardView.KEYCODE_ALT_LEFT) {
-                              mAltKey = key;
-                          } else if (key.codes[0] == LatinKeyboardView.KEYCODE_META_LEFT) {
-                              mMetaKey = key;
-                          }
                         }
                     } else if (TAG_KEYBOARD.equals(tag)) {
                         parseKeyboardAttributes(res, parser);
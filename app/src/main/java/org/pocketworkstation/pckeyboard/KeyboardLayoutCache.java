@@ -0,0 +1,229 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.os.Process;
+import android.util.Log;
+import android.util.Printer;
+
+/**
+ * Stores parsed keyboard layouts in the cache directory so that a keyboard which was dropped
+ * under memory pressure can be rebuilt from a single file read instead of walking the XML
+ * resource again. {@link Keyboard} encodes and decodes the layout itself; this class only
+ * deals with files, file names and the header that ties a file to the parameters it was
+ * built with.
+ *
+ * <p>
+ * Every file starts with a magic number, the format version, the install time of the
+ * package and a description of the parameters the layout depends on (resource id, mode,
+ * display size, relevant settings and configuration). A file is only used if all of these
+ * match, so a stale or foreign file simply falls back to the XML.
+ */
+class KeyboardLayoutCache {
+    private static final String TAG = "PCKeyboard";
+
+    static final LatencyHistogram sXmlTime = new LatencyHistogram("layout from XML");
+    static final LatencyHistogram sCachedTime = new LatencyHistogram("layout from cache");
+
+    private static final int MAGIC = 0x4b4c4331; // "KLC1"
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIRECTORY = "layouts";
+    private static final int MAX_FILES = 32;
+    private static final int MAX_FILE_SIZE = 256 * 1024;
+
+    private static long sPackageStamp = -1;
+
+    // Files are written and deleted on this thread, in the order they were requested, so
+    // that building a keyboard doesn't wait for storage.
+    private static final ExecutorService sWriteExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactory() {
+                public Thread newThread(final Runnable r) {
+                    Thread thread = new Thread("KeyboardLayoutCache") {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            r.run();
+                        }
+                    };
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private KeyboardLayoutCache() {
+    }
+
+    /**
+     * Returns a stream positioned at the start of the cached layout, or null if there is no
+     * usable file for these parameters.
+     */
+    static DataInputStream read(Context context, int xmlLayoutResId, String params) {
+        final File file = getFile(context, xmlLayoutResId, params);
+        final long length = file.length();
+        if (length <= 0 || length > MAX_FILE_SIZE) return null;
+        final byte[] data = new byte[(int) length];
+        FileInputStream fis = null;
+        try {
+            fis = new FileInputStream(file);
+            int read = 0;
+            while (read < data.length) {
+                int count = fis.read(data, read, data.length - read);
+                if (count < 0) return null;
+                read += count;
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Could not read " + file, e);
+            return null;
+        } finally {
+            if (fis != null) {
+                try {
+                    fis.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            if (in.readInt() != MAGIC
+                    || in.readInt() != FORMAT_VERSION
+                    || in.readLong() != getPackageStamp(context)
+                    || !params.equals(in.readUTF())) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return in;
+    }
+
+    /**
+     * Writes an encoded layout in the background. Does nothing if layout is null.
+     */
+    static void write(final Context context, final int xmlLayoutResId, final String params,
+            final byte[] layout) {
+        if (layout == null) return;
+        // Looked up here, the context may not be usable from another thread.
+        final File file = getFile(context, xmlLayoutResId, params);
+        final long packageStamp = getPackageStamp(context);
+        sWriteExecutor.execute(new Runnable() {
+            public void run() {
+                writeFile(file, packageStamp, params, layout);
+            }
+        });
+    }
+
+    /**
+     * Deletes the file for these parameters in the background, after it turned out to be
+     * damaged.
+     */
+    static void delete(Context context, int xmlLayoutResId, String params) {
+        final File file = getFile(context, xmlLayoutResId, params);
+        Log.w(TAG, "Deleting damaged " + file);
+        sWriteExecutor.execute(new Runnable() {
+            public void run() {
+                file.delete();
+            }
+        });
+    }
+
+    private static void writeFile(File file, long packageStamp, String params, byte[] layout) {
+        final File dir = file.getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) return;
+        // Write to a temporary file first so that readers never see a partial layout.
+        final File tmp = new File(dir, file.getName() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new FileOutputStream(tmp));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(packageStamp);
+            out.writeUTF(params);
+            out.write(layout);
+            out.close();
+            out = null;
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                return;
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Could not write " + file, e);
+            tmp.delete();
+            return;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+        trim(dir);
+    }
+
+    static LatencyHistogram[] getTimings() {
+        return new LatencyHistogram[] { sXmlTime, sCachedTime };
+    }
+
+    static void dumpTimings(Printer p) {
+        p.println("Keyboard layout timings:");
+        for (LatencyHistogram histogram : getTimings()) {
+            histogram.dump(p);
+        }
+    }
+
+    private static File getFile(Context context, int xmlLayoutResId, String params) {
+        // The full parameters are checked against the header, the hash only spreads the
+        // variants of one layout (orientation, height, locale) over separate files.
+        final String name = Integer.toHexString(xmlLayoutResId) + "-"
+                + Integer.toHexString(params.hashCode());
+        return new File(new File(context.getCacheDir(), DIRECTORY), name);
+    }
+
+    /**
+     * Removes the least recently written files if there are more than MAX_FILES.
+     */
+    private static void trim(File dir) {
+        final File[] files = dir.listFiles();
+        if (files == null || files.length <= MAX_FILES) return;
+        Arrays.sort(files, new Comparator<File>() {
+            public int compare(File a, File b) {
+                final long diff = b.lastModified() - a.lastModified();
+                return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+            }
+        });
+        for (int i = MAX_FILES; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    /**
+     * Returns the time the package was last installed or updated. Layouts cached by an older
+     * build may not match the resources of this one.
+     */
+    private static synchronized long getPackageStamp(Context context) {
+        if (sPackageStamp == -1) {
+            try {
+                sPackageStamp = context.getPackageManager().getPackageInfo(
+                        context.getPackageName(), 0).lastUpdateTime;
+            } catch (PackageManager.NameNotFoundException e) {
+                sPackageStamp = 0;
+            }
+        }
+        return sPackageStamp;
+    }
+}
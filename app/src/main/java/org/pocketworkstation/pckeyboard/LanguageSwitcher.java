@@ -168,6 +168,15 @@ public class LanguageSwitcher {
         return mLocales[(mCurrentIndex + 1) % mLocales.length];
     }
 
+    /**
+     * Returns the input language code that {@link #next} switches to.
+     */
+    public String getNextInputLanguage() {
+        if (getLocaleCount() == 0) return mDefaultInputLanguage;
+
+        return mSelectedLanguageArray[(mCurrentIndex + 1) % mSelectedLanguageArray.length];
+    }
+
     /**
      * Sets the system locale (display UI) used for comparing with the input language.
      * @param locale the locale of the system
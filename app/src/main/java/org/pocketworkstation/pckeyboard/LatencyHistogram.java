@@ -0,0 +1,113 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import android.util.Printer;
+
+/**
+ * Fixed-size log-linear histogram of latencies in microseconds. Each power of two is split
+ * into 16 buckets, so reported percentiles are within about 6% of the real value. Recording
+ * is a single atomic increment and never allocates, so it is cheap enough to leave enabled
+ * on the typing path.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values up to 2^32 us (more than an hour) get their own bucket, larger ones are clamped.
+    private static final int MAX_EXPONENT = 32;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final String mName;
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKETS);
+
+    LatencyHistogram(String name) {
+        mName = name;
+    }
+
+    String getName() {
+        return mName;
+    }
+
+    /**
+     * Records the time elapsed since startNanos, as returned by System.nanoTime().
+     */
+    void recordSince(long startNanos) {
+        record((System.nanoTime() - startNanos) / 1000);
+    }
+
+    void record(long micros) {
+        mCounts.incrementAndGet(bucketFor(micros));
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            mCounts.set(i, 0);
+        }
+    }
+
+    long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += mCounts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, or 0 if
+     * nothing was recorded yet.
+     * @param percentile a value between 0 and 100
+     */
+    long getPercentile(double percentile) {
+        final long total = getCount();
+        if (total == 0) return 0;
+        long threshold = (long) Math.ceil(total * percentile / 100.0);
+        if (threshold < 1) threshold = 1;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += mCounts.get(i);
+            if (seen >= threshold) return bucketUpperBound(i);
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }
+
+    void dump(Printer p) {
+        p.println("  " + mName + ": n=" + getCount()
+                + " p50=" + getPercentile(50) + "us"
+                + " p90=" + getPercentile(90) + "us"
+                + " p99=" + getPercentile(99) + "us"
+                + " max=" + getPercentile(100) + "us");
+    }
+
+    /**
+     * Prints one line per non-empty bucket.
+     */
+    void dumpBuckets(Printer p) {
+        p.println("  " + mName + ":");
+        for (int i = 0; i < BUCKETS; i++) {
+            final long count = mCounts.get(i);
+            if (count == 0) continue;
+            p.println("    " + bucketLowerBound(i) + " " + bucketUpperBound(i) + " " + count);
+        }
+    }
+
+    static int bucketFor(long value) {
+        if (value < SUB_BUCKETS) return value < 0 ? 0 : (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) return BUCKETS - 1;
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub)) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index >= BUCKETS - 1) return bucketLowerBound(index);
+        return bucketLowerBound(index + 1) - 1;
+    }
+}
@@ -0,0 +1,99 @@
+package org.pocketworkstation.pckeyboard;
+
+import android.os.Build;
+import android.util.Printer;
+
+/**
+ * Tracks how long it takes from touching a key until the candidate strip shows the result.
+ * The stages are marked with monotonic timestamps from the UI thread and aggregated into
+ * histograms that can be printed by "dumpsys input_method" or exported from the debug
+ * settings. Only the first suggestion update after a key, and the first draw after that
+ * update, are counted for the key.
+ */
+class LatencyTracker {
+    static final LatencyHistogram sTouchToKey = new LatencyHistogram("touch down to onKey");
+    static final LatencyHistogram sKeyToSuggestions =
+            new LatencyHistogram("onKey to setSuggestions");
+    static final LatencyHistogram sKeyToDraw = new LatencyHistogram("onKey to candidate draw");
+    static final LatencyHistogram sTouchToDraw =
+            new LatencyHistogram("touch down to candidate draw");
+
+    private static final LatencyHistogram[] ALL = {
+        sTouchToKey, sKeyToSuggestions, sKeyToDraw, sTouchToDraw,
+    };
+
+    // Timestamps from System.nanoTime(), 0 if the stage is not pending.
+    private static volatile long sTouchDownTime;
+    private static volatile long sKeyTime;
+    private static volatile long sKeyTouchTime;
+    private static volatile long sDrawKeyTime;
+    private static volatile long sDrawTouchTime;
+
+    private LatencyTracker() {
+    }
+
+    static void onTouchDown() {
+        sTouchDownTime = System.nanoTime();
+    }
+
+    static void onKey() {
+        final long now = System.nanoTime();
+        final long touchTime = sTouchDownTime;
+        if (touchTime != 0) {
+            sTouchToKey.record((now - touchTime) / 1000);
+            sTouchDownTime = 0;
+        }
+        sKeyTouchTime = touchTime;
+        sKeyTime = now;
+    }
+
+    static void onSetSuggestions() {
+        final long keyTime = sKeyTime;
+        if (keyTime == 0) return;
+        sKeyTime = 0;
+        sKeyToSuggestions.recordSince(keyTime);
+        sDrawTouchTime = sKeyTouchTime;
+        sDrawKeyTime = keyTime;
+    }
+
+    static void onDraw() {
+        final long keyTime = sDrawKeyTime;
+        if (keyTime == 0) return;
+        sDrawKeyTime = 0;
+        final long now = System.nanoTime();
+        sKeyToDraw.record((now - keyTime) / 1000);
+        final long touchTime = sDrawTouchTime;
+        if (touchTime != 0) {
+            sTouchToDraw.record((now - touchTime) / 1000);
+        }
+    }
+
+    static void dump(Printer p) {
+        p.println("Key latency:");
+        for (LatencyHistogram histogram : ALL) {
+            histogram.dump(p);
+        }
+    }
+
+    /**
+     * Prints the summaries followed by the raw bucket counts, so that exports from
+     * different devices and builds can be compared or merged.
+     */
+    static void writeReport(Printer p) {
+        p.println("device=" + Build.MANUFACTURER + " " + Build.MODEL
+                + " sdk=" + Build.VERSION.SDK_INT + " build=" + Build.DISPLAY);
+        dump(p);
+        Suggest.dumpTimings(p);
+        KeyboardLayoutCache.dumpTimings(p);
+        p.println("Buckets (lower_us upper_us count):");
+        for (LatencyHistogram histogram : ALL) {
+            histogram.dumpBuckets(p);
+        }
+        for (LatencyHistogram histogram : Suggest.getTimings()) {
+            histogram.dumpBuckets(p);
+        }
+        for (LatencyHistogram histogram : KeyboardLayoutCache.getTimings()) {
+            histogram.dumpBuckets(p);
+        }
+    }
+}
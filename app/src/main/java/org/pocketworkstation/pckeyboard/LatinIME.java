@@ -37,8 +37,10 @@ import android.content.res.Resources;
 import android.content.res.XmlResourceParser;
 import android.inputmethodservice.InputMethodService;
 import android.media.AudioManager;
+import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Message;
 import android.os.SystemClock;
@@ -77,6 +79,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 
@@ -138,6 +143,12 @@ public class LatinIME extends InputMethodService implements
     private static final int MSG_UPDATE_SHIFT_STATE = 2;
     private static final int MSG_VOICE_RESULTS = 3;
     private static final int MSG_UPDATE_OLD_SUGGESTIONS = 4;
+    private static final int MSG_SUGGESTIONS_READY = 5;
+
+    // Bounds for the delay between a keystroke and the suggestion lookup. The actual delay
+    // follows the measured lookup cost, so fast devices update the strip sooner.
+    private static final int SUGGEST_DELAY_MIN_MS = 10;
+    private static final int SUGGEST_DELAY_MAX_MS = 100;
 
     // How many continuous deletes at which to start deleting at a higher speed.
     private static final int DELETE_ACCELERATE_AT = 20;
@@ -158,6 +169,22 @@ public class LatinIME extends InputMethodService implements
     private Suggest mSuggest;
     private CompletionInfo[] mCompletions;
 
+    // Suggestion lookups run on this thread. mSuggestLock guards mSuggest and its buffers
+    // while a lookup uses them. The learned word dictionaries can be written while they
+    // are looked up, so the main thread adds words to them without taking the lock.
+    private HandlerThread mSuggestThread;
+    private Handler mSuggestHandler;
+    private final Object mSuggestLock = new Object();
+    // Bumped whenever the typed word or the suggestion strip changes, results computed for
+    // an older generation are dropped.
+    private volatile int mSuggestGeneration;
+    private volatile int mSuggestCostMs = SUGGEST_DELAY_MAX_MS / 2;
+    private boolean mSuggestionsPending;
+    // The last lookup that requestSuggestions() posted, and its generation, so that
+    // pickDefaultSuggestion() can wait for it instead of doing it again.
+    private FutureTask<SuggestionResult> mPendingLookup;
+    private int mPendingLookupGeneration;
+
     private AlertDialog mOptionsDialog;
 
     /* package */KeyboardSwitcher mKeyboardSwitcher;
@@ -166,6 +193,12 @@ public class LatinIME extends InputMethodService implements
     private UserBigramDictionary mUserBigramDictionary;
     //private ContactsDictionary mContactsDictionary;
     private AutoDictionary mAutoDictionary;
+    // Dictionaries of recently used input locales, guarded by mSuggestLock. The generation
+    // is bumped when the installed dictionaries change, so that preloads that started
+    // before are dropped.
+    private final DictionaryCache mDictionaryCache = new DictionaryCache();
+    private int mDictionaryCacheGeneration;
+    private String mPreloadingLocale;
 
     private Resources mResources;
 
@@ -341,7 +374,10 @@ public class LatinIME extends InputMethodService implements
         public void handleMessage(Message msg) {
             switch (msg.what) {
             case MSG_UPDATE_SUGGESTIONS:
-                updateSuggestions();
+                requestSuggestions();
+                break;
+            case MSG_SUGGESTIONS_READY:
+                onSuggestionsReady((SuggestionResult) msg.obj);
                 break;
             case MSG_UPDATE_OLD_SUGGESTIONS:
                 setOldSuggestions();
@@ -359,6 +395,9 @@ public class LatinIME extends InputMethodService implements
         KeyboardSwitcher.init(this);
         super.onCreate();
         sInstance = this;
+        mSuggestThread = new HandlerThread("Suggest");
+        mSuggestThread.start();
+        mSuggestHandler = new Handler(mSuggestThread.getLooper());
         // setStatusIcon(R.drawable.ime_qwerty);
         mResources = getResources();
         final Configuration conf = mResources.getConfiguration();
@@ -405,7 +444,7 @@ public class LatinIME extends InputMethodService implements
         
         updateKeyboardOptions();
 
-        PluginManager.getPluginDictionaries(getApplicationContext());
+        PluginManager.loadPluginDictionaries(getApplicationContext());
         mPluginManager = new PluginManager(this);
         final IntentFilter pFilter = new IntentFilter();
         pFilter.addDataScheme("package");
@@ -426,6 +465,8 @@ public class LatinIME extends InputMethodService implements
             }
         }
 
+        refreshPluginDictionaries();
+
         mOrientation = conf.orientation;
 
         // register to receive ringer mode changes for silent mode
@@ -601,52 +642,160 @@ public class LatinIME extends InputMethodService implements
         Locale saveLocale = conf.locale;
         conf.locale = new Locale(locale);
         orig.updateConfiguration(conf, orig.getDisplayMetrics());
-        if (mSuggest != null) {
-            mSuggest.close();
+        synchronized (mSuggestLock) {
+            initSuggestLocked(orig, saveLocale);
         }
+        mWordSeparators = mResources.getString(R.string.word_separators);
+        mSentenceSeparators = mResources
+                .getString(R.string.sentence_separators);
+        initSuggestPuncList();
+
+        conf.locale = saveLocale;
+        orig.updateConfiguration(conf, orig.getDisplayMetrics());
+        preloadNextDictionaries();
+    }
+
+    private void initSuggestLocked(Resources orig, Locale saveLocale) {
         SharedPreferences sp = PreferenceManager
                 .getDefaultSharedPreferences(this);
         mQuickFixes = sp.getBoolean(PREF_QUICK_FIXES, getResources()
                 .getBoolean(R.bool.default_quick_fixes));
 
-        int[] dictionaries = getDictionary(orig);
-        mSuggest = new Suggest(this, dictionaries);
+        // The previous locale's dictionaries stay open in the cache, write out what they
+        // learned so far.
+        if (mAutoDictionary != null) {
+            mAutoDictionary.flushPendingWrites();
+        }
+        if (mUserBigramDictionary != null) {
+            mUserBigramDictionary.flushPendingWrites();
+        }
+        DictionaryCache.Entry entry = mDictionaryCache.get(mInputLocale);
+        if (entry == null) {
+            int[] dictionaries = getDictionary(orig);
+            entry = createDictionaries(mInputLocale, new Suggest(this, dictionaries,
+                    new Locale(mInputLocale).getLanguage()));
+        }
+        mDictionaryCache.setCurrent(entry);
+        mSuggest = entry.suggest;
+        mUserDictionary = entry.userDictionary;
+        mAutoDictionary = entry.autoDictionary;
+        mUserBigramDictionary = entry.userBigramDictionary;
         updateAutoTextEnabled(saveLocale);
-        if (mUserDictionary != null)
-            mUserDictionary.close();
-        mUserDictionary = new UserDictionary(this, mInputLocale);
+        updateCorrectionMode();
+    }
+
+    /**
+     * Opens the learned word dictionaries of the locale and attaches them to the suggest.
+     * May be called on any thread.
+     */
+    private DictionaryCache.Entry createDictionaries(String locale, Suggest suggest) {
+        UserDictionary userDictionary = new UserDictionary(this, locale);
         //if (mContactsDictionary == null) {
         //    mContactsDictionary = new ContactsDictionary(this,
         //            Suggest.DIC_CONTACTS);
         //}
-        if (mAutoDictionary != null) {
-            mAutoDictionary.close();
-        }
-        mAutoDictionary = new AutoDictionary(this, this, mInputLocale,
+        AutoDictionary autoDictionary = new AutoDictionary(this, this, locale,
                 Suggest.DIC_AUTO);
-        if (mUserBigramDictionary != null) {
-            mUserBigramDictionary.close();
-        }
-        mUserBigramDictionary = new UserBigramDictionary(this, this,
-                mInputLocale, Suggest.DIC_USER);
-        mSuggest.setUserBigramDictionary(mUserBigramDictionary);
-        mSuggest.setUserDictionary(mUserDictionary);
-        //mSuggest.setContactsDictionary(mContactsDictionary);
-        mSuggest.setAutoDictionary(mAutoDictionary);
-        updateCorrectionMode();
-        mWordSeparators = mResources.getString(R.string.word_separators);
-        mSentenceSeparators = mResources
-                .getString(R.string.sentence_separators);
-        initSuggestPuncList();
+        UserBigramDictionary userBigramDictionary = new UserBigramDictionary(this, this,
+                locale, Suggest.DIC_USER);
+        suggest.setUserBigramDictionary(userBigramDictionary);
+        suggest.setUserDictionary(userDictionary);
+        //suggest.setContactsDictionary(mContactsDictionary);
+        suggest.setAutoDictionary(autoDictionary);
+        return new DictionaryCache.Entry(locale, suggest, userDictionary, autoDictionary,
+                userBigramDictionary);
+    }
 
+    /**
+     * Loads the dictionaries of the next locale in the rotation in the background, so that
+     * switching to it doesn't have to wait for them.
+     */
+    private void preloadNextDictionaries() {
+        if (mLanguageSwitcher == null || mLanguageSwitcher.getLocaleCount() < 2) return;
+        final String locale = mLanguageSwitcher.getNextInputLanguage();
+        final int generation;
+        synchronized (mSuggestLock) {
+            if (locale.equals(mPreloadingLocale) || mDictionaryCache.contains(locale)) return;
+            generation = mDictionaryCacheGeneration;
+        }
+        mPreloadingLocale = locale;
+        // The dictionary list is a localized resource, resolve it for the next locale.
+        Resources res = getResources();
+        Configuration conf = res.getConfiguration();
+        Locale saveLocale = conf.locale;
+        conf.locale = new Locale(locale);
+        res.updateConfiguration(conf, res.getDisplayMetrics());
+        final int[] dictionaries = getDictionary(res);
         conf.locale = saveLocale;
-        orig.updateConfiguration(conf, orig.getDisplayMetrics());
+        res.updateConfiguration(conf, res.getDisplayMetrics());
+        new AsyncTask<Void, Void, DictionaryCache.Entry>() {
+            @Override
+            protected DictionaryCache.Entry doInBackground(Void... v) {
+                // The learned word dictionaries read their files here too, only adding
+                // the entry to the cache is left for the main thread.
+                return createDictionaries(locale, new Suggest(LatinIME.this, dictionaries,
+                        new Locale(locale).getLanguage()));
+            }
+
+            @Override
+            protected void onPostExecute(DictionaryCache.Entry entry) {
+                if (locale.equals(mPreloadingLocale)) mPreloadingLocale = null;
+                boolean added = false;
+                synchronized (mSuggestLock) {
+                    if (generation == mDictionaryCacheGeneration
+                            && !mDictionaryCache.contains(locale)) {
+                        mDictionaryCache.put(entry);
+                        added = true;
+                    }
+                }
+                if (!added) entry.close();
+            }
+        }.execute();
+    }
+
+    /**
+     * Checks for dictionary plugins that were installed, updated or removed while the
+     * keyboard wasn't running, in the background.
+     */
+    private void refreshPluginDictionaries() {
+        final Context context = getApplicationContext();
+        final int generation = mDictionaryCacheGeneration;
+        new AsyncTask<Void, Void, Boolean>() {
+            @Override
+            protected Boolean doInBackground(Void... v) {
+                return PluginManager.refreshPluginDictionaries(context);
+            }
+
+            @Override
+            protected void onPostExecute(Boolean changed) {
+                if (!changed) return;
+                DictionaryIndex.invalidate(context);
+                // Not if destroyed or already reloaded in the meantime.
+                if (generation == mDictionaryCacheGeneration) onDictionariesChanged();
+            }
+        }.execute();
+    }
+
+    /**
+     * Called when dictionary plugins were installed or removed. The cached dictionaries may
+     * come from the old plugins, so drop them and load the current locale's again.
+     */
+    void onDictionariesChanged() {
+        synchronized (mSuggestLock) {
+            mDictionaryCacheGeneration++;
+            mDictionaryCache.invalidate();
+        }
+        mPreloadingLocale = null;
+        toggleLanguage(true, true);
     }
 
     @Override
     public void onDestroy() {
-        if (mUserDictionary != null) {
-            mUserDictionary.close();
+        mSuggestGeneration++;
+        mSuggestThread.quit();
+        synchronized (mSuggestLock) {
+            mDictionaryCacheGeneration++;
+            mDictionaryCache.close();
         }
         //if (mContactsDictionary != null) {
         //    mContactsDictionary.close();
@@ -966,6 +1115,9 @@ public class LatinIME extends InputMethodService implements
         // Remove penging messages related to update suggestions
         mHandler.removeMessages(MSG_UPDATE_SUGGESTIONS);
         mHandler.removeMessages(MSG_UPDATE_OLD_SUGGESTIONS);
+        mHandler.removeMessages(MSG_SUGGESTIONS_READY);
+        mSuggestGeneration++;
+        mSuggestionsPending = false;
     }
 
     @Override
@@ -1935,6 +2087,7 @@ public class LatinIME extends InputMethodService implements
     // Implementation of KeyboardViewListener
 
     public void onKey(int primaryCode, int[] keyCodes, int x, int y) {
+        LatencyTracker.onKey();
         long when = SystemClock.uptimeMillis();
         if (primaryCode != Keyboard.KEYCODE_DELETE
                 || when > mLastKeyTime + QUICK_PRESS) {
@@ -2438,9 +2591,22 @@ public class LatinIME extends InputMethodService implements
     }
 
     private void postUpdateSuggestions() {
+        mSuggestGeneration++;
+        mSuggestionsPending = true;
         mHandler.removeMessages(MSG_UPDATE_SUGGESTIONS);
         mHandler.sendMessageDelayed(mHandler
-                .obtainMessage(MSG_UPDATE_SUGGESTIONS), 100);
+                .obtainMessage(MSG_UPDATE_SUGGESTIONS), getSuggestDelay());
+    }
+
+    /**
+     * Waits about twice as long as a lookup usually takes, so that a burst of fast typing
+     * still coalesces into a single lookup.
+     */
+    private int getSuggestDelay() {
+        int delay = mSuggestCostMs * 2;
+        if (delay < SUGGEST_DELAY_MIN_MS) return SUGGEST_DELAY_MIN_MS;
+        if (delay > SUGGEST_DELAY_MAX_MS) return SUGGEST_DELAY_MAX_MS;
+        return delay;
     }
 
     private void postUpdateOldSuggestions() {
@@ -2486,6 +2652,9 @@ public class LatinIME extends InputMethodService implements
     private void setSuggestions(List<CharSequence> suggestions,
             boolean completions, boolean typedWordValid,
             boolean haveMinimalSuggestion) {
+        // Whatever is still being computed in the background is out of date now.
+        mSuggestGeneration++;
+        mSuggestionsPending = false;
 
         if (mIsShowingHint) {
             setCandidatesViewShown(true);
@@ -2514,10 +2683,107 @@ public class LatinIME extends InputMethodService implements
         showSuggestions(mWord);
     }
 
-    private List<CharSequence> getTypedSuggestions(WordComposer word) {
-        List<CharSequence> stringList = mSuggest.getSuggestions(
-                mKeyboardSwitcher.getInputView(), word, false, null);
-        return stringList;
+    /**
+     * Like updateSuggestions(), but does the dictionary lookup on the suggestion thread.
+     * The lookup works on a copy of the current word, and the result is only shown if
+     * nothing changed in the meantime.
+     */
+    private void requestSuggestions() {
+        final LatinKeyboardView inputView = mKeyboardSwitcher.getInputView();
+        ((LatinKeyboard) inputView.getKeyboard()).setPreferredLetters(null);
+
+        if ((mSuggest == null || !isPredictionOn())) {
+            return;
+        }
+
+        if (!mPredicting) {
+            setNextSuggestions();
+            return;
+        }
+        final int generation = mSuggestGeneration;
+        final WordComposer word = new WordComposer(mWord);
+        // TODO Maybe need better way of retrieving previous word
+        final CharSequence prevWord = EditingUtil.getPreviousWord(
+                getCurrentInputConnection(), mWordSeparators);
+        mPendingLookup = new FutureTask<SuggestionResult>(new Callable<SuggestionResult>() {
+            public SuggestionResult call() {
+                // Skip the lookup if another key arrived while this one was queued.
+                if (generation != mSuggestGeneration) return null;
+                SuggestionResult result = lookupSuggestions(inputView, word, prevWord);
+                if (result == null) return null;
+                result.generation = generation;
+                mHandler.obtainMessage(MSG_SUGGESTIONS_READY, result).sendToTarget();
+                return result;
+            }
+        });
+        mPendingLookupGeneration = generation;
+        mSuggestHandler.post(mPendingLookup);
+    }
+
+    /**
+     * Waits for the lookup that requestSuggestions() posted for the current word, and
+     * returns its result. Returns null if there is no such lookup.
+     */
+    private SuggestionResult waitForPendingLookup() {
+        if (mPendingLookup == null || mPendingLookupGeneration != mSuggestGeneration) {
+            return null;
+        }
+        try {
+            return mPendingLookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Suggestion lookup failed", e.getCause());
+        }
+        return null;
+    }
+
+    private void onSuggestionsReady(SuggestionResult result) {
+        if (result.generation != mSuggestGeneration || !mPredicting) {
+            return;
+        }
+        applySuggestions(result);
+    }
+
+    /**
+     * Suggestions for one word, copied out of Suggest so that they can be handed to the
+     * main thread while the next lookup reuses Suggest's buffers.
+     */
+    private static class SuggestionResult {
+        int generation;
+        WordComposer word;
+        List<CharSequence> suggestions;
+        int[] nextLettersFrequencies;
+        boolean hasMinimalCorrection;
+        boolean typedWordValid;
+    }
+
+    /**
+     * Looks up the suggestions for a word from the history on the suggestion thread, and
+     * waits for them. Queuing behind the lookups there, rather than taking mSuggestLock,
+     * keeps them in order and doesn't do work that is about to be dropped.
+     */
+    private List<CharSequence> getTypedSuggestions(final WordComposer word) {
+        final View view = mKeyboardSwitcher.getInputView();
+        final FutureTask<List<CharSequence>> lookup = new FutureTask<List<CharSequence>>(
+                new Callable<List<CharSequence>>() {
+            public List<CharSequence> call() {
+                synchronized (mSuggestLock) {
+                    if (mSuggest == null) return new ArrayList<CharSequence>();
+                    return new ArrayList<CharSequence>(
+                            mSuggest.getSuggestions(view, word, false, null));
+                }
+            }
+        });
+        mSuggestHandler.post(lookup);
+        try {
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.w(TAG, "Suggestion lookup failed", e.getCause());
+        }
+        return new ArrayList<CharSequence>();
     }
 
     private void showCorrections(WordAlternatives alternatives) {
@@ -2529,28 +2795,53 @@ public class LatinIME extends InputMethodService implements
     }
 
     private void showSuggestions(WordComposer word) {
-        // long startTime = System.currentTimeMillis(); // TIME MEASUREMENT!
         // TODO Maybe need better way of retrieving previous word
         CharSequence prevWord = EditingUtil.getPreviousWord(
                 getCurrentInputConnection(), mWordSeparators);
-        List<CharSequence> stringList = mSuggest.getSuggestions(
-                mKeyboardSwitcher.getInputView(), word, false, prevWord);
-        // long stopTime = System.currentTimeMillis(); // TIME MEASUREMENT!
-        // Log.d("LatinIME","Suggest Total Time - " + (stopTime - startTime));
-
-        int[] nextLettersFrequencies = mSuggest.getNextLettersFrequencies();
+        SuggestionResult result = lookupSuggestions(
+                mKeyboardSwitcher.getInputView(), word, prevWord);
+        if (result != null) {
+            applySuggestions(result);
+        }
+    }
 
+    /**
+     * Runs the dictionary lookup for the given word. Safe to call from any thread, the
+     * caller must not modify word afterwards.
+     */
+    private SuggestionResult lookupSuggestions(View view, WordComposer word,
+            CharSequence prevWord) {
+        SuggestionResult result = new SuggestionResult();
+        result.word = word;
+        synchronized (mSuggestLock) {
+            if (mSuggest == null) return null;
+            // Only the lookup itself counts towards the delay, not waiting for the lock.
+            final long start = SystemClock.uptimeMillis();
+            result.suggestions = new ArrayList<CharSequence>(
+                    mSuggest.getSuggestions(view, word, false, prevWord));
+            final int cost = (int) (SystemClock.uptimeMillis() - start);
+            mSuggestCostMs = (mSuggestCostMs * 3 + cost) / 4;
+            result.nextLettersFrequencies = mSuggest.getNextLettersFrequencies().clone();
+            result.hasMinimalCorrection = mSuggest.hasMinimalCorrection();
+            // Looked up by getSuggestions() already.
+            Suggest.WordFrequencies typed = mSuggest.getTypedWordFrequencies();
+            // If we're in basic correct
+            result.typedWordValid = typed != null && (typed.isValid()
+                    || (word.isFirstCharCapitalized() && typed.isLowercaseValid()));
+        }
+        return result;
+    }
+
+    private void applySuggestions(SuggestionResult result) {
+        WordComposer word = result.word;
         ((LatinKeyboard) mKeyboardSwitcher.getInputView().getKeyboard())
-                .setPreferredLetters(nextLettersFrequencies);
+                .setPreferredLetters(result.nextLettersFrequencies);
 
         boolean correctionAvailable = !mInputTypeNoAutoCorrect
-                && mSuggest.hasMinimalCorrection();
+                && result.hasMinimalCorrection;
         // || mCorrectionMode == mSuggest.CORRECTION_FULL;
         CharSequence typedWord = word.getTypedWord();
-        // If we're in basic correct
-        boolean typedWordValid = mSuggest.isValidWord(typedWord)
-                || (preferCapitalization() && mSuggest.isValidWord(typedWord
-                        .toString().toLowerCase()));
+        boolean typedWordValid = result.typedWordValid;
         if (mCorrectionMode == Suggest.CORRECTION_FULL
                 || mCorrectionMode == Suggest.CORRECTION_FULL_BIGRAM) {
             correctionAvailable |= typedWordValid;
@@ -2559,7 +2850,7 @@ public class LatinIME extends InputMethodService implements
         correctionAvailable &= !word.isMostlyCaps();
         correctionAvailable &= !TextEntryState.isCorrecting();
 
-        showSuggestions(stringList, typedWord, typedWordValid,
+        showSuggestions(result.suggestions, typedWord, typedWordValid,
                 correctionAvailable);
     }
 
@@ -2580,10 +2871,20 @@ public class LatinIME extends InputMethodService implements
     }
 
     private boolean pickDefaultSuggestion() {
-        // Complete any pending candidate query first
+        // Complete any pending candidate query first, its result would arrive too late to
+        // be used. A lookup that is already queued or running on the suggestion thread is
+        // waited for rather than done again.
         if (mHandler.hasMessages(MSG_UPDATE_SUGGESTIONS)) {
             mHandler.removeMessages(MSG_UPDATE_SUGGESTIONS);
-            updateSuggestions();
+            requestSuggestions();
+        }
+        if (mSuggestionsPending) {
+            SuggestionResult result = waitForPendingLookup();
+            if (result != null) {
+                applySuggestions(result);
+            } else {
+                updateSuggestions();
+            }
         }
         if (mBestWord != null && mBestWord.length() > 0) {
             TextEntryState.acceptedDefault(mWord.getTypedWord(), mBestWord);
@@ -2651,8 +2952,7 @@ public class LatinIME extends InputMethodService implements
         }
 
         final boolean showingAddToDictionaryHint = index == 0
-                && mCorrectionMode > 0 && !mSuggest.isValidWord(suggestion)
-                && !mSuggest.isValidWord(suggestion.toString().toLowerCase());
+                && mCorrectionMode > 0 && !isValidWordIgnoringCase(suggestion);
 
         if (!correcting) {
             // Fool the state watcher so that a subsequent backspace will not do
@@ -2737,8 +3037,7 @@ public class LatinIME extends InputMethodService implements
         }
         // If we didn't find a match, at least suggest completions
         if (foundWord == null
-                && (mSuggest.isValidWord(touching.word) || mSuggest
-                        .isValidWord(touching.word.toString().toLowerCase()))) {
+                && isValidWordIgnoringCase(touching.word)) {
             foundWord = new WordComposer();
             for (int i = 0; i < touching.word.length(); i++) {
                 foundWord.add(touching.word.charAt(i),
@@ -2816,20 +3115,23 @@ public class LatinIME extends InputMethodService implements
             return;
         }
         if (suggestion != null) {
+            CharSequence prevWord = null;
+            if (mUserBigramDictionary != null) {
+                prevWord = EditingUtil.getPreviousWord(
+                        getCurrentInputConnection(), mSentenceSeparators);
+            }
+            // The suggestion thread may be reading these dictionaries right now, which
+            // they allow without a lock.
+            Suggest.WordFrequencies frequencies = mSuggest.lookupWord(suggestion);
             if (!addToBigramDictionary
-                    && mAutoDictionary.isValidWord(suggestion)
-                    || (!mSuggest.isValidWord(suggestion.toString()) && !mSuggest
-                            .isValidWord(suggestion.toString().toLowerCase()))) {
+                    && frequencies.exact[Suggest.DIC_AUTO] >= 0
+                    || !(frequencies.isValid() || frequencies.isLowercaseValid())) {
                 mAutoDictionary.addWord(suggestion.toString(), frequencyDelta);
             }
 
-            if (mUserBigramDictionary != null) {
-                CharSequence prevWord = EditingUtil.getPreviousWord(
-                        getCurrentInputConnection(), mSentenceSeparators);
-                if (!TextUtils.isEmpty(prevWord)) {
-                    mUserBigramDictionary.addBigrams(prevWord.toString(),
-                            suggestion.toString());
-                }
+            if (mUserBigramDictionary != null && !TextUtils.isEmpty(prevWord)) {
+                mUserBigramDictionary.addBigrams(prevWord.toString(),
+                        suggestion.toString());
             }
         }
     }
@@ -3322,6 +3624,15 @@ public class LatinIME extends InputMethodService implements
         }
     }
     
+    /**
+     * Returns true if a dictionary has the word as given or in lowercase. Looks it up in
+     * each dictionary once.
+     */
+    private boolean isValidWordIgnoringCase(CharSequence word) {
+        Suggest.WordFrequencies frequencies = mSuggest.lookupWord(word);
+        return frequencies.isValid() || frequencies.isLowercaseValid();
+    }
+
     /* package */void promoteToUserDictionary(String word, int frequency) {
         if (mUserDictionary.isValidWord(word))
             return;
@@ -3511,6 +3822,9 @@ public class LatinIME extends InputMethodService implements
         p.println("  mSoundOn=" + mSoundOn);
         p.println("  mVibrateOn=" + mVibrateOn);
         p.println("  mPopupOn=" + mPopupOn);
+        Suggest.dumpTimings(p);
+        KeyboardLayoutCache.dumpTimings(p);
+        LatencyTracker.dump(p);
     }
 
     // Characters per second measurement
@@ -155,8 +155,16 @@ public class LatinKeyboard extends Keyboard {
     @Override
     protected Key createKeyFromXml(Resources res, Row parent, int x, int y,
             XmlResourceParser parser) {
-        Key key = new LatinKey(res, parent, x, y, parser);
-        if (key.codes == null) return key;
+        return new LatinKey(res, parent, x, y, parser);
+    }
+
+    @Override
+    protected Key createKeyFromCache(Row parent) {
+        return new LatinKey(parent);
+    }
+
+    @Override
+    protected void onKeyAdded(Key key) {
         switch (key.codes[0]) {
         case LatinIME.ASCII_ENTER:
             mEnterKey = key;
@@ -172,8 +180,6 @@ public class LatinKeyboard extends Keyboard {
             m123Label = key.label;
             break;
         }
-
-        return key;
     }
 
     void setImeOptions(Resources res, int mode, int options) {
@@ -803,6 +809,10 @@ public class LatinKeyboard extends Keyboard {
             super(res, parent, x, y, parser);
         }
 
+        public LatinKey(Keyboard.Row parent) {
+            super(parent);
+        }
+
         // sticky is used for shift key.  If a key is not sticky and is modifier,
         // the key will be treated as functional.
         private boolean isFunctionalKey() {
@@ -0,0 +1,345 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.util.Log;
+
+/**
+ * Stores a learned word dictionary as a snapshot of its trie and a log of the changes made
+ * since. Loading maps the snapshot and copies the trie arrays in bulk, then applies the
+ * log, so the words are available as soon as the dictionary is created instead of after a
+ * database query that adds them one by one.
+ *
+ * <p>
+ * Changes are appended to the log in batches, with one sync per batch. Once the log grows
+ * past MAX_LOG_SIZE, it is folded into a new snapshot in the background. Compacting also
+ * drops removed words, and the oldest bigrams if there are too many.
+ *
+ * <p>
+ * There is one store per name and locale, shared by all dictionaries using it.
+ */
+class LearnedWordStore {
+    private static final String TAG = "PCKeyboard";
+    private static final String DIRECTORY = "learned";
+    private static final int LOG_MAGIC = 0x4C574C31;
+    private static final int LOG_HEADER_SIZE = 4;
+    private static final byte OP_WORD = 1;
+    private static final byte OP_BIGRAM = 2;
+    private static final int MAX_LOG_SIZE = 128 * 1024;
+
+    private static final HashMap<String, LearnedWordStore> sStores =
+            new HashMap<String, LearnedWordStore>();
+
+    /**
+     * Changes that are written to the log together.
+     */
+    static class Batch {
+        private final ByteArrayOutputStream mBytes = new ByteArrayOutputStream();
+        private final DataOutputStream mOut = new DataOutputStream(mBytes);
+
+        /**
+         * Sets the frequency of a word, 0 removes it.
+         */
+        void putWord(String word, int frequency) {
+            try {
+                mOut.writeByte(OP_WORD);
+                mOut.writeUTF(word);
+                mOut.writeInt(frequency);
+            } catch (IOException e) {
+                // Can't happen when writing to memory.
+            }
+        }
+
+        void putBigram(String word1, String word2, int frequency) {
+            try {
+                mOut.writeByte(OP_BIGRAM);
+                mOut.writeUTF(word1);
+                mOut.writeUTF(word2);
+                mOut.writeInt(frequency);
+            } catch (IOException e) {
+                // Can't happen when writing to memory.
+            }
+        }
+
+        boolean isEmpty() {
+            return mBytes.size() == 0;
+        }
+    }
+
+    private static class CommitTask extends AsyncTask<Void, Void, Void> {
+        private final LearnedWordStore mStore;
+        private final Batch mBatch;
+
+        CommitTask(LearnedWordStore store, Batch batch) {
+            mStore = store;
+            mBatch = batch;
+        }
+
+        @Override
+        protected Void doInBackground(Void... v) {
+            mStore.commit(mBatch);
+            return null;
+        }
+    }
+
+    private final Context mContext;
+    private final File mSnapshotFile;
+    private final File mLogFile;
+    private volatile int mMaxBigrams = Integer.MAX_VALUE;
+    private volatile int mPruneBigrams;
+
+    private LearnedWordStore(Context context, File dir, String name) {
+        mContext = context;
+        mSnapshotFile = new File(dir, name + ".snapshot");
+        mLogFile = new File(dir, name + ".log");
+    }
+
+    /**
+     * Returns the store of the given name for the locale, or null if it can't be created.
+     */
+    static LearnedWordStore get(Context context, String name, String locale) {
+        final File dir = new File(context.getFilesDir(), DIRECTORY);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            Log.w(TAG, "Failed to create " + dir);
+            return null;
+        }
+        final String key = name + "-" + locale;
+        synchronized (sStores) {
+            LearnedWordStore store = sStores.get(key);
+            if (store == null) {
+                store = new LearnedWordStore(context.getApplicationContext(), dir, key);
+                sStores.put(key, store);
+            }
+            return store;
+        }
+    }
+
+    /**
+     * Once there are more than maxBigrams bigrams, compacting drops the oldest ones until
+     * there are pruneBigrams fewer than that.
+     */
+    void setBigramLimits(int maxBigrams, int pruneBigrams) {
+        mMaxBigrams = maxBigrams;
+        mPruneBigrams = pruneBigrams;
+    }
+
+    /**
+     * Loads the stored words into dict, which must be empty. Returns false if there is no
+     * snapshot yet, the data then has to be passed to {@link #migrate} first.
+     */
+    synchronized boolean load(ExpandableDictionary dict) {
+        if (!mSnapshotFile.exists()) return false;
+        final long startTime = System.nanoTime();
+        if (!readSnapshot(dict)) {
+            // Only the changes since the last compaction are left.
+            Log.w(TAG, "Ignoring damaged " + mSnapshotFile);
+        }
+        replayLog(dict);
+        Log.i(TAG, "Loaded " + mSnapshotFile.getName() + " in "
+                + (System.nanoTime() - startTime) / 1000 + "us");
+        return true;
+    }
+
+    private boolean readSnapshot(ExpandableDictionary dict) {
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(mSnapshotFile);
+            final FileChannel channel = in.getChannel();
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+            return dict.readSnapshot(buffer);
+        } catch (IOException e) {
+            return false;
+        } finally {
+            try {
+                if (in != null) in.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close " + mSnapshotFile);
+            }
+        }
+    }
+
+    /**
+     * Applies the log to dict. A record cut short by a crash ends the log, and is removed
+     * from the file so that new records follow the last complete one.
+     */
+    private void replayLog(ExpandableDictionary dict) {
+        final long length = mLogFile.length();
+        if (length == 0) return;
+        if (length > Integer.MAX_VALUE) {
+            Log.w(TAG, "Ignoring oversized " + mLogFile);
+            return;
+        }
+        final byte[] data = new byte[(int) length];
+        try {
+            final DataInputStream file = new DataInputStream(new FileInputStream(mLogFile));
+            try {
+                file.readFully(data);
+            } finally {
+                file.close();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read " + mLogFile);
+            return;
+        }
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        int good = 0;
+        try {
+            if (in.readInt() == LOG_MAGIC) {
+                good = LOG_HEADER_SIZE;
+                while (good < data.length) {
+                    final byte op = in.readByte();
+                    final String word1 = in.readUTF();
+                    if (op == OP_WORD) {
+                        final int frequency = in.readInt();
+                        if (word1.length() < ExpandableDictionary.MAX_WORD_LENGTH) {
+                            dict.setWordFrequency(word1, frequency);
+                        }
+                    } else if (op == OP_BIGRAM) {
+                        final String word2 = in.readUTF();
+                        final int frequency = in.readInt();
+                        if (word1.length() < ExpandableDictionary.MAX_WORD_LENGTH
+                                && word2.length() < ExpandableDictionary.MAX_WORD_LENGTH) {
+                            dict.setBigram(word1, word2, frequency);
+                        }
+                    } else {
+                        break;
+                    }
+                    good = data.length - in.available();
+                }
+            }
+        } catch (IOException e) {
+            // Cut short.
+        }
+        if (good < data.length) {
+            Log.w(TAG, "Truncating " + mLogFile + " from " + data.length + " to " + good);
+            truncateLog(good);
+        }
+    }
+
+    private void truncateLog(long length) {
+        try {
+            final RandomAccessFile file = new RandomAccessFile(mLogFile, "rw");
+            try {
+                file.setLength(length);
+            } finally {
+                file.close();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to truncate " + mLogFile);
+        }
+    }
+
+    /**
+     * Writes the batch in the background. Batches are written in the order they are
+     * passed in.
+     */
+    void commitAsync(Batch batch) {
+        if (batch.isEmpty()) return;
+        new CommitTask(this, batch).execute();
+    }
+
+    /**
+     * Appends the batch to the log and syncs it, then compacts if the log got large.
+     */
+    synchronized void commit(Batch batch) {
+        if (batch.isEmpty()) return;
+        if (!appendLog(batch)) return;
+        if (mLogFile.length() > MAX_LOG_SIZE) compact();
+    }
+
+    private boolean appendLog(Batch batch) {
+        final boolean hasHeader = mLogFile.length() >= LOG_HEADER_SIZE;
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(mLogFile, hasHeader);
+            if (!hasHeader) {
+                new DataOutputStream(out).writeInt(LOG_MAGIC);
+            }
+            batch.mBytes.writeTo(out);
+            out.getFD().sync();
+            return true;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to append to " + mLogFile);
+            return false;
+        } finally {
+            try {
+                if (out != null) out.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close " + mLogFile);
+            }
+        }
+    }
+
+    /**
+     * Creates the store from the batch, which holds everything that was stored elsewhere
+     * before, and writes the first snapshot. Anything left from an earlier attempt is
+     * replaced.
+     */
+    synchronized void migrate(Batch batch) {
+        mLogFile.delete();
+        mSnapshotFile.delete();
+        if (!batch.isEmpty() && !appendLog(batch)) return;
+        compact();
+    }
+
+    /**
+     * Folds the log into a new snapshot. The snapshot is written to a temporary file and
+     * renamed, and the log is only deleted afterwards, so a crash at any point leaves
+     * either the old or the new state. Replaying a log again is harmless as it only sets
+     * values.
+     */
+    synchronized void compact() {
+        final long startTime = System.nanoTime();
+        final ExpandableDictionary current = new ExpandableDictionary(mContext, 0);
+        if (mSnapshotFile.exists() && !readSnapshot(current)) {
+            Log.w(TAG, "Ignoring damaged " + mSnapshotFile);
+        }
+        replayLog(current);
+        final ExpandableDictionary compacted = new ExpandableDictionary(mContext, 0);
+        final int maxBigrams = mMaxBigrams;
+        current.copyTo(compacted, current.getBigramCount() > maxBigrams
+                ? maxBigrams - mPruneBigrams : maxBigrams);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(compacted.getSnapshotSize());
+        compacted.writeSnapshot(buffer);
+        final File temp = new File(mSnapshotFile.getPath() + ".tmp");
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(temp);
+            out.write(buffer.array());
+            out.getFD().sync();
+            out.close();
+            out = null;
+            if (!temp.renameTo(mSnapshotFile)) {
+                Log.w(TAG, "Failed to replace " + mSnapshotFile);
+                return;
+            }
+            mLogFile.delete();
+            Log.i(TAG, "Compacted " + mSnapshotFile.getName() + " to " + buffer.capacity()
+                    + " bytes in " + (System.nanoTime() - startTime) / 1000 + "us");
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write " + temp);
+        } finally {
+            try {
+                if (out != null) out.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close " + temp);
+            }
+        }
+    }
+}
@@ -4,28 +4,48 @@ import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.PackageManager.NameNotFoundException;
 import android.content.pm.ResolveInfo;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.content.res.XmlResourceParser;
+import android.net.Uri;
+import android.text.TextUtils;
 import android.util.Log;
 
 import org.xmlpull.v1.XmlPullParserException;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
 
 public class PluginManager extends BroadcastReceiver {
     private static String TAG = "PCKeyboard";
     private static String HK_INTENT_DICT = "org.pocketworkstation.DICT";
     private static String SOFTKEYBOARD_INTENT_DICT = "com.menny.android.anysoftkeyboard.DICTIONARY";
     private static String SOFTKEYBOARD_DICT_RESOURCE_METADATA_NAME = "com.menny.android.anysoftkeyboard.dictionaries";
+    private static final String REGISTRY_FILE = "plugin_dictionaries";
+    private static final String CACHE_DIR = "plugin_dicts";
+    private static final int REGISTRY_VERSION = 2;
+    private static final int TYPE_SOFTKEYBOARD = 0;
+    private static final int TYPE_HK = 1;
     private LatinIME mIME;
 
     // Apparently anysoftkeyboard doesn't use ISO 639-1 language codes for its locales?
@@ -36,8 +56,14 @@ public class PluginManager extends BroadcastReceiver {
         SOFTKEYBOARD_LANG_MAP.put("dk", "da");
     }
 
-    private static Map<String, DictPluginSpec> mPluginDicts =
-            new HashMap<String, DictPluginSpec>();
+    // The dictionary used for each language, built from mPluginSpecs. Dictionaries are
+    // preloaded in the background, which looks them up concurrently, so both are guarded
+    // by mPluginDicts.
+    private static final Map<String, DictPluginSpecBase> mPluginDicts =
+            new HashMap<String, DictPluginSpecBase>();
+    // All known plugin dictionaries, as stored in the registry file.
+    private static List<DictPluginSpecBase> mPluginSpecs = new ArrayList<DictPluginSpecBase>();
+    private static boolean sRegistryLoaded;
 
     PluginManager(LatinIME ime) {
         super();
@@ -46,10 +72,17 @@ public class PluginManager extends BroadcastReceiver {
 
     static interface DictPluginSpec {
         BinaryDictionary getDict(Context context);
+        DictionaryIndex.Info probe(Context context);
     }
 
-    static void getSoftKeyboardDictionaries(PackageManager packageManager) {
+    /**
+     * Adds the AnySoftKeyboard dictionaries of the package, or of all packages if it is
+     * null, to specs.
+     */
+    static void getSoftKeyboardDictionaries(PackageManager packageManager, String pkg,
+            List<DictPluginSpecBase> specs) {
         Intent dictIntent = new Intent(SOFTKEYBOARD_INTENT_DICT);
+        if (pkg != null) dictIntent.setPackage(pkg);
         List<ResolveInfo> dictPacks = packageManager.queryBroadcastReceivers(
                 dictIntent, PackageManager.GET_META_DATA);
         for (ResolveInfo ri : dictPacks) {
@@ -104,8 +137,9 @@ public class PluginManager extends BroadcastReceiver {
                 }
 
                 if ((assetName == null && resId == 0) || lang == null) continue;
-                DictPluginSpec spec = new DictPluginSpecSoftKeyboard(pkgName, assetName, resId);
-                mPluginDicts.put(lang, spec);
+                PackageInfo info = packageManager.getPackageInfo(pkgName, 0);
+                specs.add(new DictPluginSpecSoftKeyboard(pkgName, info.versionCode,
+                        info.lastUpdateTime, lang, assetName, resId));
                 Log.i(TAG, "Found plugin dictionary: lang=" + lang + ", pkg=" + pkgName);
                 success = true;
             } catch (NameNotFoundException e) {
@@ -118,8 +152,14 @@ public class PluginManager extends BroadcastReceiver {
         }
     }
 
-    static void getHKDictionaries(PackageManager packageManager) {
+    /**
+     * Adds the Hacker's Keyboard dictionaries of the package, or of all packages if it is
+     * null, to specs.
+     */
+    static void getHKDictionaries(PackageManager packageManager, String pkg,
+            List<DictPluginSpecBase> specs) {
         Intent dictIntent = new Intent(HK_INTENT_DICT);
+        if (pkg != null) dictIntent.setPackage(pkg);
         List<ResolveInfo> dictPacks = packageManager.queryIntentActivities(dictIntent, 0);
         for (ResolveInfo ri : dictPacks) {
             ApplicationInfo appInfo = ri.activityInfo.applicationInfo;
@@ -151,8 +191,9 @@ public class PluginManager extends BroadcastReceiver {
                     rawIds = new int[parts];
                     for (int i = 0; i < parts; ++i) rawIds[i] = ids.get(i);
                 }
-                DictPluginSpec spec = new DictPluginSpecHK(pkgName, rawIds);
-                mPluginDicts.put(lang, spec);
+                PackageInfo info = packageManager.getPackageInfo(pkgName, 0);
+                specs.add(new DictPluginSpecHK(pkgName, info.versionCode, info.lastUpdateTime,
+                        lang, rawIds));
                 Log.i(TAG, "Found plugin dictionary: lang=" + lang + ", pkg=" + pkgName);
                 success = true;
             } catch (NameNotFoundException e) {
@@ -168,6 +209,16 @@ public class PluginManager extends BroadcastReceiver {
     static private abstract class DictPluginSpecBase
             implements DictPluginSpec {
         String mPackageName;
+        int mVersionCode;
+        long mLastUpdateTime;
+        String mLang;
+
+        abstract int getType();
+
+        /**
+         * Writes the fields after the ones of DictPluginSpecBase to the registry.
+         */
+        abstract void write(DataOutputStream out) throws IOException;
 
         Resources getResources(Context context) {
             PackageManager packageManager = context.getPackageManager();
@@ -181,16 +232,90 @@ public class PluginManager extends BroadcastReceiver {
             return res;
         }
 
+        /**
+         * Returns true if the package is still installed in the version the spec was read
+         * from. The resource ids and asset names in the spec may change with any update
+         * or reinstall, including ones made while no receiver was registered.
+         */
+        boolean isCurrent(Context context) {
+            try {
+                PackageInfo info = context.getPackageManager().getPackageInfo(mPackageName, 0);
+                return info.versionCode == mVersionCode && info.lastUpdateTime == mLastUpdateTime;
+            } catch (NameNotFoundException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Opens the parts of the dictionary, or returns null if they can't be opened.
+         */
         abstract InputStream[] getStreams(Resources res);
 
-        public BinaryDictionary getDict(Context context) {
+        /**
+         * Opens the raw resources, or returns null if any of them doesn't exist.
+         */
+        static InputStream[] openRawResources(Resources res, int[] ids) {
+            InputStream[] streams = new InputStream[ids.length];
+            try {
+                for (int i = 0; i < ids.length; ++i) {
+                    streams[i] = res.openRawResource(ids[i]);
+                }
+                return streams;
+            } catch (Resources.NotFoundException e) {
+                Log.w(TAG, "Dictionary resource not found");
+                for (InputStream in : streams) {
+                    try {
+                        if (in != null) in.close();
+                    } catch (IOException ioe) {
+                        Log.w(TAG, "Failed to close input stream");
+                    }
+                }
+                return null;
+            }
+        }
+
+        public DictionaryIndex.Info probe(Context context) {
             Resources res = getResources(context);
             if (res == null) return null;
 
             InputStream[] dicts = getStreams(res);
             if (dicts == null) return null;
-            BinaryDictionary dict = new BinaryDictionary(
-                    context, dicts, Suggest.DIC_MAIN);
+            return DictionaryIndex.probe(mPackageName, dicts);
+        }
+
+        /**
+         * Returns the file the dictionary is extracted to. Its name contains the version
+         * and install time of the package, so it changes whenever the package is updated
+         * or reinstalled.
+         */
+        File getCacheFile(Context context) {
+            return new File(new File(context.getFilesDir(), CACHE_DIR), mPackageName + "-"
+                    + mLang + "-" + mVersionCode + "-" + mLastUpdateTime + ".dict");
+        }
+
+        public BinaryDictionary getDict(Context context) {
+            Resources res = getResources(context);
+            if (res == null) return null;
+
+            // Concatenating the parts, and decompressing them if they are compressed in the
+            // APK, takes longer than anything else in loading a large dictionary. It's only
+            // done once, later loads map the extracted file.
+            File file = getCacheFile(context);
+            if (!file.exists()) {
+                InputStream[] dicts = getStreams(res);
+                if (dicts == null) return null;
+                if (!extractDictionary(dicts, file, mPackageName + "-" + mLang + "-")) {
+                    file = null;
+                }
+            }
+            BinaryDictionary dict;
+            if (file != null) {
+                dict = new BinaryDictionary(context, file, Suggest.DIC_MAIN);
+            } else {
+                InputStream[] dicts = getStreams(res);
+                if (dicts == null) return null;
+                dict = new BinaryDictionary(context, dicts, Suggest.DIC_MAIN);
+            }
             if (dict.getSize() == 0) return null;
             //Log.i(TAG, "dict size=" + dict.getSize());
             return dict;
@@ -199,10 +324,16 @@ public class PluginManager extends BroadcastReceiver {
 
     @Override
     public void onReceive(Context context, Intent intent) {
-        Log.i(TAG, "Package information changed, updating dictionaries.");
-        getPluginDictionaries(context);
-        Log.i(TAG, "Finished updating dictionaries.");
-        mIME.toggleLanguage(true, true);
+        Uri data = intent.getData();
+        if (data == null) return;
+        String pkg = data.getSchemeSpecificPart();
+        boolean removed = Intent.ACTION_PACKAGE_REMOVED.equals(intent.getAction());
+        // An update sends PACKAGE_REPLACED after removing the old version.
+        if (removed && intent.getBooleanExtra(Intent.EXTRA_REPLACING, false)) return;
+        if (!updatePackage(context, pkg, removed)) return;
+        Log.i(TAG, "Dictionaries of " + pkg + " changed.");
+        DictionaryIndex.invalidate(context);
+        mIME.onDictionariesChanged();
     }
 
     static private class DictPluginSpecHK
@@ -210,19 +341,30 @@ public class PluginManager extends BroadcastReceiver {
 
         int[] mRawIds;
 
-        public DictPluginSpecHK(String pkg, int[] ids) {
+        public DictPluginSpecHK(String pkg, int versionCode, long lastUpdateTime, String lang,
+                int[] ids) {
             mPackageName = pkg;
+            mVersionCode = versionCode;
+            mLastUpdateTime = lastUpdateTime;
+            mLang = lang;
             mRawIds = ids;
         }
 
+        @Override
+        int getType() {
+            return TYPE_HK;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(mRawIds.length);
+            for (int id : mRawIds) out.writeInt(id);
+        }
+
         @Override
         InputStream[] getStreams(Resources res) {
             if (mRawIds == null || mRawIds.length == 0) return null;
-            InputStream[] streams = new InputStream[mRawIds.length];
-            for (int i = 0; i < mRawIds.length; ++i) {
-                streams[i] = res.openRawResource(mRawIds[i]);
-            }
-            return streams;
+            return openRawResources(res, mRawIds);
         }
     }
 
@@ -232,31 +374,48 @@ public class PluginManager extends BroadcastReceiver {
         String mAssetName;
         int mResId;
 
-        public DictPluginSpecSoftKeyboard(String pkg, String asset, int resId) {
+        public DictPluginSpecSoftKeyboard(String pkg, int versionCode, long lastUpdateTime,
+                String lang, String asset, int resId) {
             mPackageName = pkg;
+            mVersionCode = versionCode;
+            mLastUpdateTime = lastUpdateTime;
+            mLang = lang;
             mAssetName = asset;
             mResId = resId;
         }
 
+        @Override
+        int getType() {
+            return TYPE_SOFTKEYBOARD;
+        }
+
+        @Override
+        void write(DataOutputStream out) throws IOException {
+            out.writeBoolean(mAssetName != null);
+            if (mAssetName != null) out.writeUTF(mAssetName);
+            out.writeInt(mResId);
+        }
+
         @Override
         InputStream[] getStreams(Resources res) {
             if (mAssetName == null) {
                 if (mResId == 0) return null;
-                TypedArray a = res.obtainTypedArray(mResId);
                 int[] resIds;
                 try {
-                    resIds = new int[a.length()];
-                    for (int i = 0; i < a.length(); ++i) {
-                        resIds[i] = a.getResourceId(i, 0);
+                    TypedArray a = res.obtainTypedArray(mResId);
+                    try {
+                        resIds = new int[a.length()];
+                        for (int i = 0; i < a.length(); ++i) {
+                            resIds[i] = a.getResourceId(i, 0);
+                        }
+                    } finally {
+                        a.recycle();
                     }
-                } finally {
-                    a.recycle();
-                }
-                InputStream[] in = new InputStream[resIds.length];
-                for (int i = 0; i < resIds.length; ++i) {
-                    in[i] = res.openRawResource(resIds[i]);
+                } catch (Resources.NotFoundException e) {
+                    Log.w(TAG, "Dictionary resource not found");
+                    return null;
                 }
-                return in;
+                return openRawResources(res, resIds);
             } else {
                 try {
                     InputStream in = res.getAssets().open(mAssetName);
@@ -269,17 +428,328 @@ public class PluginManager extends BroadcastReceiver {
         }
     }
 
-    static void getPluginDictionaries(Context context) {
-        mPluginDicts.clear();
+    /**
+     * Loads the plugin dictionaries from the registry file, which is written whenever they
+     * change. Only scans the installed packages if there is no registry yet. Does nothing
+     * if they were loaded before.
+     */
+    static void loadPluginDictionaries(Context context) {
+        synchronized (mPluginDicts) {
+            if (sRegistryLoaded) return;
+        }
+        List<DictPluginSpecBase> specs = readRegistry(context);
+        if (specs == null) {
+            specs = new ArrayList<DictPluginSpecBase>();
+            PackageManager packageManager = context.getPackageManager();
+            getSoftKeyboardDictionaries(packageManager, null, specs);
+            getHKDictionaries(packageManager, null, specs);
+            writeRegistry(context, specs);
+        }
+        synchronized (mPluginDicts) {
+            if (sRegistryLoaded) return;
+            setPluginSpecs(specs);
+            sRegistryLoaded = true;
+        }
+    }
+
+    /**
+     * Brings the registry up to date with the installed packages, to catch changes made
+     * while no receiver was registered. Only plugins that are new or have a different
+     * version or install time are scanned. Returns true if anything changed. May be called on any thread.
+     */
+    static boolean refreshPluginDictionaries(Context context) {
+        loadPluginDictionaries(context);
         PackageManager packageManager = context.getPackageManager();
-        getSoftKeyboardDictionaries(packageManager);
-        getHKDictionaries(packageManager);
+        Map<String, PackageInfo> installed = new HashMap<String, PackageInfo>();
+        List<ResolveInfo> dictPacks = new ArrayList<ResolveInfo>();
+        dictPacks.addAll(packageManager.queryBroadcastReceivers(
+                new Intent(SOFTKEYBOARD_INTENT_DICT), 0));
+        dictPacks.addAll(packageManager.queryIntentActivities(new Intent(HK_INTENT_DICT), 0));
+        for (ResolveInfo ri : dictPacks) {
+            String pkgName = ri.activityInfo.applicationInfo.packageName;
+            if (installed.containsKey(pkgName)) continue;
+            try {
+                installed.put(pkgName, packageManager.getPackageInfo(pkgName, 0));
+            } catch (NameNotFoundException e) {
+                // Removed in the meantime.
+            }
+        }
+
+        List<DictPluginSpecBase> oldSpecs;
+        synchronized (mPluginDicts) {
+            oldSpecs = mPluginSpecs;
+        }
+        List<DictPluginSpecBase> specs = new ArrayList<DictPluginSpecBase>();
+        Set<String> known = new HashSet<String>();
+        boolean changed = false;
+        for (DictPluginSpecBase spec : oldSpecs) {
+            PackageInfo info = installed.get(spec.mPackageName);
+            if (info != null && info.versionCode == spec.mVersionCode
+                    && info.lastUpdateTime == spec.mLastUpdateTime) {
+                specs.add(spec);
+                known.add(spec.mPackageName);
+            } else {
+                deleteCachedDictionaries(new File(context.getFilesDir(), CACHE_DIR),
+                        spec.mPackageName + "-");
+                changed = true;
+            }
+        }
+        for (String pkgName : installed.keySet()) {
+            if (known.contains(pkgName)) continue;
+            int size = specs.size();
+            getSoftKeyboardDictionaries(packageManager, pkgName, specs);
+            getHKDictionaries(packageManager, pkgName, specs);
+            if (specs.size() > size) changed = true;
+        }
+        if (!changed) return false;
+
+        synchronized (mPluginDicts) {
+            // Don't overwrite changes that a package broadcast made in the meantime.
+            if (mPluginSpecs != oldSpecs) return false;
+            setPluginSpecs(specs);
+        }
+        writeRegistry(context, specs);
+        return true;
+    }
+
+    /**
+     * Rescans one package after it was added, replaced or removed. Returns true if it had
+     * or has plugin dictionaries.
+     */
+    private static boolean updatePackage(Context context, String pkg, boolean removed) {
+        loadPluginDictionaries(context);
+        List<DictPluginSpecBase> added = new ArrayList<DictPluginSpecBase>();
+        if (!removed) {
+            PackageManager packageManager = context.getPackageManager();
+            getSoftKeyboardDictionaries(packageManager, pkg, added);
+            getHKDictionaries(packageManager, pkg, added);
+        }
+        List<DictPluginSpecBase> specs;
+        synchronized (mPluginDicts) {
+            specs = new ArrayList<DictPluginSpecBase>();
+            for (DictPluginSpecBase spec : mPluginSpecs) {
+                if (!spec.mPackageName.equals(pkg)) specs.add(spec);
+            }
+            if (specs.size() == mPluginSpecs.size() && added.isEmpty()) return false;
+            specs.addAll(added);
+            setPluginSpecs(specs);
+        }
+        writeRegistry(context, specs);
+        // Package names can't contain '-'.
+        deleteCachedDictionaries(new File(context.getFilesDir(), CACHE_DIR), pkg + "-");
+        return true;
+    }
+
+    /**
+     * Replaces the known plugins, and picks the one to use for each language. As when
+     * scanning all packages, HK plugins win over AnySoftKeyboard ones. Called with
+     * mPluginDicts held.
+     */
+    private static void setPluginSpecs(List<DictPluginSpecBase> specs) {
+        mPluginSpecs = specs;
+        mPluginDicts.clear();
+        for (DictPluginSpecBase spec : specs) {
+            if (spec.getType() == TYPE_SOFTKEYBOARD) mPluginDicts.put(spec.mLang, spec);
+        }
+        for (DictPluginSpecBase spec : specs) {
+            if (spec.getType() == TYPE_HK) mPluginDicts.put(spec.mLang, spec);
+        }
+    }
+
+    private static List<DictPluginSpecBase> readRegistry(Context context) {
+        File file = new File(context.getFilesDir(), REGISTRY_FILE);
+        if (!file.exists()) return null;
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != REGISTRY_VERSION) return null;
+            int count = in.readInt();
+            List<DictPluginSpecBase> specs = new ArrayList<DictPluginSpecBase>(count);
+            for (int i = 0; i < count; ++i) {
+                int type = in.readByte();
+                String pkg = in.readUTF();
+                int versionCode = in.readInt();
+                long lastUpdateTime = in.readLong();
+                String lang = in.readUTF();
+                if (type == TYPE_HK) {
+                    int[] rawIds = new int[in.readInt()];
+                    for (int j = 0; j < rawIds.length; ++j) rawIds[j] = in.readInt();
+                    specs.add(new DictPluginSpecHK(pkg, versionCode, lastUpdateTime, lang,
+                            rawIds));
+                } else if (type == TYPE_SOFTKEYBOARD) {
+                    String assetName = in.readBoolean() ? in.readUTF() : null;
+                    int resId = in.readInt();
+                    specs.add(new DictPluginSpecSoftKeyboard(pkg, versionCode, lastUpdateTime,
+                            lang, assetName, resId));
+                } else {
+                    return null;
+                }
+            }
+            return specs;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read plugin dictionary registry");
+            return null;
+        } finally {
+            try {
+                if (in != null) in.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close plugin dictionary registry");
+            }
+        }
+    }
+
+    private static void writeRegistry(Context context, List<DictPluginSpecBase> specs) {
+        File file = new File(context.getFilesDir(), REGISTRY_FILE);
+        File temp = new File(context.getFilesDir(), REGISTRY_FILE + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(REGISTRY_VERSION);
+            out.writeInt(specs.size());
+            for (DictPluginSpecBase spec : specs) {
+                out.writeByte(spec.getType());
+                out.writeUTF(spec.mPackageName);
+                out.writeInt(spec.mVersionCode);
+                out.writeLong(spec.mLastUpdateTime);
+                out.writeUTF(spec.mLang);
+                spec.write(out);
+            }
+            out.close();
+            out = null;
+            if (!temp.renameTo(file)) Log.w(TAG, "Failed to replace plugin dictionary registry");
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write plugin dictionary registry");
+        } finally {
+            try {
+                if (out != null) out.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close plugin dictionary registry");
+            }
+        }
+    }
+
+    /**
+     * Concatenates the streams into file, through a temporary file so that file is only
+     * ever complete, and closes them. The copy is checked against the CRC32 of the data
+     * read. Other files starting with prefix, older versions of the same dictionary, are
+     * deleted. Returns false if the dictionary couldn't be extracted.
+     */
+    private static boolean extractDictionary(InputStream[] streams, File file, String prefix) {
+        File dir = file.getParentFile();
+        File temp = null;
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs()) return false;
+            temp = File.createTempFile(prefix, ".tmp", dir);
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[64 * 1024];
+            OutputStream out = new FileOutputStream(temp);
+            try {
+                for (InputStream in : streams) {
+                    int count;
+                    while ((count = in.read(buffer)) > 0) {
+                        out.write(buffer, 0, count);
+                        crc.update(buffer, 0, count);
+                    }
+                }
+            } finally {
+                out.close();
+            }
+            long expected = crc.getValue();
+            crc.reset();
+            InputStream in = new FileInputStream(temp);
+            try {
+                int count;
+                while ((count = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, count);
+                }
+            } finally {
+                in.close();
+            }
+            if (crc.getValue() != expected) {
+                Log.w(TAG, "Checksum mismatch extracting " + file);
+                return false;
+            }
+            deleteCachedDictionaries(dir, prefix);
+            if (!temp.renameTo(file)) return false;
+            temp = null;
+            Log.i(TAG, "Extracted plugin dictionary to " + file);
+            return true;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to extract plugin dictionary to " + file);
+            return false;
+        } finally {
+            if (temp != null) temp.delete();
+            try {
+                for (InputStream in : streams) {
+                    in.close();
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close input stream");
+            }
+        }
+    }
+
+    /**
+     * Deletes the extracted dictionaries whose names start with prefix.
+     */
+    private static void deleteCachedDictionaries(File dir, String prefix) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File f : files) {
+            if (f.getName().startsWith(prefix) && f.getName().endsWith(".dict")) f.delete();
+        }
+    }
+
+    /**
+     * Describes the known plugins with their versions, it changes whenever any of them do.
+     */
+    static String getPluginFingerprint() {
+        List<String> packages = new ArrayList<String>();
+        synchronized (mPluginDicts) {
+            for (DictPluginSpecBase spec : mPluginSpecs) {
+                packages.add(spec.mPackageName + ":" + spec.mVersionCode + ":"
+                        + spec.mLastUpdateTime);
+            }
+        }
+        Collections.sort(packages);
+        return TextUtils.join(";", packages);
+    }
+
+    private static DictPluginSpecBase findSpec(String lang) {
+        synchronized (mPluginDicts) {
+            DictPluginSpecBase spec = mPluginDicts.get(lang);
+            if (spec == null) spec = mPluginDicts.get(lang.substring(0, 2));
+            return spec;
+        }
+    }
+
+    /**
+     * Returns the plugin for the language. The registry is only brought up to date after
+     * the dictionaries were loaded, so the plugin is checked against the installed package
+     * first, and its package is rescanned if it was updated, reinstalled or removed.
+     */
+    private static DictPluginSpec getSpec(Context context, String lang) {
+        DictPluginSpecBase spec = findSpec(lang);
+        if (spec == null || spec.isCurrent(context)) return spec;
+        Log.i(TAG, "Plugin " + spec.mPackageName + " changed, rescanning it");
+        if (updatePackage(context, spec.mPackageName, false)) {
+            DictionaryIndex.invalidate(context);
+        }
+        return findSpec(lang);
+    }
+
+    /**
+     * Returns the size and format of the plugin dictionary for the language without
+     * loading it, or null if there is none.
+     */
+    static DictionaryIndex.Info probeDictionary(Context context, String lang) {
+        DictPluginSpec spec = getSpec(context, lang);
+        return spec == null ? null : spec.probe(context);
     }
 
     static BinaryDictionary getDictionary(Context context, String lang) {
         //Log.i(TAG, "Looking for plugin dictionary for lang=" + lang);
-        DictPluginSpec spec = mPluginDicts.get(lang);
-        if (spec == null) spec = mPluginDicts.get(lang.substring(0, 2));
+        DictPluginSpec spec = getSpec(context, lang);
         if (spec == null) {
             //Log.i(TAG, "No plugin found.");
             return null;
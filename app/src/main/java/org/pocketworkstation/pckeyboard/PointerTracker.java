@@ -287,6 +287,7 @@ public class PointerTracker {
     public void onDownEvent(int x, int y, long eventTime) {
         if (DEBUG)
             debugLog("onDownEvent:", x, y);
+        LatencyTracker.onTouchDown();
         int keyIndex = mKeyState.onDownKey(x, y, eventTime);
         mKeyboardLayoutHasBeenChanged = false;
         mKeyAlreadyProcessed = false;
@@ -0,0 +1,57 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import android.os.Bundle;
+import android.preference.Preference;
+import android.preference.PreferenceActivity;
+import android.util.Log;
+import android.util.PrintWriterPrinter;
+import android.widget.Toast;
+
+/**
+ * Debug settings, opened from the debugging section of the main settings. Not exported
+ * to other apps.
+ */
+public class PrefScreenDebug extends PreferenceActivity {
+    private static final String TAG = "PCKeyboard";
+    private static final String PREF_EXPORT_LATENCY = "export_latency";
+
+    @Override
+    protected void onCreate(Bundle icicle) {
+        super.onCreate(icicle);
+        addPreferencesFromResource(R.xml.prefs_for_debug);
+        findPreference(PREF_EXPORT_LATENCY).setOnPreferenceClickListener(
+                new Preference.OnPreferenceClickListener() {
+                    public boolean onPreferenceClick(Preference preference) {
+                        exportLatency();
+                        return true;
+                    }
+                });
+    }
+
+    private void exportLatency() {
+        File dir = getExternalFilesDir(null);
+        if (dir == null) dir = getFilesDir();
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date());
+        File file = new File(dir, "latency-" + stamp + ".txt");
+        PrintWriter writer = null;
+        try {
+            writer = new PrintWriter(new FileWriter(file));
+            LatencyTracker.writeReport(new PrintWriterPrinter(writer));
+            Toast.makeText(this, getString(R.string.prefs_export_latency_done, file.getPath()),
+                    Toast.LENGTH_LONG).show();
+        } catch (IOException e) {
+            Log.w(TAG, "Could not write " + file, e);
+            Toast.makeText(this, e.getMessage(), Toast.LENGTH_LONG).show();
+        } finally {
+            if (writer != null) writer.close();
+        }
+    }
+}
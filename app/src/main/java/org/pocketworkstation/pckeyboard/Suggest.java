@@ -21,11 +21,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import android.content.Context;
+import android.os.Process;
 import android.text.AutoText;
 import android.text.TextUtils;
 import android.util.Log;
+import android.util.Printer;
 import android.view.View;
 
 /**
@@ -67,6 +74,45 @@ public class Suggest implements Dictionary.WordCallback {
 
     static final int LARGE_DICTIONARY_THRESHOLD = 200 * 1000;
 
+    /**
+     * The frequencies of a word and of its lowercase form in each dictionary, indexed by
+     * dictionary type. -1 where the dictionary isn't set or doesn't accept the word, see
+     * {@link Dictionary#getValidFrequencies}.
+     */
+    public static class WordFrequencies {
+        public final int[] exact = new int[DIC_TYPE_LAST_ID + 1];
+        public final int[] lowercase = new int[DIC_TYPE_LAST_ID + 1];
+
+        /**
+         * Returns true if any dictionary has the word as given.
+         */
+        public boolean isValid() {
+            return isValid(exact);
+        }
+
+        /**
+         * Returns true if any dictionary has the lowercase form of the word.
+         */
+        public boolean isLowercaseValid() {
+            return isValid(lowercase);
+        }
+
+        private static boolean isValid(int[] frequencies) {
+            for (int i = 0; i < frequencies.length; i++) {
+                if (frequencies[i] >= 0) return true;
+            }
+            return false;
+        }
+    }
+
+    // Per-stage lookup latencies, kept across Suggest instances so that locale switches
+    // don't reset them. Printed by "dumpsys input_method".
+    static final LatencyHistogram sSuggestionsTime = new LatencyHistogram("getSuggestions");
+    static final LatencyHistogram sBigramTime = new LatencyHistogram("bigram lookup");
+    static final LatencyHistogram sUserDictTime = new LatencyHistogram("user dictionary");
+    static final LatencyHistogram sMainDictTime = new LatencyHistogram("main dictionary");
+    static final LatencyHistogram sValidWordTime = new LatencyHistogram("isValidWord");
+
     private BinaryDictionary mMainDict;
 
     private Dictionary mUserDictionary;
@@ -83,17 +129,42 @@ public class Suggest implements Dictionary.WordCallback {
 
     private boolean mAutoTextEnabled;
 
-    private int[] mPriorities = new int[mPrefMaxSuggestions];
-    private int[] mBigramPriorities = new int[PREF_MAX_BIGRAMS];
+    // Candidates collected from the dictionaries, kept in primitive buffers so that addWord()
+    // doesn't allocate. They are copied into mSuggestions once the lookups are done.
+    private SuggestionBuffer mCandidates =
+            new SuggestionBuffer(mPrefMaxSuggestions, BinaryDictionary.MAX_WORD_LENGTH);
+    private final SuggestionBuffer mBigramCandidates =
+            new SuggestionBuffer(PREF_MAX_BIGRAMS, BinaryDictionary.MAX_WORD_LENGTH);
 
     // Handle predictive correction for only the first 1280 characters for performance reasons
     // If we support scripts that need latin characters beyond that, we should probably use some
     // kind of a sparse array or language specific list with a mapping lookup table.
-    // 1280 is the size of the BASE_CHARS array in ExpandableDictionary, which is a basic set of
-    // latin characters.
+    // 1280 covers Latin, Greek and Cyrillic, up to U+0500.
     private int[] mNextLettersFrequencies = new int[1280];
+
+    // The user and contacts dictionaries are searched on this pool while the calling thread
+    // searches the main dictionary. Their words are recorded and then merged in the order
+    // the dictionaries used to be searched in, so the result doesn't depend on timing.
+    private static final ExecutorService sLookupExecutor = Executors.newFixedThreadPool(2,
+            new ThreadFactory() {
+                public Thread newThread(final Runnable r) {
+                    Thread thread = new Thread("SuggestLookup") {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_DISPLAY);
+                            r.run();
+                        }
+                    };
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    private final CandidateLog mUserLog = new CandidateLog(mNextLettersFrequencies.length);
+    private final CandidateLog mContactsLog = new CandidateLog(mNextLettersFrequencies.length);
+    private final CandidateLog mMainLog = new CandidateLog(mNextLettersFrequencies.length);
     private ArrayList<CharSequence> mSuggestions = new ArrayList<CharSequence>();
-    ArrayList<CharSequence> mBigramSuggestions  = new ArrayList<CharSequence>();
+    // The typed word of the last getSuggestions() call looked up in all dictionaries.
+    private WordFrequencies mTypedWordFrequencies;
     private ArrayList<CharSequence> mStringPool = new ArrayList<CharSequence>();
     private boolean mHaveCorrection;
     private CharSequence mOriginalWord;
@@ -105,11 +176,16 @@ public class Suggest implements Dictionary.WordCallback {
 
     private int mCorrectionMode = CORRECTION_BASIC;
 
-    public Suggest(Context context, int[] dictionaryResId) {
+    /**
+     * Loads the main dictionary. This may take a while, but doesn't depend on the thread
+     * or the configuration of the context's resources.
+     * @param language the language of the plugin dictionary to use if the built-in one
+     *        isn't large enough
+     */
+    public Suggest(Context context, int[] dictionaryResId, String language) {
         mMainDict = new BinaryDictionary(context, dictionaryResId, DIC_MAIN);
         if (!hasMainDictionary()) {
-            Locale locale = context.getResources().getConfiguration().locale;
-            BinaryDictionary plug = PluginManager.getDictionary(context, locale.getLanguage());
+            BinaryDictionary plug = PluginManager.getDictionary(context, language);
             if (plug != null) {
                 mMainDict.close();
                 mMainDict = plug;
@@ -146,6 +222,13 @@ public class Suggest implements Dictionary.WordCallback {
         return mMainDict.getSize() > LARGE_DICTIONARY_THRESHOLD;
     }
 
+    /**
+     * Returns the size of the main dictionary in bytes.
+     */
+    public int getMainDictionarySize() {
+        return mMainDict.getSize();
+    }
+
     public int getApproxMaxWordLength() {
         return APPROX_MAX_WORD_LENGTH;
     }
@@ -184,8 +267,7 @@ public class Suggest implements Dictionary.WordCallback {
             throw new IllegalArgumentException("maxSuggestions must be between 1 and 100");
         }
         mPrefMaxSuggestions = maxSuggestions;
-        mPriorities = new int[mPrefMaxSuggestions];
-        mBigramPriorities = new int[PREF_MAX_BIGRAMS];
+        mCandidates = new SuggestionBuffer(mPrefMaxSuggestions, BinaryDictionary.MAX_WORD_LENGTH);
         collectGarbage(mSuggestions, mPrefMaxSuggestions);
         while (mStringPool.size() < mPrefMaxSuggestions) {
             StringBuilder sb = new StringBuilder(getApproxMaxWordLength());
@@ -230,11 +312,12 @@ public class Suggest implements Dictionary.WordCallback {
      */
     public List<CharSequence> getSuggestions(View view, WordComposer wordComposer, 
             boolean includeTypedWordIfValid, CharSequence prevWordForBigram) {
+        final long startTime = System.nanoTime();
         mHaveCorrection = false;
         mIsFirstCharCapitalized = wordComposer.isFirstCharCapitalized();
         mIsAllUpperCase = wordComposer.isAllUpperCase();
         collectGarbage(mSuggestions, mPrefMaxSuggestions);
-        Arrays.fill(mPriorities, 0);
+        mCandidates.clear();
         Arrays.fill(mNextLettersFrequencies, 0);
 
         // Save a lowercase version of the original word
@@ -243,47 +326,50 @@ public class Suggest implements Dictionary.WordCallback {
             final String mOriginalWordString = mOriginalWord.toString();
             mOriginalWord = mOriginalWordString;
             mLowerOriginalWord = mOriginalWordString.toLowerCase();
+            mTypedWordFrequencies = lookupWord(mOriginalWord);
         } else {
             mLowerOriginalWord = "";
+            mTypedWordFrequencies = null;
         }
 
         if (wordComposer.size() == 1 && (mCorrectionMode == CORRECTION_FULL_BIGRAM
                 || mCorrectionMode == CORRECTION_BASIC)) {
             // At first character typed, search only the bigrams
-            Arrays.fill(mBigramPriorities, 0);
-            collectGarbage(mBigramSuggestions, PREF_MAX_BIGRAMS);
+            mBigramCandidates.clear();
 
             if (!TextUtils.isEmpty(prevWordForBigram)) {
+                final long bigramStartTime = System.nanoTime();
                 CharSequence lowerPrevWord = prevWordForBigram.toString().toLowerCase();
                 if (mMainDict.isValidWord(lowerPrevWord)) {
                     prevWordForBigram = lowerPrevWord;
                 }
-                if (mUserBigramDictionary != null) {
-                    mUserBigramDictionary.getBigrams(wordComposer, prevWordForBigram, this,
-                            mNextLettersFrequencies);
+                Future<?> userLookup = lookupAsync(mUserBigramDictionary, wordComposer,
+                        prevWordForBigram, mUserLog, null);
+                Future<?> contactsLookup = lookupAsync(mContactsDictionary, wordComposer,
+                        prevWordForBigram, mContactsLog, null);
+                mMainLog.clear();
+                if (mMainDict != null) {
+                    mMainDict.getBigrams(wordComposer, prevWordForBigram, mMainLog,
+                            mMainLog.getNextLettersFrequencies());
+                }
+                if (awaitLookup(userLookup)) {
+                    mUserLog.replay(this, mNextLettersFrequencies);
                 }
-                if (mContactsDictionary != null) {
-                    mContactsDictionary.getBigrams(wordComposer, prevWordForBigram, this,
-                            mNextLettersFrequencies);
+                if (awaitLookup(contactsLookup)) {
+                    mContactsLog.replay(this, mNextLettersFrequencies);
                 }
                 if (mMainDict != null) {
-                    mMainDict.getBigrams(wordComposer, prevWordForBigram, this,
-                            mNextLettersFrequencies);
+                    mMainLog.replay(this, mNextLettersFrequencies);
                 }
+                sBigramTime.recordSince(bigramStartTime);
                 char currentChar = wordComposer.getTypedWord().charAt(0);
                 char currentCharUpper = Character.toUpperCase(currentChar);
                 int count = 0;
-                int bigramSuggestionSize = mBigramSuggestions.size();
+                int bigramSuggestionSize = mBigramCandidates.size();
                 for (int i = 0; i < bigramSuggestionSize; i++) {
-                    if (mBigramSuggestions.get(i).charAt(0) == currentChar
-                            || mBigramSuggestions.get(i).charAt(0) == currentCharUpper) {
-                        int poolSize = mStringPool.size();
-                        StringBuilder sb = poolSize > 0 ?
-                                (StringBuilder) mStringPool.remove(poolSize - 1)
-                                : new StringBuilder(getApproxMaxWordLength());
-                        sb.setLength(0);
-                        sb.append(mBigramSuggestions.get(i));
-                        mSuggestions.add(count++, sb);
+                    char firstChar = mBigramCandidates.getFirstChar(i);
+                    if (firstChar == currentChar || firstChar == currentCharUpper) {
+                        mSuggestions.add(count++, getCandidateString(mBigramCandidates, i));
                         if (count > mPrefMaxSuggestions) break;
                     }
                 }
@@ -291,25 +377,41 @@ public class Suggest implements Dictionary.WordCallback {
 
         } else if (wordComposer.size() > 1) {
             // At second character typed, search the unigrams (scores being affected by bigrams)
+            Future<?> userLookup = lookupAsync(mUserDictionary, wordComposer, null, mUserLog,
+                    sUserDictTime);
+            Future<?> contactsLookup = lookupAsync(mContactsDictionary, wordComposer, null,
+                    mContactsLog, null);
+            final long mainStartTime = System.nanoTime();
+            mMainLog.clear();
+            mMainDict.getWords(wordComposer, mMainLog, mMainLog.getNextLettersFrequencies());
+            sMainDictTime.recordSince(mainStartTime);
+            final boolean haveUserWords = awaitLookup(userLookup);
+            final boolean haveContactsWords = awaitLookup(contactsLookup);
+
             if (mUserDictionary != null || mContactsDictionary != null) {
-                if (mUserDictionary != null) {
-                    mUserDictionary.getWords(wordComposer, this, mNextLettersFrequencies);
+                if (haveUserWords) {
+                    mUserLog.replay(this, mNextLettersFrequencies);
                 }
-                if (mContactsDictionary != null) {
-                    mContactsDictionary.getWords(wordComposer, this, mNextLettersFrequencies);
+                if (haveContactsWords) {
+                    mContactsLog.replay(this, mNextLettersFrequencies);
                 }
 
-                if (mSuggestions.size() > 0 && isValidWord(mOriginalWord)
+                if (mCandidates.size() > 0 && mTypedWordFrequencies != null
+                        && mTypedWordFrequencies.isValid()
                         && (mCorrectionMode == CORRECTION_FULL
                         || mCorrectionMode == CORRECTION_FULL_BIGRAM)) {
                     mHaveCorrection = true;
                 }
             }
-            mMainDict.getWords(wordComposer, this, mNextLettersFrequencies);
+            mMainLog.replay(this, mNextLettersFrequencies);
             if ((mCorrectionMode == CORRECTION_FULL || mCorrectionMode == CORRECTION_FULL_BIGRAM)
-                    && mSuggestions.size() > 0) {
+                    && mCandidates.size() > 0) {
                 mHaveCorrection = true;
             }
+            final int candidateCount = mCandidates.size();
+            for (int i = 0; i < candidateCount; i++) {
+                mSuggestions.add(getCandidateString(mCandidates, i));
+            }
         }
         if (mOriginalWord != null) {
             mSuggestions.add(0, mOriginalWord.toString());
@@ -349,9 +451,71 @@ public class Suggest implements Dictionary.WordCallback {
             }
         }
         removeDupes();
+        sSuggestionsTime.recordSince(startTime);
         return mSuggestions;
     }
 
+    /**
+     * Starts a getWords() lookup, or a getBigrams() lookup if prevWord is set, recording
+     * the results into log.
+     * @return the pending lookup, or null if there is no dictionary
+     */
+    private static Future<?> lookupAsync(final Dictionary dictionary, final WordComposer composer,
+            final CharSequence prevWord, final CandidateLog log, final LatencyHistogram timer) {
+        if (dictionary == null) return null;
+        log.clear();
+        return sLookupExecutor.submit(new Runnable() {
+            public void run() {
+                final long startTime = System.nanoTime();
+                if (prevWord != null) {
+                    dictionary.getBigrams(composer, prevWord, log,
+                            log.getNextLettersFrequencies());
+                } else {
+                    dictionary.getWords(composer, log, log.getNextLettersFrequencies());
+                }
+                if (timer != null) timer.recordSince(startTime);
+            }
+        });
+    }
+
+    /**
+     * Waits for a lookup started by lookupAsync().
+     * @return true if there was a lookup and its words can be replayed
+     */
+    private static boolean awaitLookup(Future<?> lookup) {
+        if (lookup == null) return false;
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    lookup.get();
+                    return true;
+                } catch (InterruptedException e) {
+                    // The lookup still uses its log, so it has to finish before we go on.
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Log.e(TAG, "Dictionary lookup failed", e.getCause());
+                    return false;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    static LatencyHistogram[] getTimings() {
+        return new LatencyHistogram[] {
+            sSuggestionsTime, sBigramTime, sUserDictTime, sMainDictTime, sValidWordTime,
+        };
+    }
+
+    static void dumpTimings(Printer p) {
+        p.println("Suggest timings:");
+        for (LatencyHistogram histogram : getTimings()) {
+            histogram.dump(p);
+        }
+    }
+
     public int[] getNextLettersFrequencies() {
         return mNextLettersFrequencies;
     }
@@ -383,6 +547,14 @@ public class Suggest implements Dictionary.WordCallback {
         }
     }
 
+    /**
+     * Returns the frequencies of the typed word of the last {@link #getSuggestions} call, or
+     * null if nothing was typed. Use this instead of another lookup of the same word.
+     */
+    public WordFrequencies getTypedWordFrequencies() {
+        return mTypedWordFrequencies;
+    }
+
     public boolean hasMinimalCorrection() {
         return mHaveCorrection;
     }
@@ -403,18 +575,11 @@ public class Suggest implements Dictionary.WordCallback {
 
     public boolean addWord(final char[] word, final int offset, final int length, int freq,
             final int dicTypeId, final Dictionary.DataType dataType) {
-        Dictionary.DataType dataTypeForLog = dataType;
-        ArrayList<CharSequence> suggestions;
-        int[] priorities;
-        int prefMaxSuggestions;
-        if(dataType == Dictionary.DataType.BIGRAM) {
-            suggestions = mBigramSuggestions;
-            priorities = mBigramPriorities;
-            prefMaxSuggestions = PREF_MAX_BIGRAMS;
+        final SuggestionBuffer candidates;
+        if (dataType == Dictionary.DataType.BIGRAM) {
+            candidates = mBigramCandidates;
         } else {
-            suggestions = mSuggestions;
-            priorities = mPriorities;
-            prefMaxSuggestions = mPrefMaxSuggestions;
+            candidates = mCandidates;
         }
 
         int pos = 0;
@@ -425,92 +590,115 @@ public class Suggest implements Dictionary.WordCallback {
         } else {
             if (dataType == Dictionary.DataType.UNIGRAM) {
                 // Check if the word was already added before (by bigram data)
-                int bigramSuggestion = searchBigramSuggestion(word,offset,length);
-                if(bigramSuggestion >= 0) {
-                    dataTypeForLog = Dictionary.DataType.BIGRAM;
+                int bigramFreq = mBigramCandidates.lookupScore(word, offset, length);
+                if (bigramFreq >= 0) {
                     // turn freq from bigram into multiplier specified above
-                    double multiplier = (((double) mBigramPriorities[bigramSuggestion])
-                            / MAXIMUM_BIGRAM_FREQUENCY)
+                    double multiplier = (((double) bigramFreq) / MAXIMUM_BIGRAM_FREQUENCY)
                             * (BIGRAM_MULTIPLIER_MAX - BIGRAM_MULTIPLIER_MIN)
                             + BIGRAM_MULTIPLIER_MIN;
-                    /* Log.d(TAG,"bigram num: " + bigramSuggestion
-                            + "  wordB: " + mBigramSuggestions.get(bigramSuggestion).toString()
-                            + "  currentPriority: " + freq + "  bigramPriority: "
-                            + mBigramPriorities[bigramSuggestion]
-                            + "  multiplier: " + multiplier); */
                     freq = (int)Math.round((freq * multiplier));
                 }
             }
 
-            // Check the last one's priority and bail
-            if (priorities[prefMaxSuggestions - 1] >= freq) return true;
-            while (pos < prefMaxSuggestions) {
-                if (priorities[pos] < freq
-                        || (priorities[pos] == freq && length < suggestions.get(pos).length())) {
-                    break;
-                }
-                pos++;
-            }
+            pos = candidates.findInsertionPoint(freq, length);
         }
-        if (pos >= prefMaxSuggestions) {
+        if (pos < 0) {
             return true;
         }
 
-        System.arraycopy(priorities, pos, priorities, pos + 1,
-                prefMaxSuggestions - pos - 1);
-        priorities[pos] = freq;
+        candidates.insert(pos, word, offset, length, freq);
+        return true;
+    }
+
+    /**
+     * Copies a collected candidate into a pooled StringBuilder, applying the capitalization
+     * of the typed word.
+     */
+    private CharSequence getCandidateString(SuggestionBuffer candidates, int rank) {
         int poolSize = mStringPool.size();
-        StringBuilder sb = poolSize > 0 ? (StringBuilder) mStringPool.remove(poolSize - 1) 
+        StringBuilder sb = poolSize > 0 ? (StringBuilder) mStringPool.remove(poolSize - 1)
                 : new StringBuilder(getApproxMaxWordLength());
         sb.setLength(0);
+        candidates.appendTo(rank, sb);
         if (mIsAllUpperCase) {
-            sb.append(new String(word, offset, length).toUpperCase());
-        } else if (mIsFirstCharCapitalized) {
-            sb.append(Character.toUpperCase(word[offset]));
-            if (length > 1) {
-                sb.append(word, offset + 1, length - 1);
-            }
-        } else {
-            sb.append(word, offset, length);
-        }
-        suggestions.add(pos, sb);
-        if (suggestions.size() > prefMaxSuggestions) {
-            CharSequence garbage = suggestions.remove(prefMaxSuggestions);
-            if (garbage instanceof StringBuilder) {
-                mStringPool.add(garbage);
-            }
+            String upper = sb.toString().toUpperCase();
+            sb.setLength(0);
+            sb.append(upper);
+        } else if (mIsFirstCharCapitalized && sb.length() > 0) {
+            sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
         }
-        return true;
-    }
-
-    private int searchBigramSuggestion(final char[] word, final int offset, final int length) {
-        // TODO This is almost O(n^2). Might need fix.
-        // search whether the word appeared in bigram data
-        int bigramSuggestSize = mBigramSuggestions.size();
-        for(int i = 0; i < bigramSuggestSize; i++) {
-            if(mBigramSuggestions.get(i).length() == length) {
-                boolean chk = true;
-                for(int j = 0; j < length; j++) {
-                    if(mBigramSuggestions.get(i).charAt(j) != word[offset+j]) {
-                        chk = false;
-                        break;
-                    }
-                }
-                if(chk) return i;
-            }
-        }
-
-        return -1;
+        return sb;
     }
 
     public boolean isValidWord(final CharSequence word) {
         if (word == null || word.length() == 0) {
             return false;
         }
-        return mMainDict.isValidWord(word)
+        final long startTime = System.nanoTime();
+        boolean valid = mMainDict.isValidWord(word)
                 || (mUserDictionary != null && mUserDictionary.isValidWord(word))
                 || (mAutoDictionary != null && mAutoDictionary.isValidWord(word))
                 || (mContactsDictionary != null && mContactsDictionary.isValidWord(word));
+        sValidWordTime.recordSince(startTime);
+        return valid;
+    }
+
+    /**
+     * Looks up a word and its lowercase form in all dictionaries.
+     */
+    public WordFrequencies lookupWord(final CharSequence word) {
+        final WordFrequencies[] results = { new WordFrequencies() };
+        lookupWords(new CharSequence[] { word }, 1, results);
+        return results[0];
+    }
+
+    /**
+     * Looks up words and their lowercase forms in all dictionaries. Each dictionary gets
+     * all of them in a single call, which for the main dictionary is a single native call.
+     * @param results receives the frequencies of words[i] in results[i]
+     */
+    public void lookupWords(final CharSequence[] words, int count,
+            final WordFrequencies[] results) {
+        final long startTime = System.nanoTime();
+        // Each word followed by its lowercase form if that is different.
+        final CharSequence[] forms = new CharSequence[count * 2];
+        final int[] exactIndex = new int[count];
+        final int[] lowercaseIndex = new int[count];
+        int formCount = 0;
+        for (int i = 0; i < count; i++) {
+            final CharSequence word = words[i];
+            if (word == null || word.length() == 0) {
+                exactIndex[i] = -1;
+                lowercaseIndex[i] = -1;
+                continue;
+            }
+            final String lowercase = word.toString().toLowerCase();
+            exactIndex[i] = formCount;
+            forms[formCount++] = word;
+            if (lowercase.contentEquals(word)) {
+                lowercaseIndex[i] = exactIndex[i];
+            } else {
+                lowercaseIndex[i] = formCount;
+                forms[formCount++] = lowercase;
+            }
+        }
+
+        final Dictionary[] dictionaries = {
+                mMainDict, mUserDictionary, mAutoDictionary, mContactsDictionary };
+        final int[] types = { DIC_MAIN, DIC_USER, DIC_AUTO, DIC_CONTACTS };
+        final int[] frequencies = new int[formCount];
+        for (int d = 0; d < dictionaries.length; d++) {
+            final Dictionary dictionary = dictionaries[d];
+            if (dictionary != null && formCount > 0) {
+                dictionary.getValidFrequencies(forms, formCount, frequencies);
+            }
+            for (int i = 0; i < count; i++) {
+                final boolean found = dictionary != null && exactIndex[i] >= 0;
+                results[i].exact[types[d]] = found ? frequencies[exactIndex[i]] : -1;
+                results[i].lowercase[types[d]] = found ? frequencies[lowercaseIndex[i]] : -1;
+            }
+        }
+        sValidWordTime.recordSince(startTime);
     }
     
     private void collectGarbage(ArrayList<CharSequence> suggestions, int prefMaxSuggestions) {
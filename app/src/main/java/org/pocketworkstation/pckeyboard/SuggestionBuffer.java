@@ -0,0 +1,166 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity list of candidate words ordered by score, backed by primitive arrays.
+ *
+ * <p>
+ * Words are copied into a shared char arena, one fixed-width slot per candidate. Ranking
+ * only moves slot indices around, and a small chained hash table over the word text makes
+ * lookups by word O(1). Nothing is allocated after construction, which matters because the
+ * dictionaries call {@link Suggest#addWord} thousands of times per keystroke.
+ */
+class SuggestionBuffer {
+    private final int mCapacity;
+    private final int mMaxWordLength;
+
+    private final char[] mChars;
+    private final int[] mLengths;
+    private final int[] mScores;
+    private final int[] mHashes;
+    // Slot index for each rank, best first.
+    private final int[] mOrder;
+    // Hash chains: bucket heads and per-slot next pointers, -1 terminated.
+    private final int[] mHeads;
+    private final int[] mNext;
+    private final int mHashMask;
+    private int mSize;
+
+    SuggestionBuffer(int capacity, int maxWordLength) {
+        mCapacity = capacity;
+        mMaxWordLength = maxWordLength;
+        mChars = new char[capacity * maxWordLength];
+        mLengths = new int[capacity];
+        mScores = new int[capacity];
+        mHashes = new int[capacity];
+        mOrder = new int[capacity];
+        mNext = new int[capacity];
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        mHeads = new int[tableSize];
+        mHashMask = tableSize - 1;
+        clear();
+    }
+
+    void clear() {
+        mSize = 0;
+        Arrays.fill(mHeads, -1);
+    }
+
+    int size() {
+        return mSize;
+    }
+
+    int getCapacity() {
+        return mCapacity;
+    }
+
+    int getScore(int rank) {
+        return mScores[mOrder[rank]];
+    }
+
+    int getLength(int rank) {
+        return mLengths[mOrder[rank]];
+    }
+
+    char getFirstChar(int rank) {
+        return mChars[mOrder[rank] * mMaxWordLength];
+    }
+
+    void appendTo(int rank, StringBuilder sb) {
+        final int slot = mOrder[rank];
+        sb.append(mChars, slot * mMaxWordLength, mLengths[slot]);
+    }
+
+    /**
+     * Finds the rank at which a word with the given score and length would be inserted.
+     * Higher scores come first, and shorter words win ties.
+     * @return the rank, or -1 if the word doesn't make it into the list
+     */
+    int findInsertionPoint(int score, int length) {
+        if (length > mMaxWordLength) return -1;
+        // Not-yet-used ranks count as score 0, so non-positive scores are never kept.
+        final int lastScore = mSize == mCapacity ? mScores[mOrder[mCapacity - 1]] : 0;
+        if (lastScore >= score) return -1;
+        int rank = 0;
+        while (rank < mSize) {
+            final int slot = mOrder[rank];
+            if (mScores[slot] < score || (mScores[slot] == score && length < mLengths[slot])) {
+                break;
+            }
+            rank++;
+        }
+        return rank < mCapacity ? rank : -1;
+    }
+
+    /**
+     * Inserts a word at the given rank, dropping the last word if the list is full.
+     */
+    void insert(int rank, char[] word, int offset, int length, int score) {
+        if (length > mMaxWordLength) return;
+        final int slot;
+        if (mSize == mCapacity) {
+            slot = mOrder[mCapacity - 1];
+            unlink(slot);
+        } else {
+            slot = mSize++;
+        }
+        System.arraycopy(mOrder, rank, mOrder, rank + 1, mSize - rank - 1);
+        mOrder[rank] = slot;
+
+        System.arraycopy(word, offset, mChars, slot * mMaxWordLength, length);
+        mLengths[slot] = length;
+        mScores[slot] = score;
+        final int hash = hash(word, offset, length);
+        mHashes[slot] = hash;
+        final int bucket = hash & mHashMask;
+        mNext[slot] = mHeads[bucket];
+        mHeads[bucket] = slot;
+    }
+
+    /**
+     * Returns the score of the given word, or -1 if it isn't in the list.
+     */
+    int lookupScore(char[] word, int offset, int length) {
+        final int hash = hash(word, offset, length);
+        for (int slot = mHeads[hash & mHashMask]; slot >= 0; slot = mNext[slot]) {
+            if (mHashes[slot] == hash && sameWord(slot, word, offset, length)) {
+                return mScores[slot];
+            }
+        }
+        return -1;
+    }
+
+    private boolean sameWord(int slot, char[] word, int offset, int length) {
+        if (mLengths[slot] != length) return false;
+        final int start = slot * mMaxWordLength;
+        for (int i = 0; i < length; i++) {
+            if (mChars[start + i] != word[offset + i]) return false;
+        }
+        return true;
+    }
+
+    private void unlink(int slot) {
+        final int bucket = mHashes[slot] & mHashMask;
+        int prev = -1;
+        for (int cur = mHeads[bucket]; cur >= 0; cur = mNext[cur]) {
+            if (cur == slot) {
+                if (prev < 0) {
+                    mHeads[bucket] = mNext[cur];
+                } else {
+                    mNext[prev] = mNext[cur];
+                }
+                return;
+            }
+            prev = cur;
+        }
+    }
+
+    private static int hash(char[] word, int offset, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + word[offset + i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
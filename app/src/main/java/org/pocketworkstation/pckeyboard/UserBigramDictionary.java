@@ -18,14 +18,14 @@ package org.pocketworkstation.pckeyboard;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 
-import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.database.sqlite.SQLiteQueryBuilder;
+import android.database.sqlite.SQLiteStatement;
 import android.os.AsyncTask;
 import android.provider.BaseColumns;
 import android.util.Log;
@@ -63,10 +63,15 @@ public class UserBigramDictionary extends ExpandableDictionary {
     /**
      * Database version should increase if the database structure changes
      */
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 2;
 
     private static final String DATABASE_NAME = "userbigram_dict.db";
 
+    // Pairs are kept in this LearnedWordStore. The database is only read to migrate older
+    // data, and written to if the store can't be created.
+    private static final String STORE_NAME = "bigram";
+    private final LearnedWordStore mStore;
+
     /** Name of the words table in the database */
     private static final String MAIN_TABLE_NAME = "main";
     // TODO: Consume less space by using a unique id for locale instead of the whole
@@ -89,7 +94,9 @@ public class UserBigramDictionary extends ExpandableDictionary {
 
     private HashSet<Bigram> mPendingWrites = new HashSet<Bigram>();
     private final Object mPendingWritesLock = new Object();
-    private static volatile boolean sUpdatingDB = false;
+    // Number of UpdateDbTasks that haven't finished yet, guarded by sUpdateLock.
+    private static int sPendingUpdates;
+    private static final Object sUpdateLock = new Object();
 
     private final static HashMap<String, String> sDictProjectionMap;
 
@@ -132,21 +139,32 @@ public class UserBigramDictionary extends ExpandableDictionary {
 
     public void setDatabaseMax(int maxUserBigram) {
         sMaxUserBigrams = maxUserBigram;
+        if (mStore != null) mStore.setBigramLimits(sMaxUserBigrams, sDeleteUserBigrams);
     }
 
     public void setDatabaseDelete(int deleteUserBigram) {
         sDeleteUserBigrams = deleteUserBigram;
+        if (mStore != null) mStore.setBigramLimits(sMaxUserBigrams, sDeleteUserBigrams);
     }
 
     public UserBigramDictionary(Context context, LatinIME ime, String locale, int dicTypeId) {
         super(context, dicTypeId);
         mIme = ime;
         mLocale = locale;
-        if (sOpenHelper == null) {
-            sOpenHelper = new DatabaseHelper(getContext());
+        // The dictionaries of the next locale are created in the background.
+        synchronized (UserBigramDictionary.class) {
+            if (sOpenHelper == null) {
+                sOpenHelper = new DatabaseHelper(getContext());
+            }
         }
         if (mLocale != null && mLocale.length() > 1) {
-            loadDictionary();
+            mStore = LearnedWordStore.get(getContext(), STORE_NAME, mLocale);
+            if (mStore != null) mStore.setBigramLimits(sMaxUserBigrams, sDeleteUserBigrams);
+            if (mStore == null || !mStore.load(this)) {
+                loadDictionary();
+            }
+        } else {
+            mStore = null;
         }
     }
 
@@ -192,7 +210,18 @@ public class UserBigramDictionary extends ExpandableDictionary {
             // Nothing pending? Return
             if (mPendingWrites.isEmpty()) return;
             // Create a background thread to write the pending entries
-            new UpdateDbTask(getContext(), sOpenHelper, mPendingWrites, mLocale).execute();
+            if (mStore != null) {
+                LearnedWordStore.Batch batch = new LearnedWordStore.Batch();
+                for (Bigram bi : mPendingWrites) {
+                    batch.putBigram(bi.word1, bi.word2, bi.frequency);
+                }
+                mStore.commitAsync(batch);
+            } else {
+                synchronized (sUpdateLock) {
+                    sPendingUpdates++;
+                }
+                new UpdateDbTask(getContext(), sOpenHelper, mPendingWrites, mLocale).execute();
+            }
             // Create a new map for writing new entries into while the old one is written to db
             mPendingWrites = new HashSet<Bigram>();
         }
@@ -200,20 +229,20 @@ public class UserBigramDictionary extends ExpandableDictionary {
 
     /** Used for testing purpose **/
     void waitUntilUpdateDBDone() {
-        synchronized (mPendingWritesLock) {
-            while (sUpdatingDB) {
+        synchronized (sUpdateLock) {
+            while (sPendingUpdates > 0) {
                 try {
-                    Thread.sleep(100);
+                    sUpdateLock.wait();
                 } catch (InterruptedException e) {
                 }
             }
-            return;
         }
     }
 
     @Override
     public void loadDictionaryAsync() {
         // Load the words that correspond to the current input locale
+        LearnedWordStore.Batch migration = new LearnedWordStore.Batch();
         Cursor cursor = query(MAIN_COLUMN_LOCALE + "=?", new String[] { mLocale });
         try {
             if (cursor.moveToFirst()) {
@@ -228,6 +257,7 @@ public class UserBigramDictionary extends ExpandableDictionary {
                     // to recursive lookup
                     if (word1.length() < MAX_WORD_LENGTH && word2.length() < MAX_WORD_LENGTH) {
                         super.setBigram(word1, word2, frequency);
+                        migration.putBigram(word1, word2, frequency);
                     }
                     cursor.moveToNext();
                 }
@@ -235,6 +265,8 @@ public class UserBigramDictionary extends ExpandableDictionary {
         } finally {
             cursor.close();
         }
+        // Only called for the store if it has no data yet.
+        if (mStore != null) mStore.migrate(migration);
     }
 
     /**
@@ -283,10 +315,45 @@ public class UserBigramDictionary extends ExpandableDictionary {
                     + "FOREIGN KEY(" + FREQ_COLUMN_PAIR_ID + ") REFERENCES " + MAIN_TABLE_NAME
                     + "(" + MAIN_COLUMN_ID + ")" + " ON DELETE CASCADE"
                     + ");");
+            createIndexes(db);
+        }
+
+        /**
+         * Makes a pair unique per locale and gives it only one frequency, which the
+         * INSERT OR IGNORE and INSERT OR REPLACE statements of UpdateDbTask rely on.
+         */
+        private void createIndexes(SQLiteDatabase db) {
+            db.execSQL("CREATE UNIQUE INDEX " + MAIN_TABLE_NAME + "_pair ON " + MAIN_TABLE_NAME
+                    + " (" + MAIN_COLUMN_WORD1 + "," + MAIN_COLUMN_WORD2 + ","
+                    + MAIN_COLUMN_LOCALE + ");");
+            db.execSQL("CREATE UNIQUE INDEX " + FREQ_TABLE_NAME + "_pair ON " + FREQ_TABLE_NAME
+                    + " (" + FREQ_COLUMN_PAIR_ID + ");");
+        }
+
+        @Override
+        public void onOpen(SQLiteDatabase db) {
+            // Lets the dictionaries load while a flush is being written, and commits a
+            // flush without rewriting the journal.
+            if (!db.isReadOnly()) db.enableWriteAheadLogging();
         }
 
         @Override
         public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            if (oldVersion == 1) {
+                // Version 1 had the same tables without the unique indexes. Drop any
+                // duplicates, keeping the first pair and its latest frequency.
+                db.execSQL("DELETE FROM " + MAIN_TABLE_NAME + " WHERE " + MAIN_COLUMN_ID
+                        + " NOT IN (SELECT MIN(" + MAIN_COLUMN_ID + ") FROM " + MAIN_TABLE_NAME
+                        + " GROUP BY " + MAIN_COLUMN_WORD1 + "," + MAIN_COLUMN_WORD2 + ","
+                        + MAIN_COLUMN_LOCALE + ");");
+                db.execSQL("DELETE FROM " + FREQ_TABLE_NAME + " WHERE " + FREQ_COLUMN_PAIR_ID
+                        + " NOT IN (SELECT " + MAIN_COLUMN_ID + " FROM " + MAIN_TABLE_NAME
+                        + ") OR " + FREQ_COLUMN_ID + " NOT IN (SELECT MAX(" + FREQ_COLUMN_ID
+                        + ") FROM " + FREQ_TABLE_NAME + " GROUP BY " + FREQ_COLUMN_PAIR_ID
+                        + ");");
+                createIndexes(db);
+                return;
+            }
             Log.w(TAG, "Upgrading database from version " + oldVersion + " to "
                     + newVersion + ", which will destroy all old data");
             db.execSQL("DROP TABLE IF EXISTS " + MAIN_TABLE_NAME);
@@ -311,91 +378,82 @@ public class UserBigramDictionary extends ExpandableDictionary {
             mDbHelper = openHelper;
         }
 
-        /** Prune any old data if the database is getting too big. */
+        /**
+         * Prune any old data if the database is getting too big. The pairs whose frequency
+         * was written longest ago go first.
+         */
         private void checkPruneData(SQLiteDatabase db) {
-            db.execSQL("PRAGMA foreign_keys = ON;");
-            Cursor c = db.query(FREQ_TABLE_NAME, new String[] { FREQ_COLUMN_PAIR_ID },
-                    null, null, null, null, null);
-            try {
-                int totalRowCount = c.getCount();
-                // prune out old data if we have too much data
-                if (totalRowCount > sMaxUserBigrams) {
-                    int numDeleteRows = (totalRowCount - sMaxUserBigrams) + sDeleteUserBigrams;
-                    int pairIdColumnId = c.getColumnIndex(FREQ_COLUMN_PAIR_ID);
-                    c.moveToFirst();
-                    int count = 0;
-                    while (count < numDeleteRows && !c.isAfterLast()) {
-                        String pairId = c.getString(pairIdColumnId);
-                        // Deleting from MAIN table will delete the frequencies
-                        // due to FOREIGN KEY .. ON DELETE CASCADE
-                        db.delete(MAIN_TABLE_NAME, MAIN_COLUMN_ID + "=?",
-                            new String[] { pairId });
-                        c.moveToNext();
-                        count++;
-                    }
-                }
-            } finally {
-                c.close();
-            }
-        }
-
-        @Override
-        protected void onPreExecute() {
-            sUpdatingDB = true;
+            long totalRowCount = DatabaseUtils.queryNumEntries(db, FREQ_TABLE_NAME);
+            // prune out old data if we have too much data
+            if (totalRowCount <= sMaxUserBigrams) return;
+            long numDeleteRows = (totalRowCount - sMaxUserBigrams) + sDeleteUserBigrams;
+            // The frequency row of a pair is replaced whenever it is written, so it gets a
+            // new id each time.
+            long lastId = DatabaseUtils.longForQuery(db, "SELECT " + FREQ_COLUMN_ID + " FROM "
+                    + FREQ_TABLE_NAME + " ORDER BY " + FREQ_COLUMN_ID + " LIMIT 1 OFFSET "
+                    + (Math.min(numDeleteRows, totalRowCount) - 1), null);
+            String[] args = new String[] { Long.toString(lastId) };
+            // Both tables explicitly, ON DELETE CASCADE only works on connections with
+            // foreign keys enabled.
+            db.execSQL("DELETE FROM " + MAIN_TABLE_NAME + " WHERE " + MAIN_COLUMN_ID
+                    + " IN (SELECT " + FREQ_COLUMN_PAIR_ID + " FROM " + FREQ_TABLE_NAME
+                    + " WHERE " + FREQ_COLUMN_ID + "<=?)", args);
+            db.execSQL("DELETE FROM " + FREQ_TABLE_NAME + " WHERE " + FREQ_COLUMN_ID + "<=?",
+                    args);
         }
 
         @Override
         protected Void doInBackground(Void... v) {
-            SQLiteDatabase db = mDbHelper.getWritableDatabase();
-            db.execSQL("PRAGMA foreign_keys = ON;");
-            // Write all the entries to the db
-            Iterator<Bigram> iterator = mMap.iterator();
-            while (iterator.hasNext()) {
-                Bigram bi = iterator.next();
-
-                // find pair id
-                Cursor c = db.query(MAIN_TABLE_NAME, new String[] { MAIN_COLUMN_ID },
-                        MAIN_COLUMN_WORD1 + "=? AND " + MAIN_COLUMN_WORD2 + "=? AND "
-                        + MAIN_COLUMN_LOCALE + "=?",
-                        new String[] { bi.word1, bi.word2, mLocale }, null, null, null);
-
-                int pairId;
-                if (c.moveToFirst()) {
-                    // existing pair
-                    pairId = c.getInt(c.getColumnIndex(MAIN_COLUMN_ID));
-                    db.delete(FREQ_TABLE_NAME, FREQ_COLUMN_PAIR_ID + "=?",
-                            new String[] { Integer.toString(pairId) });
-                } else {
-                    // new pair
-                    Long pairIdLong = db.insert(MAIN_TABLE_NAME, null,
-                            getContentValues(bi.word1, bi.word2, mLocale));
-                    pairId = pairIdLong.intValue();
+            SQLiteStatement insertPair = null;
+            SQLiteStatement findPair = null;
+            SQLiteStatement setFrequency = null;
+            try {
+                SQLiteDatabase db = mDbHelper.getWritableDatabase();
+                // Write all the entries to the db in one transaction, so that the whole
+                // flush is committed at once.
+                db.beginTransaction();
+                try {
+                    insertPair = db.compileStatement("INSERT OR IGNORE INTO " + MAIN_TABLE_NAME
+                            + " (" + MAIN_COLUMN_WORD1 + "," + MAIN_COLUMN_WORD2 + ","
+                            + MAIN_COLUMN_LOCALE + ") VALUES (?,?,?)");
+                    findPair = db.compileStatement("SELECT " + MAIN_COLUMN_ID + " FROM "
+                            + MAIN_TABLE_NAME + " WHERE " + MAIN_COLUMN_WORD1 + "=? AND "
+                            + MAIN_COLUMN_WORD2 + "=? AND " + MAIN_COLUMN_LOCALE + "=?");
+                    setFrequency = db.compileStatement("INSERT OR REPLACE INTO "
+                            + FREQ_TABLE_NAME + " (" + FREQ_COLUMN_PAIR_ID + ","
+                            + FREQ_COLUMN_FREQUENCY + ") VALUES (?,?)");
+                    for (Bigram bi : mMap) {
+                        insertPair.bindString(1, bi.word1);
+                        insertPair.bindString(2, bi.word2);
+                        insertPair.bindString(3, mLocale);
+                        long pairId = insertPair.executeInsert();
+                        if (pairId < 0) {
+                            // existing pair
+                            findPair.bindString(1, bi.word1);
+                            findPair.bindString(2, bi.word2);
+                            findPair.bindString(3, mLocale);
+                            pairId = findPair.simpleQueryForLong();
+                        }
+                        setFrequency.bindLong(1, pairId);
+                        setFrequency.bindLong(2, bi.frequency);
+                        setFrequency.executeInsert();
+                    }
+                    checkPruneData(db);
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+            } finally {
+                if (insertPair != null) insertPair.close();
+                if (findPair != null) findPair.close();
+                if (setFrequency != null) setFrequency.close();
+                synchronized (sUpdateLock) {
+                    sPendingUpdates--;
+                    sUpdateLock.notifyAll();
                 }
-                c.close();
-
-                // insert new frequency
-                db.insert(FREQ_TABLE_NAME, null, getFrequencyContentValues(pairId, bi.frequency));
             }
-            checkPruneData(db);
-            sUpdatingDB = false;
-
             return null;
         }
-
-        private ContentValues getContentValues(String word1, String word2, String locale) {
-            ContentValues values = new ContentValues(3);
-            values.put(MAIN_COLUMN_WORD1, word1);
-            values.put(MAIN_COLUMN_WORD2, word2);
-            values.put(MAIN_COLUMN_LOCALE, locale);
-            return values;
-        }
-
-        private ContentValues getFrequencyContentValues(int pairId, int frequency) {
-           ContentValues values = new ContentValues(2);
-           values.put(FREQ_COLUMN_PAIR_ID, pairId);
-           values.put(FREQ_COLUMN_FREQUENCY, frequency);
-           return values;
-        }
     }
 
 }
@@ -84,8 +84,9 @@ public class UserDictionary extends ExpandableDictionary {
      */
     @Override
     public synchronized void addWord(String word, int frequency) {
-        // Force load the dictionary here synchronously
-        if (getRequiresReload()) loadDictionaryAsync();
+        // Start a pending reload in the background. The word then goes to the words being
+        // loaded, and lookups keep the current ones until they are complete.
+        reloadDictionaryIfRequired();
         // Safeguard against adding long words. Can cause stack overflow.
         if (word.length() >= getMaxWordLength()) return;
 
@@ -125,7 +126,8 @@ public class UserDictionary extends ExpandableDictionary {
             Log.w(TAG, "Unexpected null cursor in addWords()");
             return;
         }
-        clearDictionary();
+        // Called while loading, the words are added to an empty trie. Words that addWord()
+        // added meanwhile are kept, they are in the provider too.
 
         final int maxWordLength = getMaxWordLength();
         if (cursor.moveToFirst()) {
@@ -0,0 +1,126 @@
+package org.pocketworkstation.pckeyboard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+public class SuggestionBufferTest {
+    private static final int CAPACITY = 18;
+    private static final int MAX_WORD_LENGTH = 48;
+
+    private static final String[] WORDS = {
+        "the", "then", "there", "these", "they", "this", "those", "though", "through",
+        "thus", "tie", "time", "tiny", "to", "today", "together", "told", "tomorrow",
+        "too", "took", "top", "total", "touch", "toward", "town", "track", "trade",
+        "train", "tree", "trial", "trip", "true", "truth", "try", "turn", "twice", "two",
+    };
+
+    private static boolean add(SuggestionBuffer buffer, String word, int score) {
+        char[] chars = word.toCharArray();
+        int rank = buffer.findInsertionPoint(score, chars.length);
+        if (rank < 0) return false;
+        buffer.insert(rank, chars, 0, chars.length, score);
+        return true;
+    }
+
+    private static String getWord(SuggestionBuffer buffer, int rank) {
+        StringBuilder sb = new StringBuilder();
+        buffer.appendTo(rank, sb);
+        return sb.toString();
+    }
+
+    private static int lookup(SuggestionBuffer buffer, String word) {
+        char[] chars = word.toCharArray();
+        return buffer.lookupScore(chars, 0, chars.length);
+    }
+
+    @Test
+    public void testOrdersByScoreThenLength() {
+        SuggestionBuffer buffer = new SuggestionBuffer(4, MAX_WORD_LENGTH);
+        add(buffer, "there", 10);
+        add(buffer, "the", 20);
+        add(buffer, "then", 10);
+        add(buffer, "this", 15);
+        assertEquals(4, buffer.size());
+        assertEquals("the", getWord(buffer, 0));
+        assertEquals("this", getWord(buffer, 1));
+        assertEquals("then", getWord(buffer, 2));
+        assertEquals("there", getWord(buffer, 3));
+        assertEquals(10, buffer.getScore(3));
+    }
+
+    @Test
+    public void testDropsLowestWhenFull() {
+        SuggestionBuffer buffer = new SuggestionBuffer(2, MAX_WORD_LENGTH);
+        add(buffer, "the", 20);
+        add(buffer, "then", 10);
+        assertEquals(false, add(buffer, "there", 5));
+        assertEquals(true, add(buffer, "this", 15));
+        assertEquals(2, buffer.size());
+        assertEquals("this", getWord(buffer, 1));
+        assertEquals(-1, lookup(buffer, "then"));
+        assertEquals(15, lookup(buffer, "this"));
+        assertEquals(20, lookup(buffer, "the"));
+    }
+
+    @Test
+    public void testRejectsNonPositiveScoresAndLongWords() {
+        SuggestionBuffer buffer = new SuggestionBuffer(CAPACITY, 4);
+        assertEquals(-1, buffer.findInsertionPoint(0, 3));
+        assertEquals(-1, buffer.findInsertionPoint(10, 5));
+        assertEquals(0, buffer.findInsertionPoint(10, 4));
+    }
+
+    @Test
+    public void testClear() {
+        SuggestionBuffer buffer = new SuggestionBuffer(CAPACITY, MAX_WORD_LENGTH);
+        add(buffer, "the", 20);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(-1, lookup(buffer, "the"));
+    }
+
+    private static long sSink;
+
+    private static void fill(SuggestionBuffer buffer, char[][] words, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            buffer.clear();
+            for (int i = 0; i < words.length; i++) {
+                char[] word = words[i];
+                int score = (i * 7919 + round) % 1000 + 1;
+                int rank = buffer.findInsertionPoint(score, word.length);
+                if (rank >= 0) buffer.insert(rank, word, 0, word.length, score);
+                sSink += buffer.lookupScore(word, 0, word.length);
+            }
+        }
+    }
+
+    @Test
+    public void testNoAllocation() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        char[][] words = new char[WORDS.length][];
+        for (int i = 0; i < WORDS.length; i++) {
+            words[i] = WORDS[i].toCharArray();
+        }
+        SuggestionBuffer buffer = new SuggestionBuffer(CAPACITY, MAX_WORD_LENGTH);
+        // Warm up, so that the JIT compiles the methods before measuring.
+        fill(buffer, words, 20000);
+
+        long threadId = Thread.currentThread().getId();
+        // Measures what the measurement itself allocates, if anything.
+        long start = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+        start = threads.getThreadAllocatedBytes(threadId);
+        fill(buffer, words, 10000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - start - overhead;
+        assertEquals(0, allocated);
+    }
+}
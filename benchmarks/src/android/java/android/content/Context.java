@@ -0,0 +1,11 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * Host stand-in for the Android class. The benchmarks pass no context, dictionaries are
+ * loaded from files and buffers.
+ */
+public abstract class Context {
+    public abstract Resources getResources();
+}
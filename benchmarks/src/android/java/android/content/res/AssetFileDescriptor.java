@@ -0,0 +1,24 @@
+package android.content.res;
+
+import java.io.FileDescriptor;
+import java.io.IOException;
+
+/**
+ * Host stand-in for the Android class, see {@link Resources}.
+ */
+public class AssetFileDescriptor {
+    public FileDescriptor getFileDescriptor() {
+        throw new UnsupportedOperationException("No resources on the host");
+    }
+
+    public long getStartOffset() {
+        throw new UnsupportedOperationException("No resources on the host");
+    }
+
+    public long getLength() {
+        throw new UnsupportedOperationException("No resources on the host");
+    }
+
+    public void close() throws IOException {
+    }
+}
@@ -0,0 +1,19 @@
+package android.content.res;
+
+import java.io.InputStream;
+
+/**
+ * Host stand-in for the Android class. There are no resources on the host.
+ */
+public class Resources {
+    public static class NotFoundException extends RuntimeException {
+    }
+
+    public InputStream openRawResource(int id) {
+        throw new UnsupportedOperationException("No resources on the host");
+    }
+
+    public AssetFileDescriptor openRawResourceFd(int id) {
+        throw new UnsupportedOperationException("No resources on the host");
+    }
+}
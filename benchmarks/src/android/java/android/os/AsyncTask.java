@@ -0,0 +1,17 @@
+package android.os;
+
+/**
+ * Host stand-in for the Android class. Runs the task on the calling thread, so that
+ * dictionaries are loaded once execute() returns.
+ */
+public abstract class AsyncTask<Params, Progress, Result> {
+    protected abstract Result doInBackground(Params... params);
+
+    protected void onPostExecute(Result result) {
+    }
+
+    public final AsyncTask<Params, Progress, Result> execute(Params... params) {
+        onPostExecute(doInBackground(params));
+        return this;
+    }
+}
@@ -0,0 +1,11 @@
+package android.os;
+
+/**
+ * Host stand-in for the Android class. Thread priorities are left alone.
+ */
+public class Process {
+    public static final int THREAD_PRIORITY_DISPLAY = -4;
+
+    public static void setThreadPriority(int priority) {
+    }
+}
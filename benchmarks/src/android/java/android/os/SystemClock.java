@@ -0,0 +1,13 @@
+package android.os;
+
+/**
+ * Host stand-in for the Android class.
+ */
+public final class SystemClock {
+    private SystemClock() {
+    }
+
+    public static long uptimeMillis() {
+        return System.nanoTime() / 1000000;
+    }
+}
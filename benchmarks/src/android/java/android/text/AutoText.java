@@ -0,0 +1,12 @@
+package android.text;
+
+import android.view.View;
+
+/**
+ * Host stand-in for the Android class. There are no AutoText corrections on the host.
+ */
+public class AutoText {
+    public static String get(CharSequence src, int start, int end, View view) {
+        return null;
+    }
+}
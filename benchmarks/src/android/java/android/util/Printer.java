@@ -0,0 +1,8 @@
+package android.util;
+
+/**
+ * Host stand-in for the Android interface.
+ */
+public interface Printer {
+    void println(String x);
+}
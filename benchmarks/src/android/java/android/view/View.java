@@ -0,0 +1,7 @@
+package android.view;
+
+/**
+ * Host stand-in for the Android class, only passed through to AutoText.
+ */
+public class View {
+}
@@ -0,0 +1,13 @@
+package org.pocketworkstation.pckeyboard;
+
+import android.content.Context;
+
+/**
+ * Host stand-in for the app class, which needs the package manager. There are no
+ * dictionary plugins on the host.
+ */
+class PluginManager {
+    static BinaryDictionary getDictionary(Context context, String lang) {
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package org.pocketworkstation.pckeyboard;
+
+/**
+ * Host stand-in for the app class, which needs a database. Only the constant that
+ * ExpandableDictionary uses is provided.
+ */
+class UserBigramDictionary {
+    // Same as in the app.
+    protected static final int SUGGEST_THRESHOLD = 6 * 2;
+}
@@ -0,0 +1,188 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The inputs of the benchmarks: the dictionary that makedict compiles from
+ * src/main/dictionary, and the words of the sentences in typed.txt, typed key by key on a
+ * QWERTY layout.
+ */
+final class BenchmarkData {
+    // Set by the jmh and test tasks to the compiled dictionary and its word list.
+    static final String DICTIONARY_PROPERTY = "pckeyboard.dictionary";
+    static final String WORD_LIST_PROPERTY = "pckeyboard.wordlist";
+
+    private static final Pattern WORD_LIST_ENTRY =
+            Pattern.compile("<w f=\"(\\d+)\">([^<]+)</w>");
+
+    private static final String[] ROWS = { "qwertyuiop", "asdfghjkl", "zxcvbnm" };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Reads the dictionary into a direct buffer, which BinaryDictionary uses as it is.
+     */
+    static ByteBuffer readDictionary() throws IOException {
+        final RandomAccessFile file = new RandomAccessFile(getProperty(DICTIONARY_PROPERTY), "r");
+        try {
+            final FileChannel channel = file.getChannel();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            }
+            buffer.rewind();
+            return buffer;
+        } finally {
+            file.close();
+        }
+    }
+
+    private static String getProperty(String name) {
+        final String value = System.getProperty(name);
+        if (value == null) throw new IllegalStateException(name + " is not set");
+        return value;
+    }
+
+    /**
+     * Adds the words of the dictionary's word list to a dictionary, with their frequencies.
+     */
+    static void addDictionaryWords(ExpandableDictionary dictionary) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(getProperty(WORD_LIST_PROPERTY)), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Matcher matcher = WORD_LIST_ENTRY.matcher(line);
+                if (matcher.find()) {
+                    dictionary.addWord(matcher.group(2), Integer.parseInt(matcher.group(1)));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Returns the typed sentences, as arrays of words.
+     */
+    static List<String[]> readSentences() throws IOException {
+        final InputStream in = BenchmarkData.class.getResourceAsStream("typed.txt");
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        final List<String[]> sentences = new ArrayList<String[]>();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.length() > 0) sentences.add(line.split(" +"));
+            }
+        } finally {
+            reader.close();
+        }
+        return sentences;
+    }
+
+    /**
+     * Returns the typed words of a length class, in typing order: "short" for up to 4
+     * letters, "medium" for 5 to 8, "long" for more, or "all".
+     */
+    static List<String> getWords(String length) throws IOException {
+        final int min;
+        final int max;
+        if ("short".equals(length)) {
+            min = 1;
+            max = 4;
+        } else if ("medium".equals(length)) {
+            min = 5;
+            max = 8;
+        } else if ("long".equals(length)) {
+            min = 9;
+            max = Integer.MAX_VALUE;
+        } else if ("all".equals(length)) {
+            min = 1;
+            max = Integer.MAX_VALUE;
+        } else {
+            throw new IllegalArgumentException("Unknown length " + length);
+        }
+        final List<String> words = new ArrayList<String>();
+        for (String[] sentence : readSentences()) {
+            for (String word : sentence) {
+                if (word.length() >= min && word.length() <= max) words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns a composer for every keystroke of the words, in typing order, so that a
+     * composer holds the first n letters of its word.
+     */
+    static WordComposer[] getKeystrokes(List<String> words) {
+        final List<WordComposer> keystrokes = new ArrayList<WordComposer>();
+        for (String word : words) {
+            WordComposer composer = new WordComposer();
+            for (int i = 0; i < word.length(); i++) {
+                composer = new WordComposer(composer);
+                composer.add(word.charAt(i), getKeyCodes(word.charAt(i)));
+                keystrokes.add(composer);
+            }
+        }
+        return keystrokes.toArray(new WordComposer[keystrokes.size()]);
+    }
+
+    /**
+     * Returns a composer for the first letter of a word.
+     */
+    static WordComposer getFirstKeystroke(String word) {
+        final WordComposer composer = new WordComposer();
+        composer.add(word.charAt(0), getKeyCodes(word.charAt(0)));
+        return composer;
+    }
+
+    /**
+     * Returns the codes of a key press: the key itself followed by its neighbors on the
+     * same row and the rows above and below, like a touch close to the key center.
+     */
+    static int[] getKeyCodes(char c) {
+        final char key = Character.toLowerCase(c);
+        final int[] codes = new int[5];
+        int count = 0;
+        codes[count++] = c;
+        for (int row = 0; row < ROWS.length; row++) {
+            final int col = ROWS[row].indexOf(key);
+            if (col < 0) continue;
+            if (col > 0) codes[count++] = ROWS[row].charAt(col - 1);
+            if (col + 1 < ROWS[row].length()) codes[count++] = ROWS[row].charAt(col + 1);
+            if (row > 0) codes[count++] = ROWS[row - 1].charAt(col);
+            if (row + 1 < ROWS.length && col < ROWS[row + 1].length()) {
+                codes[count++] = ROWS[row + 1].charAt(col);
+            }
+        }
+        final int[] result = new int[count];
+        System.arraycopy(codes, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Counts the words a dictionary reports, so that the search can't be optimized away.
+     */
+    static class CountingCallback implements Dictionary.WordCallback {
+        int mCount;
+
+        public boolean addWord(char[] word, int wordOffset, int wordLength, int frequency,
+                int dicTypeId, Dictionary.DataType dataType) {
+            mCount++;
+            return true;
+        }
+    }
+}
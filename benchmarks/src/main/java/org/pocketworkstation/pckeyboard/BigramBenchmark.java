@@ -0,0 +1,84 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bigram lookup at the first keystroke of a word, for each pair of consecutive typed words.
+ * The main dictionary has the bigrams that makedict compiled in, the user bigram
+ * dictionary learns the typed pairs themselves.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BigramBenchmark {
+    private BinaryDictionary mMainDictionary;
+    private ExpandableDictionary mUserBigrams;
+    private String[] mPreviousWords;
+    private WordComposer[] mKeystrokes;
+    private int mNext;
+    private final int[] mNextLetters = new int[1280];
+    private final BenchmarkData.CountingCallback mCallback = new BenchmarkData.CountingCallback();
+
+    @Setup
+    public void setUp() throws IOException {
+        mMainDictionary = new BinaryDictionary(null, BenchmarkData.readDictionary(),
+                Suggest.DIC_MAIN);
+        mUserBigrams = new ExpandableDictionary(null, Suggest.DIC_USER);
+        final List<String> previousWords = new ArrayList<String>();
+        final List<WordComposer> keystrokes = new ArrayList<WordComposer>();
+        for (String[] sentence : BenchmarkData.readSentences()) {
+            for (int i = 1; i < sentence.length; i++) {
+                final String previous = sentence[i - 1].toLowerCase();
+                previousWords.add(previous);
+                keystrokes.add(BenchmarkData.getFirstKeystroke(sentence[i]));
+                // Typed often enough to be suggested.
+                mUserBigrams.addBigram(previous, sentence[i],
+                        UserBigramDictionary.SUGGEST_THRESHOLD);
+            }
+        }
+        mPreviousWords = previousWords.toArray(new String[previousWords.size()]);
+        mKeystrokes = keystrokes.toArray(new WordComposer[keystrokes.size()]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mMainDictionary.close();
+        mUserBigrams.close();
+    }
+
+    private int getBigrams(Dictionary dictionary) {
+        final int pair = mNext;
+        mNext = mNext + 1 < mKeystrokes.length ? mNext + 1 : 0;
+        mCallback.mCount = 0;
+        dictionary.getBigrams(mKeystrokes[pair], mPreviousWords[pair], mCallback, mNextLetters);
+        return mCallback.mCount;
+    }
+
+    @Benchmark
+    public int mainDictionary() {
+        return getBigrams(mMainDictionary);
+    }
+
+    @Benchmark
+    public int userDictionary() {
+        return getBigrams(mUserBigrams);
+    }
+}
@@ -0,0 +1,82 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per keystroke suggestion lookup. Each operation is the lookup for the next keystroke of
+ * the typed words, through Suggest the way LatinIME calls it while a word is typed, or
+ * through the main dictionary alone.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SuggestBenchmark {
+    @Param({ "short", "medium", "long" })
+    public String length;
+
+    private Suggest mSuggest;
+    private BinaryDictionary mMainDictionary;
+    private ExpandableDictionary mUserDictionary;
+    private WordComposer[] mKeystrokes;
+    private int mNext;
+    private final int[] mNextLetters = new int[1280];
+    private final BenchmarkData.CountingCallback mCallback = new BenchmarkData.CountingCallback();
+
+    @Setup
+    public void setUp() throws IOException {
+        mSuggest = new Suggest(null, BenchmarkData.readDictionary());
+        mSuggest.setCorrectionMode(Suggest.CORRECTION_FULL);
+        // A user dictionary with the typed words, which is searched next to the main one.
+        mUserDictionary = new ExpandableDictionary(null, Suggest.DIC_USER);
+        for (String word : BenchmarkData.getWords("all")) {
+            mUserDictionary.addWord(word, 128);
+        }
+        mSuggest.setUserDictionary(mUserDictionary);
+        mMainDictionary = new BinaryDictionary(null, BenchmarkData.readDictionary(),
+                Suggest.DIC_MAIN);
+        mKeystrokes = BenchmarkData.getKeystrokes(BenchmarkData.getWords(length));
+    }
+
+    @TearDown
+    public void tearDown() {
+        mSuggest.close();
+        mUserDictionary.close();
+        mMainDictionary.close();
+    }
+
+    private WordComposer nextKeystroke() {
+        final WordComposer keystroke = mKeystrokes[mNext];
+        mNext = mNext + 1 < mKeystrokes.length ? mNext + 1 : 0;
+        return keystroke;
+    }
+
+    @Benchmark
+    public List<CharSequence> getSuggestions() {
+        return mSuggest.getSuggestions(null, nextKeystroke(), false, null);
+    }
+
+    @Benchmark
+    public int getWords() {
+        mCallback.mCount = 0;
+        mMainDictionary.getWords(nextKeystroke(), mCallback, mNextLetters);
+        return mCallback.mCount;
+    }
+}
@@ -0,0 +1,53 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per keystroke search of a user dictionary, an ExpandableDictionary with the words of the
+ * benchmark dictionary like one that has learned a lot of words.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UserDictionaryBenchmark {
+    @Param({ "short", "medium", "long" })
+    public String length;
+
+    private ExpandableDictionary mDictionary;
+    private WordComposer[] mKeystrokes;
+    private int mNext;
+    private final int[] mNextLetters = new int[1280];
+    private final BenchmarkData.CountingCallback mCallback = new BenchmarkData.CountingCallback();
+
+    @Setup
+    public void setUp() throws IOException {
+        mDictionary = new ExpandableDictionary(null, Suggest.DIC_USER);
+        BenchmarkData.addDictionaryWords(mDictionary);
+        mKeystrokes = BenchmarkData.getKeystrokes(BenchmarkData.getWords(length));
+    }
+
+    @Benchmark
+    public int getWords() {
+        final WordComposer keystroke = mKeystrokes[mNext];
+        mNext = mNext + 1 < mKeystrokes.length ? mNext + 1 : 0;
+        mCallback.mCount = 0;
+        mDictionary.getWords(keystroke, mCallback, mNextLetters);
+        return mCallback.mCount;
+    }
+}
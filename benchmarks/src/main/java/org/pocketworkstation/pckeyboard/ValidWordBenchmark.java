@@ -0,0 +1,64 @@
+package org.pocketworkstation.pckeyboard;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * isValidWord() for each typed word, as done when a word is picked or auto-corrected.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidWordBenchmark {
+    private Suggest mSuggest;
+    private BinaryDictionary mMainDictionary;
+    private String[] mWords;
+    private int mNext;
+
+    @Setup
+    public void setUp() throws IOException {
+        mSuggest = new Suggest(null, BenchmarkData.readDictionary());
+        mMainDictionary = new BinaryDictionary(null, BenchmarkData.readDictionary(),
+                Suggest.DIC_MAIN);
+        final List<String> words = BenchmarkData.getWords("all");
+        mWords = words.toArray(new String[words.size()]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mSuggest.close();
+        mMainDictionary.close();
+    }
+
+    private String nextWord() {
+        final String word = mWords[mNext];
+        mNext = mNext + 1 < mWords.length ? mNext + 1 : 0;
+        return word;
+    }
+
+    @Benchmark
+    public boolean mainDictionary() {
+        return mMainDictionary.isValidWord(nextWord());
+    }
+
+    @Benchmark
+    public boolean suggest() {
+        return mSuggest.isValidWord(nextWord());
+    }
+}
@@ -0,0 +1,232 @@
+package org.pocketworkstation.pckeyboard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the lookups of BinaryDictionary from many threads at once, through the host build
+ * of the native code. Each thread gets its own native session, so the results have to be
+ * the same as when the lookups run one after another.
+ */
+public class BinaryDictionaryStressTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 2;
+
+    private BinaryDictionary mDictionary;
+    private WordComposer[] mKeystrokes;
+    private String[] mTypedWords;
+    private String[] mPreviousWords;
+
+    @Before
+    public void setUp() throws Exception {
+        mDictionary = new BinaryDictionary(null, BenchmarkData.readDictionary(),
+                Suggest.DIC_MAIN);
+        final List<WordComposer> keystrokes = new ArrayList<WordComposer>();
+        final List<String> typedWords = new ArrayList<String>();
+        final List<String> previousWords = new ArrayList<String>();
+        String previous = "the";
+        for (String word : BenchmarkData.getWords("all")) {
+            for (WordComposer keystroke : BenchmarkData.getKeystrokes(listOf(word))) {
+                keystrokes.add(keystroke);
+                typedWords.add(word);
+                previousWords.add(previous);
+            }
+            previous = word.toLowerCase();
+        }
+        mKeystrokes = keystrokes.toArray(new WordComposer[keystrokes.size()]);
+        mTypedWords = typedWords.toArray(new String[typedWords.size()]);
+        mPreviousWords = previousWords.toArray(new String[previousWords.size()]);
+    }
+
+    @After
+    public void tearDown() {
+        mDictionary.close();
+    }
+
+    private static List<String> listOf(String word) {
+        final List<String> list = new ArrayList<String>();
+        list.add(word);
+        return list;
+    }
+
+    /**
+     * Records the words a lookup reports, with their frequencies.
+     */
+    private static class Recorder implements Dictionary.WordCallback {
+        final StringBuilder mWords = new StringBuilder();
+
+        public boolean addWord(char[] word, int wordOffset, int wordLength, int frequency,
+                int dicTypeId, Dictionary.DataType dataType) {
+            mWords.append(word, wordOffset, wordLength).append(':').append(frequency)
+                    .append(' ');
+            return true;
+        }
+    }
+
+    /**
+     * Returns the results of all lookups for a keystroke: the words and next letters for
+     * it, the bigrams after the previous word, and whether the typed word is valid.
+     */
+    private String lookUp(int keystroke, Recorder callback) {
+        final int[] nextLetters = new int[1280];
+        mDictionary.getWords(mKeystrokes[keystroke], callback, nextLetters);
+        final StringBuilder result = new StringBuilder(callback.mWords);
+        callback.mWords.setLength(0);
+        for (int i = 0; i < nextLetters.length; i++) {
+            if (nextLetters[i] != 0) result.append((char) i).append('=').append(nextLetters[i]);
+        }
+        result.append(" | ");
+        mDictionary.getBigrams(BenchmarkData.getFirstKeystroke(mTypedWords[keystroke]),
+                mPreviousWords[keystroke], callback, null);
+        result.append(callback.mWords).append("| ");
+        callback.mWords.setLength(0);
+        result.append(mDictionary.isValidWord(mTypedWords[keystroke]));
+        return result.toString();
+    }
+
+    private boolean isNativeDictionaryOpen() throws Exception {
+        final Field nativeDict = BinaryDictionary.class.getDeclaredField("mNativeDict");
+        nativeDict.setAccessible(true);
+        synchronized (mDictionary) {
+            return nativeDict.getLong(mDictionary) != 0;
+        }
+    }
+
+    private String[] lookUpAll() {
+        final String[] results = new String[mKeystrokes.length];
+        final Recorder callback = new Recorder();
+        for (int i = 0; i < mKeystrokes.length; i++) {
+            results[i] = lookUp(i, callback);
+        }
+        return results;
+    }
+
+    @Test
+    public void testConcurrentLookupsMatchSingleThreaded() throws Throwable {
+        final String[] expected = lookUpAll();
+        assertTrue(expected[0].length() > 0);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            // Each thread starts at a different keystroke, so different words are looked up
+            // at the same time.
+            final int offset = t * mKeystrokes.length / THREADS;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        final Recorder callback = new Recorder();
+                        start.await();
+                        for (int round = 0; round < ROUNDS; round++) {
+                            for (int i = 0; i < mKeystrokes.length; i++) {
+                                final int keystroke = (offset + i) % mKeystrokes.length;
+                                assertEquals(expected[keystroke], lookUp(keystroke, callback));
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) throw failure.get();
+    }
+
+    @Test
+    public void testCloseWhileSessionsActive() throws Throwable {
+        final String[] expected = lookUpAll();
+        // Keystrokes that find words, one for each thread.
+        final int[] keystrokes = new int[THREADS];
+        for (int t = 0, i = 0; t < THREADS; i++) {
+            if (expected[i].indexOf(':') < expected[i].indexOf(" | ")
+                    && expected[i].indexOf(':') >= 0) {
+                keystrokes[t++] = i;
+            }
+        }
+
+        // Every thread stops in the callback of its first lookup, while it holds a session,
+        // until the dictionary has been closed.
+        final CountDownLatch inLookup = new CountDownLatch(THREADS);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int keystroke = keystrokes[t];
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        final Recorder callback = new Recorder() {
+                            private boolean mWaited;
+
+                            @Override
+                            public boolean addWord(char[] word, int wordOffset,
+                                    int wordLength, int frequency, int dicTypeId,
+                                    Dictionary.DataType dataType) {
+                                if (!mWaited) {
+                                    mWaited = true;
+                                    inLookup.countDown();
+                                    try {
+                                        closed.await();
+                                    } catch (InterruptedException e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                }
+                                return super.addWord(word, wordOffset, wordLength, frequency,
+                                        dicTypeId, dataType);
+                            }
+                        };
+                        // The lookup that was running while the dictionary was closed
+                        // completes. The next ones find it closed and report nothing.
+                        final String result = lookUp(keystroke, callback);
+                        final String words = expected[keystroke];
+                        assertEquals(words.substring(0, words.indexOf(" | ")),
+                                result.substring(0, result.indexOf(" | ")));
+                        assertEquals(" | | false", lookUp(keystroke, callback));
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        assertTrue(inLookup.await(10, TimeUnit.SECONDS));
+        mDictionary.close();
+        // The sessions in use keep the native dictionary open.
+        assertTrue(isNativeDictionaryOpen());
+        closed.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) throw failure.get();
+        assertFalse(isNativeDictionaryOpen());
+
+        final Recorder callback = new Recorder();
+        mDictionary.getWords(mKeystrokes[0], callback, null);
+        assertEquals("", callback.mWords.toString());
+        assertFalse(mDictionary.isValidWord(mTypedWords[0]));
+    }
+}
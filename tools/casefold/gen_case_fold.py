@@ -0,0 +1,156 @@
+#!/usr/bin/env python3
+"""Generates the case folding table used by the native and the Java dictionaries.
+
+    tools/casefold/gen_case_fold.py [output root]
+
+writes app/src/main/cpp/case_fold_table.h and CaseFoldTable.java from the Unicode
+database of the Python running it.
+
+A char is folded by replacing it with the first char of its Unicode decomposition and
+then lowercasing the result. That is how the old BASE_CHARS table was made for the first
+0x500 chars, which are reproduced exactly, including three entries that were added to it
+by hand. Above 0x500 only canonical decompositions are used: compatibility ones map
+things like circled letters, presentation forms and squared abbreviations onto their
+parts, which would merge words that are different.
+
+The table stores the difference between a char and its folded form, one page of 256 per
+high byte. Pages with the same differences are stored once, so all the pages of
+characters that don't change share one page of zeros.
+"""
+
+import os
+import sys
+import unicodedata
+
+LEGACY_LIMIT = 0x500
+# Chars without a decomposition that the old table mapped anyway.
+LEGACY_OVERRIDES = {0x00D8: 0x004F, 0x00DF: 0x0073, 0x00F8: 0x006F}
+JAVA_PATH = 'app/src/main/java/org/pocketworkstation/pckeyboard/CaseFoldTable.java'
+NATIVE_PATH = 'app/src/main/cpp/case_fold_table.h'
+# Java class files limit a string constant to 65535 bytes of modified UTF-8.
+MAX_JAVA_STRING = 65535
+
+
+def base_char(c):
+    if c in LEGACY_OVERRIDES:
+        return LEGACY_OVERRIDES[c]
+    decomposition = unicodedata.decomposition(chr(c))
+    if not decomposition:
+        return c
+    if decomposition.startswith('<'):
+        if c >= LEGACY_LIMIT:
+            return c
+        decomposition = decomposition.split('>', 1)[1]
+    return int(decomposition.split()[0], 16)
+
+
+def lower(c):
+    if 0xD800 <= c <= 0xDFFF:
+        return c
+    # str.lower() uses the full case mapping, which only differs from the simple one
+    # (Character.toLowerCase) by adding combining marks, as for U+0130.
+    return ord(chr(c).lower()[0])
+
+
+def fold(c):
+    return lower(base_char(c))
+
+
+def build():
+    pages = []
+    page_ids = {}
+    index = []
+    for high in range(256):
+        page = tuple((fold(c) - c) & 0xFFFF for c in range(high << 8, (high + 1) << 8))
+        if page not in page_ids:
+            page_ids[page] = len(pages)
+            pages.append(page)
+        index.append(page_ids[page])
+    assert len(pages) <= 256
+    return index, pages
+
+
+# Unicode escapes are translated before the source is parsed, so these must not be
+# written as one.
+JAVA_ESCAPES = {0x0a: '\\n', 0x0d: '\\r', 0x22: '\\"', 0x5c: '\\\\'}
+
+
+def java_string(values):
+    """Returns a string constant with the given chars, split over several lines."""
+    size = sum(1 if 0 < v < 0x80 else (2 if v < 0x800 else 3) for v in values)
+    assert size <= MAX_JAVA_STRING, 'string constant too large'
+    lines = []
+    for i in range(0, len(values), 12):
+        lines.append('"' + ''.join(JAVA_ESCAPES.get(v, '\\u%04x' % v)
+                                   for v in values[i:i + 12]) + '"')
+    return '\n            + '.join(lines)
+
+
+def write_java(path, index, pages):
+    flat = [v for page in pages for v in page]
+    with open(path, 'w') as f:
+        f.write('package org.pocketworkstation.pckeyboard;\n\n')
+        f.write('// Generated by tools/casefold/gen_case_fold.py from Unicode %s, do not edit.\n\n'
+                % unicodedata.unidata_version)
+        f.write('/**\n')
+        f.write(' * Folds a char for dictionary lookups: strips accents and other marks, and\n')
+        f.write(' * lowercases. The native dictionary uses the same table, see case_fold_table.h.\n')
+        f.write(' */\n')
+        f.write('final class CaseFoldTable {\n')
+        f.write('    // Page of each high byte, and the difference to the folded char for each\n')
+        f.write('    // low byte in the page.\n')
+        f.write('    private static final char[] INDEX = (\n            ')
+        f.write(java_string(index))
+        f.write(').toCharArray();\n')
+        f.write('    private static final char[] PAGES = (\n            ')
+        f.write(java_string(flat))
+        f.write(').toCharArray();\n\n')
+        f.write('    private CaseFoldTable() {\n')
+        f.write('    }\n\n')
+        f.write('    static char fold(char c) {\n')
+        f.write('        return (char) (c + PAGES[(INDEX[c >> 8] << 8) | (c & 0xFF)]);\n')
+        f.write('    }\n')
+        f.write('}\n')
+
+
+def write_native(path, index, pages):
+    with open(path, 'w') as f:
+        f.write('// Generated by tools/casefold/gen_case_fold.py from Unicode %s, do not edit.\n'
+                % unicodedata.unidata_version)
+        f.write('// Folds a char for dictionary lookups: strips accents and other marks, and\n')
+        f.write('// lowercases. The Java dictionaries use the same table, see CaseFoldTable.java.\n\n')
+        f.write('#ifndef LATINIME_CASE_FOLD_TABLE_H\n')
+        f.write('#define LATINIME_CASE_FOLD_TABLE_H\n\n')
+        f.write('namespace latinime {\n\n')
+        f.write('// Page of each high byte, and the difference to the folded char for each low\n')
+        f.write('// byte in the page.\n')
+        f.write('static const unsigned char CASE_FOLD_INDEX[256] = {\n')
+        for i in range(0, 256, 16):
+            f.write('    ' + ' '.join('%d,' % v for v in index[i:i + 16]) + '\n')
+        f.write('};\n\n')
+        f.write('static const unsigned short CASE_FOLD_PAGES[%d * 256] = {\n' % len(pages))
+        for p, page in enumerate(pages):
+            f.write('    // page %d\n' % p)
+            for i in range(0, 256, 8):
+                f.write('    ' + ' '.join('0x%04x,' % v for v in page[i:i + 8]) + '\n')
+        f.write('};\n\n')
+        f.write('static inline unsigned short foldCase(unsigned short c)\n')
+        f.write('{\n')
+        f.write('    return (unsigned short) (c + CASE_FOLD_PAGES[(CASE_FOLD_INDEX[c >> 8] << 8)\n')
+        f.write('            | (c & 0xFF)]);\n')
+        f.write('}\n\n')
+        f.write('}; // namespace latinime\n\n')
+        f.write('#endif // LATINIME_CASE_FOLD_TABLE_H\n')
+
+
+def main():
+    root = sys.argv[1] if len(sys.argv) > 1 else os.path.join(
+            os.path.dirname(os.path.abspath(__file__)), '..', '..')
+    index, pages = build()
+    write_java(os.path.join(root, JAVA_PATH), index, pages)
+    write_native(os.path.join(root, NATIVE_PATH), index, pages)
+    print('%d pages, %d bytes' % (len(pages), len(pages) * 512 + 256))
+
+
+if __name__ == '__main__':
+    main()
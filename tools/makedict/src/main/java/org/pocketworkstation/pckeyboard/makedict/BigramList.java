@@ -0,0 +1,149 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Bigrams read from a file in the format the AOSP dictionary tools used:
+ * <pre>
+ * &lt;bigrams&gt;
+ *   &lt;bi w1="hello"&gt;
+ *     &lt;w w2="world" p="120"/&gt;
+ *   &lt;/bi&gt;
+ * &lt;/bigrams&gt;
+ * </pre>
+ * Every word that appears in the file gets an id. The bigrams are kept in memory since
+ * they are part of the output anyway, and the words they mention need to be known before
+ * the word list is built.
+ */
+class BigramList {
+    private final HashMap<String, Integer> mIds = new HashMap<String, Integer>();
+    private final ArrayList<String> mWords = new ArrayList<String>();
+    // Indexed by word id, null for words that only appear as targets.
+    private final ArrayList<int[]> mTargets = new ArrayList<int[]>();
+    private final ArrayList<int[]> mFrequencies = new ArrayList<int[]>();
+    private final ArrayList<Integer> mSizes = new ArrayList<Integer>();
+    private int mBigramCount;
+
+    BigramList() {
+    }
+
+    static BigramList read(File file) throws IOException {
+        final BigramList list = new BigramList();
+        final InputStream in = new BufferedInputStream(new FileInputStream(file), 64 * 1024);
+        try {
+            final XMLStreamReader reader = WordListReader.createReader(in);
+            int source = -1;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT
+                        && "bi".equals(reader.getLocalName())) {
+                    source = -1;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT) continue;
+                final String name = reader.getLocalName();
+                if ("bi".equals(name)) {
+                    source = list.getOrAddId(getWordAttribute(reader, "w1", file));
+                } else if ("w".equals(name) && source >= 0) {
+                    final int target = list.getOrAddId(getWordAttribute(reader, "w2", file));
+                    list.add(source, target, WordListReader.parseFrequency(reader, "p", file));
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        } finally {
+            in.close();
+        }
+        return list;
+    }
+
+    private static String getWordAttribute(XMLStreamReader reader, String name, File file)
+            throws IOException {
+        final String value = reader.getAttributeValue(null, name);
+        if (value == null || value.trim().length() == 0) {
+            throw new IOException(file + ":" + reader.getLocation().getLineNumber()
+                    + ": missing attribute " + name);
+        }
+        return value.trim();
+    }
+
+    private int getOrAddId(String word) {
+        final Integer id = mIds.get(word);
+        if (id != null) return id;
+        final int newId = mWords.size();
+        mIds.put(word, newId);
+        mWords.add(word);
+        mTargets.add(null);
+        mFrequencies.add(null);
+        mSizes.add(0);
+        return newId;
+    }
+
+    private void add(int source, int target, int frequency) {
+        int[] targets = mTargets.get(source);
+        int[] frequencies = mFrequencies.get(source);
+        final int size = mSizes.get(source);
+        if (targets == null) {
+            targets = new int[4];
+            frequencies = new int[4];
+        } else if (size == targets.length) {
+            targets = Arrays.copyOf(targets, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        targets[size] = target;
+        frequencies[size] = frequency;
+        mTargets.set(source, targets);
+        mFrequencies.set(source, frequencies);
+        mSizes.set(source, size + 1);
+        mBigramCount++;
+    }
+
+    /**
+     * Returns the id of a word mentioned in the list, or -1.
+     */
+    int getWordId(String word) {
+        final Integer id = mIds.get(word);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the number of words mentioned, ids go from 0 to this value - 1.
+     */
+    int getWordCount() {
+        return mWords.size();
+    }
+
+    String getWord(int id) {
+        return mWords.get(id);
+    }
+
+    int getBigramCount() {
+        return mBigramCount;
+    }
+
+    /**
+     * Returns the number of bigrams starting with the given word.
+     */
+    int getSize(int id) {
+        return mSizes.get(id);
+    }
+
+    int getTarget(int id, int index) {
+        return mTargets.get(id)[index];
+    }
+
+    int getFrequency(int id, int index) {
+        return mFrequencies.get(id)[index];
+    }
+}
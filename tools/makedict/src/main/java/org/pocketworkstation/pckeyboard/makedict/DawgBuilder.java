@@ -0,0 +1,372 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.util.Arrays;
+
+/**
+ * Builds a minimized word graph from words added in sorted order, merging node groups that
+ * hold the same suffixes as each other (Daciuk et al., "Incremental construction of minimal
+ * acyclic finite-state automata", 2000).
+ *
+ * <p>
+ * Only the groups along the path of the last added word are kept in a form that can still
+ * change. Once a word is added that leaves part of that path, the part can no longer change
+ * and is either replaced by an equal group that was stored before or stored itself. Memory
+ * use is therefore proportional to the size of the output, not the number of words added.
+ *
+ * <p>
+ * A node in the output identifies a word only if no group on the way to it is shared with
+ * another word. Words that bigrams start from or point to are added with an id, which marks
+ * the groups on their path as pinned: pinned groups are never merged with others. The
+ * groups below them can still be shared.
+ *
+ * <p>
+ * A node group is stored as a run of nodes. Node i of group g is at index
+ * {@code getFirstNode(g) + i} and has a char, a frequency ({@link #NOT_TERMINAL} for nodes
+ * that don't end a word) and the id of its children group ({@link #NO_CHILDREN} if none).
+ */
+class DawgBuilder {
+    static final int NOT_TERMINAL = -1;
+    static final int NO_CHILDREN = -1;
+
+    /**
+     * A node group that can still change, one per character position.
+     */
+    private static class Level {
+        char[] chars = new char[8];
+        int[] frequencies = new int[8];
+        int[] children = new int[8];
+        int[] wordIds = new int[8];
+        int size;
+        boolean pinned;
+
+        void add(char c) {
+            if (size == chars.length) {
+                chars = Arrays.copyOf(chars, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+                wordIds = Arrays.copyOf(wordIds, size * 2);
+            }
+            chars[size] = c;
+            frequencies[size] = NOT_TERMINAL;
+            children[size] = NO_CHILDREN;
+            wordIds[size] = -1;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+            pinned = false;
+        }
+    }
+
+    private final boolean mMinimize;
+    private final Level[] mLevels;
+    private final char[] mPrevious;
+    private int mPreviousLength;
+    private int mRoot = NO_CHILDREN;
+
+    private char[] mNodeChars = new char[1024];
+    private int[] mNodeFrequencies = new int[1024];
+    private int[] mNodeChildren = new int[1024];
+    private int mNodeCount;
+
+    private int[] mGroupFirstNode = new int[256];
+    private int[] mGroupSize = new int[256];
+    private int[] mGroupMaxFrequency = new int[256];
+    private int[] mGroupHeight = new int[256];
+    private int[] mGroupWords = new int[256];
+    private boolean[] mGroupPinned = new boolean[256];
+    private int[] mGroupHash = new int[256];
+    private int mGroupCount;
+
+    // Open addressing hash set of the groups that can be shared, by content.
+    private int[] mRegister = new int[1024];
+    private int mRegisterSize;
+
+    // Where the words with ids ended up.
+    private final int[] mWordGroups;
+    private final int[] mWordIndexes;
+
+    private int mWordCount;
+    private long mTrieGroupCount = 1;
+    private long mTrieNodeCount;
+
+    /**
+     * @param maxWordLength the longest word that will be added
+     * @param wordIdCount the number of word ids that may be passed to {@link #add}
+     * @param minimize false to build a plain trie that doesn't share any groups
+     */
+    DawgBuilder(int maxWordLength, int wordIdCount, boolean minimize) {
+        mMinimize = minimize;
+        mLevels = new Level[maxWordLength];
+        for (int i = 0; i < maxWordLength; i++) {
+            mLevels[i] = new Level();
+        }
+        mPrevious = new char[maxWordLength];
+        mWordGroups = new int[wordIdCount];
+        mWordIndexes = new int[wordIdCount];
+        Arrays.fill(mWordGroups, NO_CHILDREN);
+        Arrays.fill(mRegister, -1);
+    }
+
+    /**
+     * Adds a word. Words must be added in increasing {@link String#compareTo} order and
+     * without duplicates.
+     * @param wordId an id whose node can be looked up with {@link #getWordGroup} and
+     *        {@link #getWordIndex} once the graph is finished, or -1
+     */
+    void add(String word, int frequency, int wordId) {
+        final int length = word.length();
+        if (length == 0 || length > mLevels.length) {
+            throw new IllegalArgumentException("Bad word length: " + word);
+        }
+        if (mRoot != NO_CHILDREN) throw new IllegalStateException("Already finished");
+        int common = 0;
+        while (common < length && common < mPreviousLength
+                && word.charAt(common) == mPrevious[common]) {
+            common++;
+        }
+        if (common == length
+                || (common < mPreviousLength && word.charAt(common) < mPrevious[common])) {
+            throw new IllegalArgumentException("Words are not sorted: " + word);
+        }
+
+        // A plain trie has a node for each char after the common prefix, and a new group
+        // for each of them except the first, which only needs one if the previous word
+        // ended there.
+        mTrieNodeCount += length - common;
+        mTrieGroupCount += length - common - 1;
+        if (common > 0 && common == mPreviousLength) mTrieGroupCount++;
+
+        freeze(common);
+        for (int i = common; i < length; i++) {
+            final char c = word.charAt(i);
+            mLevels[i].add(c);
+            mPrevious[i] = c;
+        }
+        final Level last = mLevels[length - 1];
+        last.frequencies[last.size - 1] = frequency;
+        if (wordId >= 0) {
+            last.wordIds[last.size - 1] = wordId;
+            for (int i = 0; i < length; i++) {
+                mLevels[i].pinned = true;
+            }
+        }
+        mPreviousLength = length;
+        mWordCount++;
+    }
+
+    /**
+     * Stores all remaining groups. No words can be added afterwards.
+     */
+    void finish() {
+        if (mRoot != NO_CHILDREN) return;
+        freeze(0);
+        mRoot = store(mLevels[0]);
+        mLevels[0].clear();
+    }
+
+    /**
+     * Stores the groups of the previous word below the given depth.
+     */
+    private void freeze(int depth) {
+        for (int i = mPreviousLength - 1; i > depth; i--) {
+            final Level level = mLevels[i];
+            final Level parent = mLevels[i - 1];
+            parent.children[parent.size - 1] = store(level);
+            level.clear();
+        }
+    }
+
+    private int store(Level level) {
+        final boolean shareable = mMinimize && !level.pinned;
+        final int hash = shareable ? hash(level) : 0;
+        int slot = hash & (mRegister.length - 1);
+        if (shareable) {
+            while (mRegister[slot] >= 0) {
+                final int group = mRegister[slot];
+                if (mGroupHash[group] == hash && equals(group, level)) return group;
+                slot = (slot + 1) & (mRegister.length - 1);
+            }
+        }
+
+        final int group = addGroup(level);
+        mGroupHash[group] = hash;
+        if (shareable) {
+            mRegister[slot] = group;
+            if (++mRegisterSize * 2 > mRegister.length) growRegister();
+        }
+        return group;
+    }
+
+    private int addGroup(Level level) {
+        if (mGroupCount == mGroupFirstNode.length) {
+            final int capacity = mGroupCount * 2;
+            mGroupFirstNode = Arrays.copyOf(mGroupFirstNode, capacity);
+            mGroupSize = Arrays.copyOf(mGroupSize, capacity);
+            mGroupMaxFrequency = Arrays.copyOf(mGroupMaxFrequency, capacity);
+            mGroupHeight = Arrays.copyOf(mGroupHeight, capacity);
+            mGroupWords = Arrays.copyOf(mGroupWords, capacity);
+            mGroupPinned = Arrays.copyOf(mGroupPinned, capacity);
+            mGroupHash = Arrays.copyOf(mGroupHash, capacity);
+        }
+        if (mNodeCount + level.size > mNodeChars.length) {
+            final int capacity = Math.max(mNodeChars.length * 2, mNodeCount + level.size);
+            mNodeChars = Arrays.copyOf(mNodeChars, capacity);
+            mNodeFrequencies = Arrays.copyOf(mNodeFrequencies, capacity);
+            mNodeChildren = Arrays.copyOf(mNodeChildren, capacity);
+        }
+        final int group = mGroupCount++;
+        int maxFrequency = 0;
+        int height = 0;
+        int words = 0;
+        for (int i = 0; i < level.size; i++) {
+            final int node = mNodeCount + i;
+            final int frequency = level.frequencies[i];
+            final int children = level.children[i];
+            mNodeChars[node] = level.chars[i];
+            mNodeFrequencies[node] = frequency;
+            mNodeChildren[node] = children;
+            if (frequency != NOT_TERMINAL) {
+                maxFrequency = Math.max(maxFrequency, frequency);
+                words++;
+            }
+            if (children != NO_CHILDREN) {
+                maxFrequency = Math.max(maxFrequency, mGroupMaxFrequency[children]);
+                height = Math.max(height, mGroupHeight[children] + 1);
+                words += mGroupWords[children];
+            }
+            if (level.wordIds[i] >= 0) {
+                mWordGroups[level.wordIds[i]] = group;
+                mWordIndexes[level.wordIds[i]] = i;
+            }
+        }
+        mGroupFirstNode[group] = mNodeCount;
+        mGroupSize[group] = level.size;
+        mGroupMaxFrequency[group] = maxFrequency;
+        mGroupHeight[group] = height;
+        mGroupWords[group] = words;
+        mGroupPinned[group] = level.pinned;
+        mNodeCount += level.size;
+        return group;
+    }
+
+    private int hash(Level level) {
+        int hash = level.size;
+        for (int i = 0; i < level.size; i++) {
+            hash = hash * 31 + level.chars[i];
+            hash = hash * 31 + level.frequencies[i];
+            hash = hash * 31 + level.children[i];
+        }
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean equals(int group, Level level) {
+        if (mGroupSize[group] != level.size) return false;
+        final int first = mGroupFirstNode[group];
+        for (int i = 0; i < level.size; i++) {
+            if (mNodeChars[first + i] != level.chars[i]
+                    || mNodeFrequencies[first + i] != level.frequencies[i]
+                    || mNodeChildren[first + i] != level.children[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void growRegister() {
+        final int[] old = mRegister;
+        mRegister = new int[old.length * 2];
+        Arrays.fill(mRegister, -1);
+        for (int group : old) {
+            if (group < 0) continue;
+            int slot = mGroupHash[group] & (mRegister.length - 1);
+            while (mRegister[slot] >= 0) {
+                slot = (slot + 1) & (mRegister.length - 1);
+            }
+            mRegister[slot] = group;
+        }
+    }
+
+    int getRoot() {
+        return mRoot;
+    }
+
+    int getGroupCount() {
+        return mGroupCount;
+    }
+
+    int getNodeCount() {
+        return mNodeCount;
+    }
+
+    int getWordCount() {
+        return mWordCount;
+    }
+
+    /**
+     * Returns the number of groups a plain trie of the same words would have.
+     */
+    long getTrieGroupCount() {
+        return mTrieGroupCount;
+    }
+
+    /**
+     * Returns the number of nodes a plain trie of the same words would have.
+     */
+    long getTrieNodeCount() {
+        return mTrieNodeCount;
+    }
+
+    int getFirstNode(int group) {
+        return mGroupFirstNode[group];
+    }
+
+    int getGroupSize(int group) {
+        return mGroupSize[group];
+    }
+
+    int getMaxFrequency(int group) {
+        return mGroupMaxFrequency[group];
+    }
+
+    /**
+     * Returns the number of levels below the nodes of the group down to the deepest word.
+     */
+    int getHeight(int group) {
+        return mGroupHeight[group];
+    }
+
+    int getWords(int group) {
+        return mGroupWords[group];
+    }
+
+    boolean isPinned(int group) {
+        return mGroupPinned[group];
+    }
+
+    char getChar(int node) {
+        return mNodeChars[node];
+    }
+
+    int getFrequency(int node) {
+        return mNodeFrequencies[node];
+    }
+
+    int getChildren(int node) {
+        return mNodeChildren[node];
+    }
+
+    /**
+     * Returns the group holding the last node of the word with the given id, or
+     * {@link #NO_CHILDREN} if it wasn't added.
+     */
+    int getWordGroup(int wordId) {
+        return mWordGroups[wordId];
+    }
+
+    int getWordIndex(int wordId) {
+        return mWordIndexes[wordId];
+    }
+}
@@ -0,0 +1,285 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Writes a finished {@link DawgBuilder} as a version 3 dictionary, see dictionary.h in the
+ * app for the layout.
+ *
+ * <p>
+ * The native code finds the word of a bigram target by starting at the root and following
+ * the last node whose children come at or before the target. That only works if the groups
+ * leading to every target are laid out depth first and nothing reachable from an earlier
+ * sibling sits in between. The pinned groups, which hold all bigram words, are therefore
+ * written first and depth first, and the shared groups only after all of them.
+ *
+ * <p>
+ * The words of all bigram targets are also written out in a table, so that the native code
+ * can map them instead of walking the trie to find them when the dictionary is opened.
+ */
+class DictionaryWriter {
+    static final int V3_MAGIC = 0x9BC13AFE;
+    static final int V3_VERSION = 3;
+    static final int V3_FLAG_HAS_BIGRAMS = 0x1;
+    static final int V3_FLAG_HAS_TARGET_WORDS = 0x2;
+    // Includes the target table offset and count.
+    static final int V3_HEADER_SIZE = 32;
+    static final int V3_GROUP_HEADER_SIZE = 8;
+    static final int V3_NODE_SIZE = 8;
+    static final int V3_BIGRAM_INDEX_ENTRY_SIZE = 8;
+    static final int V3_BIGRAM_SIZE = 8;
+    static final int V3_TARGET_ENTRY_SIZE = 12;
+    static final int V3_NODE_FLAG_TERMINAL = 0x1;
+    static final int SUBTREE_HEIGHT_UNKNOWN = 0xFF;
+
+    private final DawgBuilder mDawg;
+    private final BigramList mBigrams;
+    private final long[] mGroupOffsets;
+    private final int[] mOrder;
+    private int mOrderSize;
+    private long mNextOffset = V3_HEADER_SIZE;
+    private int mBigramSourceCount;
+    private int mBigramCount;
+    private int mDroppedBigramCount;
+    private long mTargetTableSize;
+
+    /**
+     * @param bigrams the bigrams, whose word ids were passed to the builder, or null
+     */
+    DictionaryWriter(DawgBuilder dawg, BigramList bigrams) {
+        mDawg = dawg;
+        mBigrams = bigrams;
+        mGroupOffsets = new long[dawg.getGroupCount()];
+        mOrder = new int[dawg.getGroupCount()];
+        Arrays.fill(mGroupOffsets, -1);
+        placePinned(dawg.getRoot());
+        placeRemaining(dawg.getRoot(), new boolean[dawg.getGroupCount()]);
+    }
+
+    private void place(int group) {
+        mGroupOffsets[group] = mNextOffset;
+        mOrder[mOrderSize++] = group;
+        mNextOffset += V3_GROUP_HEADER_SIZE + mDawg.getGroupSize(group) * V3_NODE_SIZE;
+    }
+
+    private void placePinned(int group) {
+        if (!mDawg.isPinned(group)) return;
+        place(group);
+        final int first = mDawg.getFirstNode(group);
+        for (int i = 0; i < mDawg.getGroupSize(group); i++) {
+            final int children = mDawg.getChildren(first + i);
+            if (children != DawgBuilder.NO_CHILDREN) placePinned(children);
+        }
+    }
+
+    private void placeRemaining(int group, boolean[] visited) {
+        if (visited[group]) return;
+        visited[group] = true;
+        if (mGroupOffsets[group] < 0) place(group);
+        final int first = mDawg.getFirstNode(group);
+        for (int i = 0; i < mDawg.getGroupSize(group); i++) {
+            final int children = mDawg.getChildren(first + i);
+            if (children != DawgBuilder.NO_CHILDREN) placeRemaining(children, visited);
+        }
+    }
+
+    private long getNodeOffset(int wordId) {
+        final int group = mDawg.getWordGroup(wordId);
+        if (group == DawgBuilder.NO_CHILDREN) return -1;
+        return mGroupOffsets[group] + V3_GROUP_HEADER_SIZE
+                + mDawg.getWordIndex(wordId) * V3_NODE_SIZE;
+    }
+
+    /**
+     * Writes the dictionary and returns its size in bytes.
+     */
+    long write(File file) throws IOException {
+        // Bigram lists of words that are in the dictionary, sorted by node offset, and
+        // without the targets that are missing from it.
+        final int wordCount = mBigrams == null ? 0 : mBigrams.getWordCount();
+        final long[] sources = new long[wordCount];
+        int sourceCount = 0;
+        for (int id = 0; id < wordCount; id++) {
+            final int size = mBigrams.getSize(id);
+            if (size == 0) continue;
+            final long offset = getNodeOffset(id);
+            int valid = 0;
+            for (int i = 0; i < size; i++) {
+                if (offset >= 0 && getNodeOffset(mBigrams.getTarget(id, i)) >= 0) valid++;
+            }
+            mDroppedBigramCount += size - valid;
+            if (valid == 0) continue;
+            // Offsets are below 2^31, so the id fits in the low bits.
+            sources[sourceCount++] = (offset << 32) | id;
+            mBigramCount += valid;
+        }
+        Arrays.sort(sources, 0, sourceCount);
+        mBigramSourceCount = sourceCount;
+
+        // The targets, sorted by node offset. Words are unique, so are their offsets.
+        final boolean[] isTarget = new boolean[wordCount];
+        int targetCount = 0;
+        int targetChars = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            final int id = (int) sources[i];
+            for (int j = 0; j < mBigrams.getSize(id); j++) {
+                final int target = mBigrams.getTarget(id, j);
+                if (isTarget[target] || getNodeOffset(target) < 0) continue;
+                isTarget[target] = true;
+                targetCount++;
+                targetChars += mBigrams.getWord(target).length();
+            }
+        }
+        final long[] targets = new long[targetCount];
+        targetCount = 0;
+        for (int id = 0; id < wordCount; id++) {
+            if (isTarget[id]) targets[targetCount++] = (getNodeOffset(id) << 32) | id;
+        }
+        Arrays.sort(targets);
+        mTargetTableSize = targetCount * (long) V3_TARGET_ENTRY_SIZE + targetChars * 2L;
+
+        final long bigramIndex = mNextOffset + sourceCount * 4L
+                + mBigramCount * (long) V3_BIGRAM_SIZE;
+        final long targetTable = bigramIndex + sourceCount * (long) V3_BIGRAM_INDEX_ENTRY_SIZE;
+        final long size = targetTable + mTargetTableSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Dictionary too large: " + size + " bytes");
+        }
+
+        final OutputStream out = new BufferedOutputStream(new FileOutputStream(file),
+                256 * 1024);
+        try {
+            final byte[] buffer = new byte[V3_HEADER_SIZE];
+            putInt(buffer, 0, V3_MAGIC);
+            putShort(buffer, 4, V3_VERSION);
+            putShort(buffer, 6, sourceCount > 0
+                    ? V3_FLAG_HAS_BIGRAMS | V3_FLAG_HAS_TARGET_WORDS : 0);
+            putInt(buffer, 8, V3_HEADER_SIZE);
+            putInt(buffer, 12, (int) mGroupOffsets[mDawg.getRoot()]);
+            putInt(buffer, 16, (int) bigramIndex);
+            putInt(buffer, 20, sourceCount);
+            putInt(buffer, 24, (int) targetTable);
+            putInt(buffer, 28, targetCount);
+            out.write(buffer);
+
+            for (int i = 0; i < mOrderSize; i++) {
+                writeGroup(out, mOrder[i]);
+            }
+
+            final int[] listOffsets = new int[sourceCount];
+            long listOffset = mNextOffset;
+            for (int i = 0; i < sourceCount; i++) {
+                listOffsets[i] = (int) listOffset;
+                listOffset += writeBigramList(out, (int) sources[i]);
+            }
+
+            for (int i = 0; i < sourceCount; i++) {
+                putInt(buffer, 0, (int) (sources[i] >>> 32));
+                putInt(buffer, 4, listOffsets[i]);
+                out.write(buffer, 0, V3_BIGRAM_INDEX_ENTRY_SIZE);
+            }
+
+            long charOffset = targetTable + targetCount * (long) V3_TARGET_ENTRY_SIZE;
+            for (int i = 0; i < targetCount; i++) {
+                final int length = mBigrams.getWord((int) targets[i]).length();
+                putInt(buffer, 0, (int) (targets[i] >>> 32));
+                putInt(buffer, 4, (int) charOffset);
+                putInt(buffer, 8, length);
+                out.write(buffer, 0, V3_TARGET_ENTRY_SIZE);
+                charOffset += length * 2;
+            }
+            for (int i = 0; i < targetCount; i++) {
+                final String word = mBigrams.getWord((int) targets[i]);
+                for (int j = 0; j < word.length(); j++) {
+                    putShort(buffer, 0, word.charAt(j));
+                    out.write(buffer, 0, 2);
+                }
+            }
+        } finally {
+            out.close();
+        }
+        return size;
+    }
+
+    private void writeGroup(OutputStream out, int group) throws IOException {
+        final int count = mDawg.getGroupSize(group);
+        if (count > 0xFFFF) throw new IOException("Too many nodes in a group: " + count);
+        final byte[] buffer = new byte[V3_GROUP_HEADER_SIZE + count * V3_NODE_SIZE];
+        final int height = mDawg.getHeight(group);
+        putShort(buffer, 0, count);
+        buffer[2] = (byte) mDawg.getMaxFrequency(group);
+        buffer[3] = (byte) (height < SUBTREE_HEIGHT_UNKNOWN ? height : SUBTREE_HEIGHT_UNKNOWN);
+        putInt(buffer, 4, mDawg.getWords(group));
+        final int first = mDawg.getFirstNode(group);
+        for (int i = 0; i < count; i++) {
+            final int pos = V3_GROUP_HEADER_SIZE + i * V3_NODE_SIZE;
+            final int frequency = mDawg.getFrequency(first + i);
+            final int children = mDawg.getChildren(first + i);
+            putShort(buffer, pos, mDawg.getChar(first + i));
+            if (frequency != DawgBuilder.NOT_TERMINAL) {
+                buffer[pos + 2] = V3_NODE_FLAG_TERMINAL;
+                buffer[pos + 3] = (byte) frequency;
+            }
+            putInt(buffer, pos + 4, children == DawgBuilder.NO_CHILDREN
+                    ? 0 : (int) mGroupOffsets[children]);
+        }
+        out.write(buffer);
+    }
+
+    private int writeBigramList(OutputStream out, int id) throws IOException {
+        final int size = mBigrams.getSize(id);
+        final byte[] buffer = new byte[4 + size * V3_BIGRAM_SIZE];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            final long target = getNodeOffset(mBigrams.getTarget(id, i));
+            if (target < 0) continue;
+            final int pos = 4 + count * V3_BIGRAM_SIZE;
+            putInt(buffer, pos, (int) target);
+            buffer[pos + 4] = (byte) mBigrams.getFrequency(id, i);
+            count++;
+        }
+        putInt(buffer, 0, count);
+        final int length = 4 + count * V3_BIGRAM_SIZE;
+        out.write(buffer, 0, length);
+        return length;
+    }
+
+    private static void putShort(byte[] buffer, int pos, int value) {
+        buffer[pos] = (byte) value;
+        buffer[pos + 1] = (byte) (value >> 8);
+    }
+
+    private static void putInt(byte[] buffer, int pos, int value) {
+        buffer[pos] = (byte) value;
+        buffer[pos + 1] = (byte) (value >> 8);
+        buffer[pos + 2] = (byte) (value >> 16);
+        buffer[pos + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Returns the size a dictionary with the given number of groups and nodes and the same
+     * bigrams would have. Only valid after {@link #write}.
+     */
+    long getSizeWith(long groupCount, long nodeCount) {
+        return V3_HEADER_SIZE + groupCount * V3_GROUP_HEADER_SIZE + nodeCount * V3_NODE_SIZE
+                + mBigramSourceCount * (4L + V3_BIGRAM_INDEX_ENTRY_SIZE)
+                + mBigramCount * (long) V3_BIGRAM_SIZE + mTargetTableSize;
+    }
+
+    int getBigramCount() {
+        return mBigramCount;
+    }
+
+    /**
+     * Returns the number of bigrams that were left out because a word wasn't in the
+     * dictionary.
+     */
+    int getDroppedBigramCount() {
+        return mDroppedBigramCount;
+    }
+}
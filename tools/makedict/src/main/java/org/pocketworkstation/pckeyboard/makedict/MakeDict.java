@@ -0,0 +1,119 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compiles a word list, and optionally a bigram list, into a dictionary that
+ * BinaryDictionary can load.
+ *
+ * <pre>
+ * makedict -w wordlist.xml [-b bigrams.xml] -o main.dict [--trie] [--chunk entries]
+ * </pre>
+ *
+ * The word list is sorted in chunks of at most the given number of entries, so only one
+ * chunk and the output are ever held in memory. Node groups with the same suffixes are
+ * shared unless --trie is given, and the size of a plain trie of the same words is printed
+ * next to the size of the result either way.
+ */
+public class MakeDict {
+    // Same as BinaryDictionary.MAX_WORD_LENGTH, longer words can't be looked up.
+    static final int MAX_WORD_LENGTH = 48;
+    private static final int DEFAULT_CHUNK_SIZE = 500000;
+
+    private MakeDict() {
+    }
+
+    public static void main(String[] args) {
+        File wordList = null;
+        File bigramList = null;
+        File output = null;
+        boolean minimize = true;
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                final String arg = args[i];
+                if ("-w".equals(arg) && i + 1 < args.length) {
+                    wordList = new File(args[++i]);
+                } else if ("-b".equals(arg) && i + 1 < args.length) {
+                    bigramList = new File(args[++i]);
+                } else if ("-o".equals(arg) && i + 1 < args.length) {
+                    output = new File(args[++i]);
+                } else if ("--trie".equals(arg)) {
+                    minimize = false;
+                } else if ("--chunk".equals(arg) && i + 1 < args.length) {
+                    chunkSize = Integer.parseInt(args[++i]);
+                    if (chunkSize < 1) usage();
+                } else {
+                    usage();
+                }
+            }
+        } catch (NumberFormatException e) {
+            usage();
+        }
+        if (wordList == null || output == null) usage();
+
+        try {
+            run(wordList, bigramList, output, minimize, chunkSize);
+        } catch (IOException e) {
+            System.err.println("makedict: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: makedict -w wordlist.xml [-b bigrams.xml] -o main.dict"
+                + " [--trie] [--chunk entries]");
+        System.exit(2);
+    }
+
+    private static void run(File wordList, File bigramList, File output, boolean minimize,
+            int chunkSize) throws IOException {
+        final long start = System.nanoTime();
+        final BigramList bigrams = bigramList == null ? null : BigramList.read(bigramList);
+        final DawgBuilder dawg = new DawgBuilder(MAX_WORD_LENGTH,
+                bigrams == null ? 0 : bigrams.getWordCount(), minimize);
+
+        final SortedWordList words = new SortedWordList(new WordListReader(wordList),
+                chunkSize, null);
+        int skipped = 0;
+        try {
+            while (words.next()) {
+                final String word = words.getWord();
+                if (word.length() > MAX_WORD_LENGTH) {
+                    skipped++;
+                    continue;
+                }
+                dawg.add(word, words.getFrequency(),
+                        bigrams == null ? -1 : bigrams.getWordId(word));
+            }
+        } finally {
+            words.close();
+        }
+        if (dawg.getWordCount() == 0) throw new IOException(wordList + ": no words");
+        dawg.finish();
+
+        final DictionaryWriter writer = new DictionaryWriter(dawg, bigrams);
+        final long size = writer.write(output);
+        final long trieSize = writer.getSizeWith(dawg.getTrieGroupCount(),
+                dawg.getTrieNodeCount());
+        final long millis = (System.nanoTime() - start) / 1000000;
+
+        System.out.println(output + ": " + dawg.getWordCount() + " words, "
+                + writer.getBigramCount() + " bigrams, " + millis + " ms");
+        if (words.getDuplicateCount() > 0 || skipped > 0) {
+            System.out.println("  merged " + words.getDuplicateCount() + " duplicates, skipped "
+                    + skipped + " words longer than " + MAX_WORD_LENGTH);
+        }
+        if (writer.getDroppedBigramCount() > 0) {
+            System.out.println("  dropped " + writer.getDroppedBigramCount()
+                    + " bigrams with words missing from the word list");
+        }
+        System.out.println("  " + (minimize ? "dawg" : "trie") + ": " + dawg.getGroupCount()
+                + " groups, " + dawg.getNodeCount() + " nodes, " + size + " bytes");
+        System.out.println("  plain trie: " + dawg.getTrieGroupCount() + " groups, "
+                + dawg.getTrieNodeCount() + " nodes, " + trieSize + " bytes"
+                + (minimize ? String.format(" (dawg is %.1f%%)", 100.0 * size / trieSize)
+                        : ""));
+    }
+}
@@ -0,0 +1,195 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a word list into UTF-16 order, which is the order {@link DawgBuilder} needs, and
+ * merges duplicate entries by keeping the highest frequency.
+ *
+ * <p>
+ * At most chunkSize entries are held in memory. Larger lists are sorted in chunks that are
+ * written to temporary files and merged while they are read back, so the memory needed
+ * does not grow with the size of the input.
+ */
+class SortedWordList implements WordSource {
+
+    private static class Entry implements Comparable<Entry> {
+        String word;
+        int frequency;
+
+        Entry(String word, int frequency) {
+            this.word = word;
+            this.frequency = frequency;
+        }
+
+        public int compareTo(Entry other) {
+            return word.compareTo(other.word);
+        }
+    }
+
+    /**
+     * A sorted run, either in memory or in a temporary file.
+     */
+    private static class Run implements Comparable<Run> {
+        private final Entry[] mEntries;
+        private final int mSize;
+        private int mIndex;
+        private final File mFile;
+        private final DataInputStream mIn;
+        String word;
+        int frequency;
+
+        Run(Entry[] entries, int size) {
+            mEntries = entries;
+            mSize = size;
+            mFile = null;
+            mIn = null;
+        }
+
+        Run(File file) throws IOException {
+            mEntries = null;
+            mSize = 0;
+            mFile = file;
+            mIn = new DataInputStream(new BufferedInputStream(new FileInputStream(file),
+                    64 * 1024));
+        }
+
+        boolean advance() throws IOException {
+            if (mIn == null) {
+                if (mIndex == mSize) return false;
+                word = mEntries[mIndex].word;
+                frequency = mEntries[mIndex].frequency;
+                mEntries[mIndex++] = null;
+                return true;
+            }
+            try {
+                word = mIn.readUTF();
+                frequency = mIn.readUnsignedByte();
+                return true;
+            } catch (EOFException e) {
+                return false;
+            }
+        }
+
+        void close() throws IOException {
+            if (mIn != null) {
+                mIn.close();
+                mFile.delete();
+            }
+        }
+
+        public int compareTo(Run other) {
+            return word.compareTo(other.word);
+        }
+    }
+
+    private final ArrayList<Run> mRuns = new ArrayList<Run>();
+    private final PriorityQueue<Run> mQueue = new PriorityQueue<Run>();
+    private String mWord;
+    private int mFrequency;
+    private int mDuplicates;
+
+    /**
+     * Reads all of source and closes it. Chunks go to tempDir, or the default temporary
+     * directory if it is null.
+     */
+    SortedWordList(WordSource source, int chunkSize, File tempDir) throws IOException {
+        try {
+            final Entry[] chunk = new Entry[chunkSize];
+            int size = 0;
+            while (source.next()) {
+                if (size == chunkSize) {
+                    writeRun(chunk, size, tempDir);
+                    size = 0;
+                }
+                chunk[size++] = new Entry(source.getWord(), source.getFrequency());
+            }
+            if (size > 0) {
+                Arrays.sort(chunk, 0, size);
+                if (mRuns.isEmpty()) {
+                    mRuns.add(new Run(chunk, size));
+                } else {
+                    writeRun(chunk, size, tempDir);
+                }
+            }
+            for (Run run : mRuns) {
+                if (run.advance()) mQueue.add(run);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        } finally {
+            source.close();
+        }
+    }
+
+    private void writeRun(Entry[] chunk, int size, File tempDir) throws IOException {
+        Arrays.sort(chunk, 0, size);
+        final File file = File.createTempFile("makedict", ".run", tempDir);
+        file.deleteOnExit();
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(file), 64 * 1024));
+        try {
+            for (int i = 0; i < size; i++) {
+                out.writeUTF(chunk[i].word);
+                out.writeByte(chunk[i].frequency);
+                chunk[i] = null;
+            }
+        } finally {
+            out.close();
+        }
+        mRuns.add(new Run(file));
+    }
+
+    /**
+     * Returns the number of entries that were merged into an earlier one so far.
+     */
+    int getDuplicateCount() {
+        return mDuplicates;
+    }
+
+    public boolean next() throws IOException {
+        if (mQueue.isEmpty()) {
+            mWord = null;
+            return false;
+        }
+        final Run first = mQueue.poll();
+        mWord = first.word;
+        mFrequency = first.frequency;
+        if (first.advance()) mQueue.add(first);
+        while (!mQueue.isEmpty() && mQueue.peek().word.equals(mWord)) {
+            final Run run = mQueue.poll();
+            mFrequency = Math.max(mFrequency, run.frequency);
+            mDuplicates++;
+            if (run.advance()) mQueue.add(run);
+        }
+        return true;
+    }
+
+    public String getWord() {
+        return mWord;
+    }
+
+    public int getFrequency() {
+        return mFrequency;
+    }
+
+    public void close() throws IOException {
+        mQueue.clear();
+        for (Run run : mRuns) {
+            run.close();
+        }
+        mRuns.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads a word list in the format of dictionaries/sample.xml one entry at a time:
+ * <pre>
+ * &lt;wordlist&gt;
+ *   &lt;w f="255"&gt;this&lt;/w&gt;
+ *   ...
+ * &lt;/wordlist&gt;
+ * </pre>
+ * Frequencies are clamped to 0..255. Nothing but the current entry is kept in memory.
+ */
+class WordListReader implements WordSource {
+    static final int MAX_FREQUENCY = 255;
+
+    private final File mFile;
+    private final InputStream mStream;
+    private final XMLStreamReader mReader;
+    private String mWord;
+    private int mFrequency;
+
+    WordListReader(File file) throws IOException {
+        mFile = file;
+        mStream = new BufferedInputStream(new FileInputStream(file), 64 * 1024);
+        try {
+            mReader = createReader(mStream);
+        } catch (XMLStreamException e) {
+            mStream.close();
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    static XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory.createXMLStreamReader(in);
+    }
+
+    static int parseFrequency(XMLStreamReader reader, String name, File file)
+            throws IOException {
+        final String value = reader.getAttributeValue(null, name);
+        if (value == null) {
+            throw new IOException(file + ":" + reader.getLocation().getLineNumber()
+                    + ": missing attribute " + name);
+        }
+        try {
+            final int frequency = Integer.parseInt(value.trim());
+            return Math.max(0, Math.min(MAX_FREQUENCY, frequency));
+        } catch (NumberFormatException e) {
+            throw new IOException(file + ":" + reader.getLocation().getLineNumber()
+                    + ": bad " + name + " \"" + value + "\"");
+        }
+    }
+
+    public boolean next() throws IOException {
+        try {
+            while (mReader.hasNext()) {
+                if (mReader.next() != XMLStreamConstants.START_ELEMENT
+                        || !"w".equals(mReader.getLocalName())) {
+                    continue;
+                }
+                mFrequency = parseFrequency(mReader, "f", mFile);
+                mWord = mReader.getElementText().trim();
+                if (mWord.length() > 0) return true;
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(mFile + ": " + e.getMessage(), e);
+        }
+        mWord = null;
+        return false;
+    }
+
+    public String getWord() {
+        return mWord;
+    }
+
+    public int getFrequency() {
+        return mFrequency;
+    }
+
+    public void close() throws IOException {
+        try {
+            mReader.close();
+        } catch (XMLStreamException e) {
+            // ignore, the stream is closed below
+        }
+        mStream.close();
+    }
+}
@@ -0,0 +1,18 @@
+package org.pocketworkstation.pckeyboard.makedict;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A stream of words with their frequencies.
+ */
+interface WordSource extends Closeable {
+    /**
+     * Moves to the next word. Returns false at the end of the stream.
+     */
+    boolean next() throws IOException;
+
+    String getWord();
+
+    int getFrequency();
+}